@@ -1,6 +1,10 @@
 package com.rentmanagement.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Rentmanagement.
@@ -9,4 +13,470 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * See {@link tech.jhipster.config.JHipsterProperties} for a good example.
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
-public class ApplicationProperties {}
+public class ApplicationProperties {
+
+    private final Billing billing = new Billing();
+
+    private final BulkImport bulkImport = new BulkImport();
+
+    private final Cache cache = new Cache();
+
+    private final Idempotency idempotency = new Idempotency();
+
+    private final MeterReading meterReading = new MeterReading();
+
+    private final Notification notification = new Notification();
+
+    /**
+     * Per-pool settings of the task executors, keyed by pool name: "task", "mail" or "export".
+     */
+    private final Map<String, ExecutorPool> executors = new HashMap<>();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    public Billing getBilling() {
+        return billing;
+    }
+
+    public BulkImport getBulkImport() {
+        return bulkImport;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public MeterReading getMeterReading() {
+        return meterReading;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public Map<String, ExecutorPool> getExecutors() {
+        return executors;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public static class Billing {
+
+        /**
+         * Number of tenants billed per transaction by the monthly bill run.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Cron expression of the scheduled monthly bill run, "-" disables it.
+         */
+        private String cron = "-";
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+    }
+
+    public static class BulkImport {
+
+        /**
+         * Number of rows inserted per transaction by the bulk imports.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Maximum number of row errors listed in the report of a bulk import.
+         */
+        private int maxReportedErrors = 1000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxReportedErrors() {
+            return maxReportedErrors;
+        }
+
+        public void setMaxReportedErrors(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Directory of the disk tier, required when a region sets a disk size.
+         */
+        private String diskDirectory;
+
+        /**
+         * Per-region overrides of the jhipster.cache.ehcache defaults, keyed by cache name without the
+         * "com.rentmanagement.domain." prefix, e.g. "Tenant" or "[Tenant.generateBills]".
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        private final Invalidation invalidation = new Invalidation();
+
+        public String getDiskDirectory() {
+            return diskDirectory;
+        }
+
+        public void setDiskDirectory(String diskDirectory) {
+            this.diskDirectory = diskDirectory;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public Invalidation getInvalidation() {
+            return invalidation;
+        }
+
+        public static class Region {
+
+            /**
+             * Number of entries kept on heap, defaults to jhipster.cache.ehcache.max-entries.
+             */
+            private Long maxEntries;
+
+            /**
+             * Time to live of the entries, defaults to jhipster.cache.ehcache.time-to-live-seconds.
+             */
+            private Long timeToLiveSeconds;
+
+            /**
+             * Time to idle of the entries, takes precedence over the time to live when set.
+             */
+            private Long timeToIdleSeconds;
+
+            /**
+             * Size of the off-heap tier, none when unset.
+             */
+            private DataSize offHeapSize;
+
+            /**
+             * Size of the disk tier, none when unset. Must be larger than the off-heap tier.
+             */
+            private DataSize diskSize;
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getTimeToIdleSeconds() {
+                return timeToIdleSeconds;
+            }
+
+            public void setTimeToIdleSeconds(Long timeToIdleSeconds) {
+                this.timeToIdleSeconds = timeToIdleSeconds;
+            }
+
+            public DataSize getOffHeapSize() {
+                return offHeapSize;
+            }
+
+            public void setOffHeapSize(DataSize offHeapSize) {
+                this.offHeapSize = offHeapSize;
+            }
+
+            public DataSize getDiskSize() {
+                return diskSize;
+            }
+
+            public void setDiskSize(DataSize diskSize) {
+                this.diskSize = diskSize;
+            }
+        }
+
+        public static class Invalidation {
+
+            /**
+             * How the updates of cached entries are propagated to the other application instances.
+             */
+            private InvalidationMode mode = InvalidationMode.NONE;
+
+            /**
+             * PostgreSQL notification channel used by the postgresql mode.
+             */
+            private String channel = "cache_invalidation";
+
+            public InvalidationMode getMode() {
+                return mode;
+            }
+
+            public void setMode(InvalidationMode mode) {
+                this.mode = mode;
+            }
+
+            public String getChannel() {
+                return channel;
+            }
+
+            public void setChannel(String channel) {
+                this.channel = channel;
+            }
+        }
+
+        public enum InvalidationMode {
+            /**
+             * Single instance, cached entries are not propagated.
+             */
+            NONE,
+            /**
+             * In-memory stand-in of the message bus, for development and tests.
+             */
+            LOCAL,
+            /**
+             * Invalidations are sent to the other instances through PostgreSQL LISTEN/NOTIFY.
+             */
+            POSTGRESQL,
+        }
+    }
+
+    public static class Idempotency {
+
+        /**
+         * How long the response of a request sent with an Idempotency-Key header is kept for its retries, at least.
+         */
+        private Duration timeToLive = Duration.ofHours(24);
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class MeterReading {
+
+        /**
+         * A consumption rate this many times above the median rate of the readings is flagged as an anomaly.
+         */
+        private double anomalyFactor = 3;
+
+        public double getAnomalyFactor() {
+            return anomalyFactor;
+        }
+
+        public void setAnomalyFactor(double anomalyFactor) {
+            this.anomalyFactor = anomalyFactor;
+        }
+    }
+
+    public static class Notification {
+
+        /**
+         * Whether the bills flagged sendNotification are queued and mailed to their tenant. Requires an SMTP server.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Delay between two runs of the dispatcher, which sends all the notifications due.
+         */
+        private Duration delay = Duration.ofSeconds(10);
+
+        /**
+         * Number of notifications sent over one SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Maximum number of notifications sent per second.
+         */
+        private double messagesPerSecond = 10;
+
+        /**
+         * Number of attempts before a notification is given up.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Delay before the first retry of a notification, doubled at each attempt.
+         */
+        private Duration retryBackoff = Duration.ofMinutes(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public double getMessagesPerSecond() {
+            return messagesPerSecond;
+        }
+
+        public void setMessagesPerSecond(double messagesPerSecond) {
+            this.messagesPerSecond = messagesPerSecond;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+    }
+
+    public static class ExecutorPool {
+
+        /**
+         * Number of threads kept alive, defaults to spring.task.execution.pool.core-size.
+         */
+        private Integer coreSize;
+
+        /**
+         * Maximum number of threads, started once the queue is full, defaults to spring.task.execution.pool.max-size.
+         */
+        private Integer maxSize;
+
+        /**
+         * Number of tasks waiting for a thread, defaults to spring.task.execution.pool.queue-capacity.
+         */
+        private Integer queueCapacity;
+
+        /**
+         * What happens to a task submitted while the queue is full and all the threads are busy.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * How long the block policy waits for room in the queue before rejecting a task.
+         */
+        private Duration blockTimeout = Duration.ofSeconds(30);
+
+        public Integer getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(Integer coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Integer getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Whether the servlet requests and the threads of the task executors are virtual threads. Requires Java 21.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public enum RejectionPolicy {
+        /**
+         * The submitting thread runs the task itself, which slows the producer down.
+         */
+        CALLER_RUNS,
+        /**
+         * The submitting thread waits for room in the queue, up to the block timeout.
+         */
+        BLOCK,
+        /**
+         * The task is rejected with an exception.
+         */
+        ABORT,
+    }
+}
@@ -1,6 +1,12 @@
 package com.rentmanagement.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
@@ -8,39 +14,161 @@ import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * Bounded task executors, one per workload, so that a burst of one kind of work cannot starve the others.
+ * <ul>
+ *     <li>{@code taskExecutor} runs the {@code @Async} methods without a qualifier and the asynchronous Liquibase
+ *     migrations;</li>
+ *     <li>{@code mailExecutor} sends the emails of the {@link com.rentmanagement.service.MailService};</li>
+ *     <li>{@code exportExecutor} writes the streamed responses of the exports.</li>
+ * </ul>
+ * Each pool is sized by {@code application.executors.<pool>}, falling back to {@code spring.task.execution.pool}, and
+ * pushes back on the submitting thread when it is saturated, instead of dropping the task: see
+ * {@link ApplicationProperties.RejectionPolicy}.
+ * <p>
+ * The pools are exported as {@code executor.*} gauges (queued and active tasks, pool size) by Spring Boot, tagged with
+ * the bean name. The time the tasks wait in the queue and run is recorded by the {@code executor.idle} and
+ * {@code executor} timers, with the same tag.
+ * <p>
+ * With {@code application.virtual-threads.enabled}, the pools start virtual threads, but keep their bounds.
+ */
 @Configuration
 @EnableAsync
 @EnableScheduling
-public class AsyncConfiguration implements AsyncConfigurer {
+public class AsyncConfiguration implements AsyncConfigurer, WebMvcConfigurer {
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
 
     private final Logger log = LoggerFactory.getLogger(AsyncConfiguration.class);
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     @Bean(name = "taskExecutor")
-    public Executor getAsyncExecutor() {
+    public ThreadPoolTaskExecutor getAsyncExecutor() {
         log.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
-        executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
-        executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
-        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
-        return new ExceptionHandlingAsyncTaskExecutor(executor);
+        return createExecutor("taskExecutor", "task", taskExecutionProperties.getThreadNamePrefix());
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return createExecutor(MAIL_EXECUTOR, "mail", "rentmanagement-mail-");
+    }
+
+    @Bean(name = EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor exportExecutor() {
+        return createExecutor(EXPORT_EXECUTOR, "export", "rentmanagement-export-");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor());
     }
 
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
     }
+
+    ThreadPoolTaskExecutor createExecutor(String beanName, String poolName, String threadNamePrefix) {
+        TaskExecutionProperties.Pool defaults = taskExecutionProperties.getPool();
+        ApplicationProperties.ExecutorPool pool = applicationProperties
+            .getExecutors()
+            .getOrDefault(poolName, new ApplicationProperties.ExecutorPool());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize() != null ? pool.getCoreSize() : defaults.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize() != null ? pool.getMaxSize() : defaults.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity() != null ? pool.getQueueCapacity() : defaults.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (applicationProperties.getVirtualThreads().isEnabled()) {
+            executor.setThreadFactory(VirtualThreadFactories.threadFactory(threadNamePrefix));
+        }
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler(pool));
+        executor.setTaskDecorator(timedTaskDecorator(beanName));
+        log.debug(
+            "Creating {} with {} to {} threads and {} queued tasks, {} when saturated",
+            beanName,
+            executor.getCorePoolSize(),
+            executor.getMaxPoolSize(),
+            pool.getQueueCapacity() != null ? pool.getQueueCapacity() : defaults.getQueueCapacity(),
+            pool.getRejectionPolicy()
+        );
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectedExecutionHandler(ApplicationProperties.ExecutorPool pool) {
+        switch (pool.getRejectionPolicy()) {
+            case BLOCK:
+                long timeoutNanos = pool.getBlockTimeout().toNanos();
+                return (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Executor has been shut down");
+                    }
+                    try {
+                        if (!executor.getQueue().offer(task, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                            throw new RejectedExecutionException("Executor still saturated after " + pool.getBlockTimeout());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for the executor", e);
+                    }
+                };
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS:
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+
+    /**
+     * Times the tasks of an executor, and logs the exceptions thrown by the tasks run with {@link Executor#execute}.
+     */
+    private TaskDecorator timedTaskDecorator(String beanName) {
+        Timer idle = Timer
+            .builder("executor.idle")
+            .description("Time the tasks wait in the queue")
+            .tag("name", beanName)
+            .register(meterRegistry);
+        Timer execution = Timer.builder("executor").description("Time the tasks run").tag("name", beanName).register(meterRegistry);
+        return task -> {
+            long submitted = System.nanoTime();
+            return () -> {
+                long start = System.nanoTime();
+                idle.record(start - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    log.error("Caught async exception in {}", beanName, e);
+                    throw e;
+                } finally {
+                    execution.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
 }
@@ -1,11 +1,34 @@
 package com.rentmanagement.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.File;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.cache.Caching;
+import javax.sql.DataSource;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.TierStatistics;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -19,25 +42,124 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_PREFIX = com.rentmanagement.domain.User.class.getPackageName() + ".";
+
+    private static final ApplicationProperties.Cache.Region DEFAULT_REGION = new ApplicationProperties.Cache.Region();
+
+    // The query results are only valid against the update timestamps of their tables, which must never expire
+    private static final String UPDATE_TIMESTAMPS_CACHE = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private static final Set<String> QUERY_RESULTS_CACHES = Set.of(
+        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        com.rentmanagement.repository.RoomRepository.ROOMS_BY_BUILDING_CACHE,
+        com.rentmanagement.repository.GenerateBillRepository.GENERATE_BILLS_BY_TENANT_CACHE,
+        com.rentmanagement.repository.TenantRepository.TENANTS_BY_BUILDING_CACHE
+    );
+
+    // Each instance verifies the tokens presented to it, there is nothing to invalidate on the others
+    private static final String VERIFIED_TOKENS_CACHE = com.rentmanagement.security.jwt.TokenProvider.VERIFIED_TOKENS_CACHE;
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cache;
+    private final Map<String, String> regionTiers = new ConcurrentHashMap<>();
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cache = applicationProperties.getCache();
+    }
 
-        jcacheConfiguration =
-            Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder
-                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(ehcache.getMaxEntries()))
-                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                    .build()
+    /**
+     * Creates the Ehcache manager, with a persistence directory when application.cache.disk-directory is set so that
+     * regions can use a disk tier.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheStatisticsExporter.Configuration statistics = new CacheStatisticsExporter.Configuration();
+        DefaultConfiguration configuration = cache.getDiskDirectory() == null
+            ? new DefaultConfiguration(provider.getDefaultClassLoader(), statistics)
+            : new DefaultConfiguration(
+                provider.getDefaultClassLoader(),
+                statistics,
+                new DefaultPersistenceConfiguration(new File(cache.getDiskDirectory()))
             );
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation.mode", havingValue = "local")
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
     }
 
     @Bean
-    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
-        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    @ConditionalOnProperty(name = "application.cache.invalidation.mode", havingValue = "postgresql")
+    public PostgresCacheInvalidationBus postgresCacheInvalidationBus(DataSource dataSource) {
+        return new PostgresCacheInvalidationBus(dataSource, cache.getInvalidation().getChannel());
+    }
+
+    /**
+     * When several instances run, keeps their caches consistent through the {@link CacheInvalidationBus} selected by
+     * application.cache.invalidation.mode. Query results are left alone, the update timestamps they are checked
+     * against being replicated instead.
+     */
+    @Bean
+    @ConditionalOnBean(CacheInvalidationBus.class)
+    public CacheInvalidator cacheInvalidator(javax.cache.CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus) {
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(cacheManager, cacheInvalidationBus);
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (UPDATE_TIMESTAMPS_CACHE.equals(cacheName)) {
+                cacheInvalidator.replicate(cacheManager.getCache(cacheName));
+            } else if (!QUERY_RESULTS_CACHES.contains(cacheName) && !VERIFIED_TOKENS_CACHE.equals(cacheName)) {
+                cacheInvalidator.register(cacheManager.getCache(cacheName));
+            }
+        }
+        return cacheInvalidator;
+    }
+
+    /**
+     * Exports the number of entries of every region, read from the statistics of its lowest tier. Hits, misses and
+     * evictions are exported from the JCache statistics by Spring Boot under the same cache and cacheManager tags.
+     */
+    @Bean
+    public MeterBinder cacheRegionSizeMetrics(javax.cache.CacheManager cacheManager) {
+        StatisticsService statisticsService = CacheStatisticsExporter
+            .statisticsService(cacheManager.unwrap(org.ehcache.CacheManager.class))
+            .orElseThrow(() -> new IllegalStateException("The statistics of the cache manager are not exported"));
+        return registry ->
+            regionTiers.forEach((cacheName, tier) ->
+                Gauge
+                    .builder("cache.size", () -> regionSize(statisticsService, cacheName, tier))
+                    .tags("cache", cacheName, "cacheManager", "cacheManager")
+                    .description("The number of entries in this cache")
+                    .register(registry)
+            );
+    }
+
+    private static long regionSize(StatisticsService statisticsService, String cacheName, String tier) {
+        TierStatistics statistics = statisticsService.getCacheStatistics(cacheName).getTierStatistics().get(tier);
+        return statistics == null ? 0L : statistics.getMappings();
+    }
+
+    /**
+     * Hands the cache manager to Hibernate, with a region factory publishing the clears of the regions when several
+     * instances run.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(
+        javax.cache.CacheManager cacheManager,
+        ObjectProvider<CacheInvalidator> cacheInvalidator
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            cacheInvalidator.ifAvailable(invalidator ->
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, new InvalidatingJCacheRegionFactory(invalidator))
+            );
+        };
     }
 
     @Bean
@@ -57,6 +179,10 @@ public class CacheConfiguration {
             createCache(cm, com.rentmanagement.domain.Tenant.class.getName() + ".generateBills");
             createCache(cm, com.rentmanagement.domain.Owner.class.getName());
             createCache(cm, com.rentmanagement.domain.GenerateBill.class.getName());
+            createCache(cm, com.rentmanagement.repository.IdempotencyKeyRepository.IDEMPOTENT_RESPONSES_CACHE);
+            createCache(cm, VERIFIED_TOKENS_CACHE);
+            createCache(cm, UPDATE_TIMESTAMPS_CACHE);
+            QUERY_RESULTS_CACHES.forEach(cacheName -> createCache(cm, cacheName));
             // jhipster-needle-ehcache-add-entry
         };
     }
@@ -66,8 +192,54 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cache = cm.createCache(cacheName, regionConfiguration(cacheName));
+        }
+        cm.enableStatistics(cacheName, true);
+        ResourcePools resourcePools = cache.unwrap(org.ehcache.Cache.class).getRuntimeConfiguration().getResourcePools();
+        regionTiers.put(cacheName, authoritativeTier(resourcePools));
+    }
+
+    /**
+     * The statistics name of the lowest tier of a region, which holds all of its entries.
+     */
+    private static String authoritativeTier(ResourcePools resourcePools) {
+        if (resourcePools.getPoolForResource(ResourceType.Core.DISK) != null) {
+            return "Disk";
+        }
+        return resourcePools.getPoolForResource(ResourceType.Core.OFFHEAP) != null ? "OffHeap" : "OnHeap";
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> regionConfiguration(String cacheName) {
+        String regionName = cacheName.startsWith(DOMAIN_PREFIX) ? cacheName.substring(DOMAIN_PREFIX.length()) : cacheName;
+        ApplicationProperties.Cache.Region region = cache.getRegions().getOrDefault(regionName, DEFAULT_REGION);
+
+        long maxEntries = region.getMaxEntries() != null ? region.getMaxEntries() : ehcache.getMaxEntries();
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.newResourcePoolsBuilder().heap(maxEntries, EntryUnit.ENTRIES);
+        if (region.getOffHeapSize() != null) {
+            resourcePools = resourcePools.offheap(region.getOffHeapSize().toBytes(), MemoryUnit.B);
+        }
+        if (region.getDiskSize() != null) {
+            if (cache.getDiskDirectory() == null) {
+                throw new IllegalStateException("Cache region " + regionName + " has a disk tier but application.cache.disk-directory is not set");
+            }
+            resourcePools = resourcePools.disk(region.getDiskSize().toBytes(), MemoryUnit.B);
+        }
+
+        ExpiryPolicy<Object, Object> expiry;
+        if (UPDATE_TIMESTAMPS_CACHE.equals(cacheName)) {
+            expiry = ExpiryPolicyBuilder.noExpiration();
+        } else if (region.getTimeToIdleSeconds() != null) {
+            expiry = ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofSeconds(region.getTimeToIdleSeconds()));
+        } else {
+            expiry =
+                ExpiryPolicyBuilder.timeToLiveExpiration(
+                    Duration.ofSeconds(region.getTimeToLiveSeconds() != null ? region.getTimeToLiveSeconds() : ehcache.getTimeToLiveSeconds())
+                );
         }
+
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools).withExpiry(expiry).build()
+        );
     }
 
     @Autowired(required = false)
@@ -0,0 +1,54 @@
+package com.rentmanagement.config;
+
+import java.io.Serializable;
+
+/**
+ * Invalidation of a cached entry, sent by the application instance which updated or removed it.
+ * <p>
+ * A {@code null} key invalidates the whole cache, a {@code null} cache name every cache. Entries of replicated caches
+ * carry their new value, which replaces the entry of the other instances instead of invalidating it.
+ */
+public final class CacheInvalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String origin;
+
+    private final String cacheName;
+
+    private final Object key;
+
+    private final Object value;
+
+    public CacheInvalidation(String origin, String cacheName, Object key) {
+        this(origin, cacheName, key, null);
+    }
+
+    public CacheInvalidation(String origin, String cacheName, Object key, Object value) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.key = key;
+        this.value = value;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidation{" + "origin='" + origin + "'" + ", cacheName='" + cacheName + "'" + ", key=" + key + ", value=" + value + "}";
+    }
+}
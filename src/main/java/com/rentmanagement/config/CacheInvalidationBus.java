@@ -0,0 +1,14 @@
+package com.rentmanagement.config;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the {@link CacheInvalidation}s between the application instances sharing the database.
+ * <p>
+ * Every subscriber receives every invalidation, including the ones published by its own instance.
+ */
+public interface CacheInvalidationBus {
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
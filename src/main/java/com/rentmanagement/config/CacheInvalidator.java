@@ -0,0 +1,134 @@
+package com.rentmanagement.config;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.ehcache.event.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the local caches of several application instances consistent.
+ * <p>
+ * Entries updated or removed in a local cache, including the Hibernate second-level cache regions, are published on
+ * the {@link CacheInvalidationBus}, and the entries invalidated by the other instances are removed from the local
+ * caches. Entries are never copied between instances, each one reloads them from the database.
+ */
+public class CacheInvalidator {
+
+    private final Logger log = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final CacheManager cacheManager;
+
+    private final CacheInvalidationBus bus;
+
+    // Entries being written by a remote invalidation, so that the write is not published back, or being evicted, so
+    // that the eviction is published once. Cache events are fired on the Ehcache event threads, a thread local would
+    // not be seen by the listener.
+    private final Set<List<Object>> applying = ConcurrentHashMap.newKeySet();
+
+    public CacheInvalidator(CacheManager cacheManager, CacheInvalidationBus bus) {
+        this.cacheManager = cacheManager;
+        this.bus = bus;
+        bus.subscribe(this::apply);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Publishes the updates and removals of the given cache.
+     */
+    public void register(Cache<Object, Object> cache) {
+        String cacheName = cache.getName();
+        listen(cache, event -> publish(cacheName, event, null), EnumSet.of(EventType.UPDATED, EventType.REMOVED));
+    }
+
+    /**
+     * Publishes the new values of the given cache, for caches whose entries must not disappear from the other
+     * instances, like the Hibernate update timestamps that the query cache relies on.
+     */
+    public void replicate(Cache<Object, Object> cache) {
+        String cacheName = cache.getName();
+        listen(cache, event -> publish(cacheName, event, event.getNewValue()), EnumSet.of(EventType.CREATED, EventType.UPDATED));
+    }
+
+    /**
+     * Publishes the clear of the given cache, which Ehcache does not notify to the cache event listeners.
+     */
+    public void publishClear(String cacheName) {
+        bus.publish(new CacheInvalidation(origin, cacheName, null));
+    }
+
+    /**
+     * Evicts an entry of the given cache and publishes its removal once, whether the entry was cached here or not:
+     * Ehcache fires no event for the removal of an entry it does not hold, which the other instances may hold.
+     */
+    public void evict(String cacheName, Object key, Runnable eviction) {
+        List<Object> entry = List.of(cacheName, key);
+        applying.add(entry);
+        try {
+            eviction.run();
+        } finally {
+            applying.remove(entry);
+        }
+        bus.publish(new CacheInvalidation(origin, cacheName, key));
+    }
+
+    private void listen(Cache<Object, Object> cache, CacheEventListener<Object, Object> listener, EnumSet<EventType> eventTypes) {
+        org.ehcache.Cache<?, ?> ehcache = cache.unwrap(org.ehcache.Cache.class);
+        ehcache
+            .getRuntimeConfiguration()
+            .registerCacheEventListener(listener, EventOrdering.UNORDERED, EventFiring.SYNCHRONOUS, eventTypes);
+    }
+
+    private void publish(String cacheName, CacheEvent<?, ?> event, Object value) {
+        if (!applying.contains(List.of(cacheName, event.getKey()))) {
+            bus.publish(new CacheInvalidation(origin, cacheName, event.getKey(), value));
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.getOrigin())) {
+            return;
+        }
+        log.debug("Applying {}", invalidation);
+        if (invalidation.getCacheName() == null) {
+            cacheManager.getCacheNames().forEach(cacheName -> clear(cacheManager.getCache(cacheName)));
+        } else if (invalidation.getKey() == null) {
+            clear(cacheManager.getCache(invalidation.getCacheName()));
+        } else {
+            Cache<Object, Object> cache = cacheManager.getCache(invalidation.getCacheName());
+            if (cache != null) {
+                List<Object> entry = List.of(invalidation.getCacheName(), invalidation.getKey());
+                applying.add(entry);
+                try {
+                    if (invalidation.getValue() != null) {
+                        cache.put(invalidation.getKey(), invalidation.getValue());
+                    } else {
+                        cache.remove(invalidation.getKey());
+                    }
+                } finally {
+                    applying.remove(entry);
+                }
+            }
+        }
+    }
+
+    private void clear(Cache<Object, Object> cache) {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
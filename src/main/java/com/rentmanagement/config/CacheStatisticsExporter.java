@@ -0,0 +1,107 @@
+package com.rentmanagement.config;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.ehcache.CacheManager;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.ehcache.spi.service.ServiceDependencies;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * Ehcache service handing the {@link StatisticsService} of a cache manager over to its {@link Configuration}, since the
+ * JSR-107 cache manager does not expose it.
+ * <p>
+ * The service is requested by adding a {@link Configuration} to the configuration of the cache manager, and is created
+ * by the {@link Factory} Ehcache discovers through {@link java.util.ServiceLoader}.
+ */
+@ServiceDependencies(StatisticsService.class)
+public class CacheStatisticsExporter implements Service {
+
+    private final Consumer<StatisticsService> consumer;
+
+    CacheStatisticsExporter(Consumer<StatisticsService> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void start(ServiceProvider<Service> serviceProvider) {
+        consumer.accept(serviceProvider.getService(StatisticsService.class));
+    }
+
+    @Override
+    public void stop() {
+        consumer.accept(null);
+    }
+
+    /**
+     * Get the statistics service of a cache manager configured with a {@link Configuration}.
+     *
+     * @param cacheManager the cache manager.
+     * @return the statistics service, or empty if the cache manager was not configured with a {@link Configuration}.
+     */
+    public static Optional<StatisticsService> statisticsService(CacheManager cacheManager) {
+        return cacheManager
+            .getRuntimeConfiguration()
+            .getServiceCreationConfigurations()
+            .stream()
+            .filter(Configuration.class::isInstance)
+            .map(configuration -> ((Configuration) configuration).statisticsService)
+            .filter(Objects::nonNull)
+            .findFirst();
+    }
+
+    /**
+     * Requests the {@link CacheStatisticsExporter} of a cache manager, and keeps its statistics service once started.
+     * <p>
+     * Only JDK and Ehcache types are exchanged with the {@link Factory}: Ehcache loads the factories with its own class
+     * loader, which is not the one of the application under a restarting class loader.
+     */
+    public static class Configuration
+        implements ServiceCreationConfiguration<CacheStatisticsExporter, Void>, Consumer<StatisticsService> {
+
+        private volatile StatisticsService statisticsService;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<CacheStatisticsExporter> getServiceType() {
+            try {
+                return (Class<CacheStatisticsExporter>) Class.forName(
+                    CacheStatisticsExporter.class.getName(),
+                    false,
+                    ServiceFactory.class.getClassLoader()
+                );
+            } catch (ClassNotFoundException e) {
+                return CacheStatisticsExporter.class;
+            }
+        }
+
+        @Override
+        public void accept(StatisticsService statisticsService) {
+            this.statisticsService = statisticsService;
+        }
+    }
+
+    /**
+     * Creates the {@link CacheStatisticsExporter} requested by a {@link Configuration}.
+     */
+    public static class Factory implements ServiceFactory<CacheStatisticsExporter> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CacheStatisticsExporter create(ServiceCreationConfiguration<CacheStatisticsExporter, ?> configuration) {
+            if (!(configuration instanceof Consumer)) {
+                throw new IllegalArgumentException("The cache statistics exporter must be requested with its configuration");
+            }
+            return new CacheStatisticsExporter((Consumer<StatisticsService>) configuration);
+        }
+
+        @Override
+        public Class<CacheStatisticsExporter> getServiceType() {
+            return CacheStatisticsExporter.class;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.rentmanagement.config;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionNameQualifier;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * JCache region factory publishing the clears of the entity and collection regions, and the evictions of their
+ * entries, through the {@link CacheInvalidator}.
+ * <p>
+ * Hibernate clears the regions of the entities written by a bulk update or delete when its transaction completes.
+ * Clearing a cache fires no cache event, so without this the other instances would keep serving the entities as they
+ * were before the update. Likewise, an entry evicted from a region, e.g. with
+ * {@link javax.persistence.Cache#evict(Class, Object)} after a native update, fires no event unless it was cached by
+ * this instance.
+ */
+class InvalidatingJCacheRegionFactory extends JCacheRegionFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient CacheInvalidator cacheInvalidator;
+
+    InvalidatingJCacheRegionFactory(CacheInvalidator cacheInvalidator) {
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+        DomainDataRegionConfig regionConfig,
+        DomainDataRegionBuildingContext buildingContext
+    ) {
+        String cacheName = RegionNameQualifier.INSTANCE.qualify(
+            regionConfig.getRegionName(),
+            buildingContext.getSessionFactory().getSessionFactoryOptions()
+        );
+        return new InvalidatingStorageAccess(super.createDomainDataStorageAccess(regionConfig, buildingContext), cacheName);
+    }
+
+    /**
+     * Publishes the clears of a region once, when the region is evicted: a bulk update clears the region when it runs,
+     * from {@code removeAll}, and again when its transaction completes, from {@code unlockRegion}, which is the one the
+     * other instances must follow.
+     */
+    private class InvalidatingStorageAccess implements DomainDataStorageAccess {
+
+        private final DomainDataStorageAccess delegate;
+
+        private final String cacheName;
+
+        InvalidatingStorageAccess(DomainDataStorageAccess delegate, String cacheName) {
+            this.delegate = delegate;
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return delegate.getFromCache(key, session);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            delegate.putIntoCache(key, value, session);
+        }
+
+        @Override
+        public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+            delegate.putFromLoad(key, value, session);
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            delegate.removeFromCache(key, session);
+        }
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            delegate.clearCache(session);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return delegate.contains(key);
+        }
+
+        @Override
+        public void evictData() {
+            delegate.evictData();
+            cacheInvalidator.publishClear(cacheName);
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cacheInvalidator.evict(cacheName, key, () -> delegate.evictData(key));
+        }
+
+        @Override
+        public void release() {
+            delegate.release();
+        }
+    }
+}
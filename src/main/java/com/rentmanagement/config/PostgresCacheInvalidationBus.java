@@ -0,0 +1,231 @@
+package com.rentmanagement.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * {@link CacheInvalidationBus} on top of PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * A single thread holds a dedicated connection: it sends the queued invalidations in one transaction, so they are
+ * delivered together, and polls the notifications of the other instances. When the connection is lost the
+ * notifications sent meanwhile are lost too, so the subscribers are asked to invalidate every cache on reconnection.
+ */
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // PostgreSQL rejects notification payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final int MAX_QUEUED_INVALIDATIONS = 10_000;
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private static final ObjectInputFilter PAYLOAD_FILTER = ObjectInputFilter.Config.createFilter(
+        "maxdepth=10;com.rentmanagement.**;org.hibernate.**;java.lang.*;java.util.*;java.time.*;!*"
+    );
+
+    private final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    private final DataSource dataSource;
+
+    private final String channel;
+
+    private final BlockingQueue<CacheInvalidation> queue = new LinkedBlockingQueue<>(MAX_QUEUED_INVALIDATIONS);
+
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean overflowed;
+
+    private volatile Thread thread;
+
+    public PostgresCacheInvalidationBus(DataSource dataSource, String channel) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        if (!queue.offer(invalidation)) {
+            overflowed = true;
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void start() {
+        thread = new Thread(this::run, "cache-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = thread;
+        thread = null;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+        while (thread != null) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+                if (reconnecting) {
+                    log.info("Cache invalidation channel {} reconnected, invalidating every cache", channel);
+                    deliver(new CacheInvalidation(null, null, null));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (thread != null) {
+                    send(connection);
+                    PGNotification[] notifications = pgConnection.getNotifications(1);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("Cache invalidation channel {} failed: {}", channel, e.getMessage());
+                reconnecting = true;
+                sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+    }
+
+    private void send(Connection connection) throws SQLException, InterruptedException {
+        CacheInvalidation first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null && !overflowed) {
+            return;
+        }
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        if (first != null) {
+            invalidations.add(first);
+            queue.drainTo(invalidations);
+        }
+        if (overflowed) {
+            overflowed = false;
+            invalidations.clear();
+            queue.clear();
+            invalidations.add(new CacheInvalidation(null, null, null));
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            for (CacheInvalidation invalidation : invalidations) {
+                statement.setString(1, channel);
+                statement.setString(2, encode(invalidation));
+                statement.execute();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void receive(String payload) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = decode(payload);
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("Ignoring unreadable cache invalidation: {}", e.getMessage());
+            return;
+        }
+        deliver(invalidation);
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation {} failed: {}", invalidation, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Serializes the invalidation, falling back to the invalidation of the whole cache when the key is not
+     * serializable or too large for a notification.
+     */
+    static String encode(CacheInvalidation invalidation) {
+        String payload = serialize(invalidation);
+        if (payload == null || payload.length() > MAX_PAYLOAD_LENGTH) {
+            payload = serialize(new CacheInvalidation(invalidation.getOrigin(), invalidation.getCacheName(), null));
+        }
+        return payload;
+    }
+
+    static CacheInvalidation decode(String payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            in.setObjectInputFilter(PAYLOAD_FILTER);
+            return (CacheInvalidation) in.readObject();
+        }
+    }
+
+    private static String serialize(CacheInvalidation invalidation) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(invalidation);
+        } catch (IOException e) {
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
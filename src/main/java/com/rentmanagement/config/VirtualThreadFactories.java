@@ -0,0 +1,87 @@
+package com.rentmanagement.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factories of virtual threads.
+ * <p>
+ * The application is compiled for Java 11, so the Java 21 API is looked up reflectively: on an older runtime
+ * {@link #isSupported()} is {@code false} and the factories throw an {@link IllegalStateException}.
+ */
+public final class VirtualThreadFactories {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // Java 19 and 20 only allow virtual threads with --enable-preview
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreadFactories() {}
+
+    /**
+     * @return whether the runtime can start virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads named {@code prefix} followed by a counter.
+     *
+     * @param prefix the prefix of the thread names.
+     * @return the thread factory.
+     * @throws IllegalStateException if the runtime does not support virtual threads.
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later, the runtime is Java " + Runtime.version());
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not create a virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @param prefix the prefix of the thread names.
+     * @return the executor, to shut down once unused.
+     * @throws IllegalStateException if the runtime does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory threadFactory = threadFactory(prefix);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+}
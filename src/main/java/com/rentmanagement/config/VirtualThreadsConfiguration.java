@@ -0,0 +1,74 @@
+package com.rentmanagement.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the servlet requests on virtual threads instead of the Undertow worker pool, when
+ * {@code application.virtual-threads.enabled} is set, e.g. by the {@code virtual-threads} profile.
+ * <p>
+ * A request blocked on JDBC then parks a virtual thread instead of holding a worker thread, so the number of requests
+ * in flight is no longer capped by {@code server.undertow.threads.worker}. The database work stays capped by the
+ * Hikari pool: requests past {@code spring.datasource.hikari.maximum-pool-size} wait for a connection, up to
+ * {@code spring.datasource.hikari.connection-timeout}. The {@code @Async} tasks keep their bounded pools of
+ * {@link AsyncConfiguration}, with virtual threads.
+ * <p>
+ * The PostgreSQL driver before 42.6 holds a monitor while a query runs, which pins the virtual thread to its carrier,
+ * so the queries in flight would be capped by the number of carrier threads. The application refuses to start with
+ * such a driver.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    public VirtualThreadsConfiguration(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            checkDriver(connection.getMetaData());
+        }
+    }
+
+    /**
+     * Fails if the JDBC driver pins the virtual threads.
+     */
+    static void checkDriver(DatabaseMetaData metaData) throws SQLException {
+        boolean pinning =
+            "PostgreSQL JDBC Driver".equals(metaData.getDriverName()) &&
+            (metaData.getDriverMajorVersion() < 42 || (metaData.getDriverMajorVersion() == 42 && metaData.getDriverMinorVersion() < 6));
+        if (pinning) {
+            throw new IllegalStateException(
+                "The PostgreSQL driver " +
+                metaData.getDriverVersion() +
+                " pins the virtual threads while a query runs, upgrade it to 42.6 or later or disable application.virtual-threads.enabled"
+            );
+        }
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService requestExecutor() {
+        log.info("Running the servlet requests on virtual threads");
+        return VirtualThreadFactories.newThreadPerTaskExecutor("rentmanagement-request-");
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsUndertowCustomizer(
+        @Qualifier("requestExecutor") ExecutorService requestExecutor
+    ) {
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.setExecutor(requestExecutor).setAsyncExecutor(requestExecutor)
+            );
+    }
+}
@@ -0,0 +1,228 @@
+package com.rentmanagement.domain;
+
+import com.rentmanagement.domain.enumeration.BillNotificationStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import javax.persistence.*;
+import javax.validation.constraints.*;
+
+/**
+ * The notification of a {@link GenerateBill} to its tenant, in the outbox of the notification dispatcher.
+ * <p>
+ * Written in the same transaction as the bill, and sent later by the dispatcher. Notifications are not cached.
+ */
+@Entity
+@Table(name = "bill_notification")
+public class BillNotification implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "generate_bill_id", nullable = false)
+    private Long generateBillId;
+
+    /**
+     * The billing period of the bill, part of the foreign key to the bills partitioned by period on PostgreSQL.
+     */
+    @Column(name = "billing_period", nullable = false, updatable = false)
+    private LocalDate billingPeriod;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private BillNotificationStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_date", nullable = false)
+    private Instant nextAttemptDate;
+
+    @Size(max = 254)
+    @Column(name = "recipient", length = 254)
+    private String recipient;
+
+    @Size(max = 255)
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
+    @Column(name = "sent_date")
+    private Instant sentDate;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public BillNotification id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGenerateBillId() {
+        return this.generateBillId;
+    }
+
+    public BillNotification generateBillId(Long generateBillId) {
+        this.setGenerateBillId(generateBillId);
+        return this;
+    }
+
+    public void setGenerateBillId(Long generateBillId) {
+        this.generateBillId = generateBillId;
+    }
+
+    public LocalDate getBillingPeriod() {
+        return this.billingPeriod;
+    }
+
+    public BillNotification billingPeriod(LocalDate billingPeriod) {
+        this.setBillingPeriod(billingPeriod);
+        return this;
+    }
+
+    public void setBillingPeriod(LocalDate billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public BillNotificationStatus getStatus() {
+        return this.status;
+    }
+
+    public BillNotification status(BillNotificationStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(BillNotificationStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    public BillNotification attempts(int attempts) {
+        this.setAttempts(attempts);
+        return this;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptDate() {
+        return this.nextAttemptDate;
+    }
+
+    public BillNotification nextAttemptDate(Instant nextAttemptDate) {
+        this.setNextAttemptDate(nextAttemptDate);
+        return this;
+    }
+
+    public void setNextAttemptDate(Instant nextAttemptDate) {
+        this.nextAttemptDate = nextAttemptDate;
+    }
+
+    public String getRecipient() {
+        return this.recipient;
+    }
+
+    public BillNotification recipient(String recipient) {
+        this.setRecipient(recipient);
+        return this;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getLastError() {
+        return this.lastError;
+    }
+
+    public BillNotification lastError(String lastError) {
+        this.setLastError(lastError);
+        return this;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public BillNotification createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Instant getSentDate() {
+        return this.sentDate;
+    }
+
+    public BillNotification sentDate(Instant sentDate) {
+        this.setSentDate(sentDate);
+        return this;
+    }
+
+    public void setSentDate(Instant sentDate) {
+        this.sentDate = sentDate;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BillNotification)) {
+            return false;
+        }
+        return id != null && id.equals(((BillNotification) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BillNotification{" +
+            "id=" + getId() +
+            ", generateBillId=" + getGenerateBillId() +
+            ", billingPeriod='" + getBillingPeriod() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", attempts=" + getAttempts() +
+            ", nextAttemptDate='" + getNextAttemptDate() + "'" +
+            ", recipient='" + getRecipient() + "'" +
+            ", lastError='" + getLastError() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            ", sentDate='" + getSentDate() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,204 @@
+package com.rentmanagement.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import javax.persistence.*;
+
+/**
+ * The totals of the bills and of the ledgers of the tenants of a {@link Building} over a month.
+ * <p>
+ * Rollups are maintained incrementally by the {@code BillingRollupService}, with atomic updates, as the bills are
+ * written and the ledger entries appended, so dashboards read one row per building and month instead of summing the
+ * bills. Rollups are not cached.
+ */
+@Entity
+@Table(name = "billing_rollup")
+public class BillingRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "building_id", nullable = false)
+    private Long buildingId;
+
+    /**
+     * The first day of the month.
+     */
+    @Column(name = "rollup_month", nullable = false)
+    private LocalDate month;
+
+    /**
+     * The number of bills of the month, by billing period.
+     */
+    @Column(name = "bills", nullable = false)
+    private Long bills = 0L;
+
+    /**
+     * The charges appended to the ledgers over the month.
+     */
+    @Column(name = "billed", nullable = false)
+    private Double billed = 0D;
+
+    /**
+     * The payments appended to the ledgers over the month.
+     */
+    @Column(name = "paid", nullable = false)
+    private Double paid = 0D;
+
+    /**
+     * The amount pending of the bills of the month.
+     */
+    @Column(name = "pending", nullable = false)
+    private Double pending = 0D;
+
+    /**
+     * The electricity units of the bills of the month.
+     */
+    @Column(name = "electricity_units", nullable = false)
+    private Double electricityUnits = 0D;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public BillingRollup id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getBuildingId() {
+        return this.buildingId;
+    }
+
+    public BillingRollup buildingId(Long buildingId) {
+        this.setBuildingId(buildingId);
+        return this;
+    }
+
+    public void setBuildingId(Long buildingId) {
+        this.buildingId = buildingId;
+    }
+
+    public LocalDate getMonth() {
+        return this.month;
+    }
+
+    public BillingRollup month(LocalDate month) {
+        this.setMonth(month);
+        return this;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public Long getBills() {
+        return this.bills;
+    }
+
+    public BillingRollup bills(Long bills) {
+        this.setBills(bills);
+        return this;
+    }
+
+    public void setBills(Long bills) {
+        this.bills = bills;
+    }
+
+    public Double getBilled() {
+        return this.billed;
+    }
+
+    public BillingRollup billed(Double billed) {
+        this.setBilled(billed);
+        return this;
+    }
+
+    public void setBilled(Double billed) {
+        this.billed = billed;
+    }
+
+    public Double getPaid() {
+        return this.paid;
+    }
+
+    public BillingRollup paid(Double paid) {
+        this.setPaid(paid);
+        return this;
+    }
+
+    public void setPaid(Double paid) {
+        this.paid = paid;
+    }
+
+    public Double getPending() {
+        return this.pending;
+    }
+
+    public BillingRollup pending(Double pending) {
+        this.setPending(pending);
+        return this;
+    }
+
+    public void setPending(Double pending) {
+        this.pending = pending;
+    }
+
+    public Double getElectricityUnits() {
+        return this.electricityUnits;
+    }
+
+    public BillingRollup electricityUnits(Double electricityUnits) {
+        this.setElectricityUnits(electricityUnits);
+        return this;
+    }
+
+    public void setElectricityUnits(Double electricityUnits) {
+        this.electricityUnits = electricityUnits;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BillingRollup)) {
+            return false;
+        }
+        return id != null && id.equals(((BillingRollup) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BillingRollup{" +
+            "id=" + getId() +
+            ", buildingId=" + getBuildingId() +
+            ", month='" + getMonth() + "'" +
+            ", bills=" + getBills() +
+            ", billed=" + getBilled() +
+            ", paid=" + getPaid() +
+            ", pending=" + getPending() +
+            ", electricityUnits=" + getElectricityUnits() +
+            "}";
+    }
+}
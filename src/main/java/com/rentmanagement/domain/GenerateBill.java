@@ -1,7 +1,10 @@
 package com.rentmanagement.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
 import javax.persistence.*;
 import javax.validation.constraints.*;
 import org.hibernate.annotations.Cache;
@@ -37,6 +40,36 @@ public class GenerateBill implements Serializable {
     @JsonIgnoreProperties(value = { "location", "rooms", "generateBills" }, allowSetters = true)
     private Tenant tenant;
 
+    /**
+     * When the bill was issued, set by the {@code BillingRollupService}.
+     */
+    @Column(name = "created_date", updatable = false)
+    private Instant createdDate;
+
+    /**
+     * The building the bill was issued for, the first building the tenant rented a room in, set by the
+     * {@code BillingRollupService}. Kept on the bill so that updating or deleting it adjusts the same rollup, even if
+     * the tenant has moved since.
+     */
+    @Column(name = "building_id", updatable = false)
+    private Long buildingId;
+
+    /**
+     * The month billed, as its first day, the current month if absent when the bill is created. A tenant has at most
+     * one bill per period. On PostgreSQL the table is partitioned by period.
+     */
+    @Column(name = "billing_period", nullable = false, updatable = false)
+    private LocalDate billingPeriod;
+
+    /**
+     * Incremented on each update, and sent as the {@code ETag} of the bill. A primitive and not read from request
+     * bodies, like the version of the {@link Tenant}.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -104,6 +137,53 @@ public class GenerateBill implements Serializable {
         return this;
     }
 
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public GenerateBill createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Long getBuildingId() {
+        return this.buildingId;
+    }
+
+    public GenerateBill buildingId(Long buildingId) {
+        this.setBuildingId(buildingId);
+        return this;
+    }
+
+    public void setBuildingId(Long buildingId) {
+        this.buildingId = buildingId;
+    }
+
+    public LocalDate getBillingPeriod() {
+        return this.billingPeriod;
+    }
+
+    public GenerateBill billingPeriod(LocalDate billingPeriod) {
+        this.setBillingPeriod(billingPeriod);
+        return this;
+    }
+
+    public void setBillingPeriod(LocalDate billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -131,6 +211,9 @@ public class GenerateBill implements Serializable {
             ", amountPending=" + getAmountPending() +
             ", sendNotification='" + getSendNotification() + "'" +
             ", electricityUnit=" + getElectricityUnit() +
+            ", createdDate='" + getCreatedDate() + "'" +
+            ", buildingId=" + getBuildingId() +
+            ", billingPeriod='" + getBillingPeriod() + "'" +
             "}";
     }
 }
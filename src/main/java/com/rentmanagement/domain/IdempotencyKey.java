@@ -0,0 +1,216 @@
+package com.rentmanagement.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.*;
+
+/**
+ * A request key sent by a client in the {@code Idempotency-Key} header, and the response of the request it was first
+ * sent with.
+ * <p>
+ * The key is saved in the transaction of the request, so a key is stored if and only if its request committed. A
+ * retry with the same key gets the stored response instead of running the request again. Keys are purged once their
+ * time to live is over.
+ */
+@Entity
+@Table(name = "idempotency_key")
+public class IdempotencyKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * The user who sent the key: keys of different users do not collide, nor replay each other's responses.
+     */
+    @Column(name = "login", length = 50, nullable = false, updatable = false)
+    private String login;
+
+    /**
+     * The operation the key was sent to, e.g. {@code generateBill}: keys of different operations do not collide.
+     */
+    @Column(name = "scope", length = 50, nullable = false, updatable = false)
+    private String scope;
+
+    @Column(name = "request_key", length = 255, nullable = false, updatable = false)
+    private String requestKey;
+
+    /**
+     * SHA-256 of the request body, so that a key sent again with another request is rejected.
+     */
+    @Column(name = "request_hash", length = 64, nullable = false, updatable = false)
+    private String requestHash;
+
+    /**
+     * {@code null} until the request completes, which only its own transaction can see.
+     */
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_location")
+    private String responseLocation;
+
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public IdempotencyKey id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return this.login;
+    }
+
+    public IdempotencyKey login(String login) {
+        this.setLogin(login);
+        return this;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getScope() {
+        return this.scope;
+    }
+
+    public IdempotencyKey scope(String scope) {
+        this.setScope(scope);
+        return this;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getRequestKey() {
+        return this.requestKey;
+    }
+
+    public IdempotencyKey requestKey(String requestKey) {
+        this.setRequestKey(requestKey);
+        return this;
+    }
+
+    public void setRequestKey(String requestKey) {
+        this.requestKey = requestKey;
+    }
+
+    public String getRequestHash() {
+        return this.requestHash;
+    }
+
+    public IdempotencyKey requestHash(String requestHash) {
+        this.setRequestHash(requestHash);
+        return this;
+    }
+
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public Integer getResponseStatus() {
+        return this.responseStatus;
+    }
+
+    public IdempotencyKey responseStatus(Integer responseStatus) {
+        this.setResponseStatus(responseStatus);
+        return this;
+    }
+
+    public void setResponseStatus(Integer responseStatus) {
+        this.responseStatus = responseStatus;
+    }
+
+    public String getResponseLocation() {
+        return this.responseLocation;
+    }
+
+    public IdempotencyKey responseLocation(String responseLocation) {
+        this.setResponseLocation(responseLocation);
+        return this;
+    }
+
+    public void setResponseLocation(String responseLocation) {
+        this.responseLocation = responseLocation;
+    }
+
+    public byte[] getResponseBody() {
+        return this.responseBody;
+    }
+
+    public IdempotencyKey responseBody(byte[] responseBody) {
+        this.setResponseBody(responseBody);
+        return this;
+    }
+
+    public void setResponseBody(byte[] responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public IdempotencyKey createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IdempotencyKey)) {
+            return false;
+        }
+        return id != null && id.equals(((IdempotencyKey) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "IdempotencyKey{" +
+            "id=" + getId() +
+            ", login='" + getLogin() + "'" +
+            ", scope='" + getScope() + "'" +
+            ", requestKey='" + getRequestKey() + "'" +
+            ", requestHash='" + getRequestHash() + "'" +
+            ", responseStatus=" + getResponseStatus() +
+            ", responseLocation='" + getResponseLocation() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,198 @@
+package com.rentmanagement.domain;
+
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.*;
+import javax.validation.constraints.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * An entry of the ledger of a {@link Tenant}: a charge or a payment.
+ * <p>
+ * The ledger is append-only. Each entry records the balance of the tenant once applied, which is also kept in
+ * {@link Tenant#getOutStandingAmount()}, so reading a balance never sums the history. Entries are not cached.
+ */
+@Entity
+@Immutable
+@Table(name = "ledger_entry")
+public class LedgerEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private LedgerEntryType entryType;
+
+    @NotNull
+    @DecimalMin(value = "0", inclusive = false)
+    @Column(name = "amount", nullable = false)
+    private Double amount;
+
+    @Column(name = "balance", nullable = false)
+    private Double balance;
+
+    @Size(max = 255)
+    @Column(name = "description", length = 255)
+    private String description;
+
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
+    /**
+     * The bill the entry was appended for, if any: its charge, the adjustments of its amount, and their reversal when the
+     * bill is deleted. Entries outlive their bill, so this is not a foreign key.
+     */
+    @Column(name = "generate_bill_id")
+    private Long generateBillId;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public LedgerEntry id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTenantId() {
+        return this.tenantId;
+    }
+
+    public LedgerEntry tenantId(Long tenantId) {
+        this.setTenantId(tenantId);
+        return this;
+    }
+
+    public void setTenantId(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public LedgerEntryType getEntryType() {
+        return this.entryType;
+    }
+
+    public LedgerEntry entryType(LedgerEntryType entryType) {
+        this.setEntryType(entryType);
+        return this;
+    }
+
+    public void setEntryType(LedgerEntryType entryType) {
+        this.entryType = entryType;
+    }
+
+    public Double getAmount() {
+        return this.amount;
+    }
+
+    public LedgerEntry amount(Double amount) {
+        this.setAmount(amount);
+        return this;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public Double getBalance() {
+        return this.balance;
+    }
+
+    public LedgerEntry balance(Double balance) {
+        this.setBalance(balance);
+        return this;
+    }
+
+    public void setBalance(Double balance) {
+        this.balance = balance;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
+    public LedgerEntry description(String description) {
+        this.setDescription(description);
+        return this;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public LedgerEntry createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Long getGenerateBillId() {
+        return this.generateBillId;
+    }
+
+    public LedgerEntry generateBillId(Long generateBillId) {
+        this.setGenerateBillId(generateBillId);
+        return this;
+    }
+
+    public void setGenerateBillId(Long generateBillId) {
+        this.generateBillId = generateBillId;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LedgerEntry)) {
+            return false;
+        }
+        return id != null && id.equals(((LedgerEntry) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LedgerEntry{" +
+            "id=" + getId() +
+            ", tenantId=" + getTenantId() +
+            ", entryType='" + getEntryType() + "'" +
+            ", amount=" + getAmount() +
+            ", balance=" + getBalance() +
+            ", description='" + getDescription() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            ", generateBillId=" + getGenerateBillId() +
+            "}";
+    }
+}
@@ -0,0 +1,174 @@
+package com.rentmanagement.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import javax.persistence.*;
+
+/**
+ * The electricity meter readings of a {@link Tenant} over a month.
+ * <p>
+ * Readings are stored as a time series, one block per tenant and month holding all the readings of the month
+ * delta-encoded (see {@code MeterReadingCodec}), so years of daily readings cost a few rows per tenant and a range query
+ * reads one row per month. The latest reading of the block is kept in columns, so billing and appending in order never
+ * decode the block. Blocks are not cached.
+ */
+@Entity
+@Table(name = "meter_reading_block")
+public class MeterReadingBlock implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    /**
+     * The first day of the month.
+     */
+    @Column(name = "block_month", nullable = false)
+    private LocalDate month;
+
+    @Column(name = "reading_count", nullable = false)
+    private Integer readingCount;
+
+    @Column(name = "last_read_at", nullable = false)
+    private Instant lastReadAt;
+
+    @Column(name = "last_value", nullable = false)
+    private Double lastValue;
+
+    @Lob
+    @Column(name = "readings", nullable = false)
+    private byte[] readings;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public MeterReadingBlock id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTenantId() {
+        return this.tenantId;
+    }
+
+    public MeterReadingBlock tenantId(Long tenantId) {
+        this.setTenantId(tenantId);
+        return this;
+    }
+
+    public void setTenantId(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public LocalDate getMonth() {
+        return this.month;
+    }
+
+    public MeterReadingBlock month(LocalDate month) {
+        this.setMonth(month);
+        return this;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public Integer getReadingCount() {
+        return this.readingCount;
+    }
+
+    public MeterReadingBlock readingCount(Integer readingCount) {
+        this.setReadingCount(readingCount);
+        return this;
+    }
+
+    public void setReadingCount(Integer readingCount) {
+        this.readingCount = readingCount;
+    }
+
+    public Instant getLastReadAt() {
+        return this.lastReadAt;
+    }
+
+    public MeterReadingBlock lastReadAt(Instant lastReadAt) {
+        this.setLastReadAt(lastReadAt);
+        return this;
+    }
+
+    public void setLastReadAt(Instant lastReadAt) {
+        this.lastReadAt = lastReadAt;
+    }
+
+    public Double getLastValue() {
+        return this.lastValue;
+    }
+
+    public MeterReadingBlock lastValue(Double lastValue) {
+        this.setLastValue(lastValue);
+        return this;
+    }
+
+    public void setLastValue(Double lastValue) {
+        this.lastValue = lastValue;
+    }
+
+    public byte[] getReadings() {
+        return this.readings;
+    }
+
+    public MeterReadingBlock readings(byte[] readings) {
+        this.setReadings(readings);
+        return this;
+    }
+
+    public void setReadings(byte[] readings) {
+        this.readings = readings;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MeterReadingBlock)) {
+            return false;
+        }
+        return id != null && id.equals(((MeterReadingBlock) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MeterReadingBlock{" +
+            "id=" + getId() +
+            ", tenantId=" + getTenantId() +
+            ", month='" + getMonth() + "'" +
+            ", readingCount=" + getReadingCount() +
+            ", lastReadAt='" + getLastReadAt() + "'" +
+            ", lastValue=" + getLastValue() +
+            "}";
+    }
+}
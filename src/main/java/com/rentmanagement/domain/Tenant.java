@@ -1,6 +1,7 @@
 package com.rentmanagement.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -30,14 +31,17 @@ public class Tenant implements Serializable {
     @Column(name = "tenant_name", nullable = false)
     private String tenantName;
 
-    @Lob
-    @Column(name = "address_proff", nullable = false)
-    private byte[] addressProff;
-
-    @NotNull
-    @Column(name = "address_proff_content_type", nullable = false)
+    /**
+     * The addressProff document itself is kept in {@link TenantDocumentChunk}s, keyed by the tenant id.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "address_proff_content_type")
     private String addressProffContentType;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "address_proff_size")
+    private Long addressProffSize;
+
     @Column(name = "numberof_family_members")
     private Integer numberofFamilyMembers;
 
@@ -86,6 +90,16 @@ public class Tenant implements Serializable {
     @Column(name = "calculated_for_current_month")
     private Boolean calculatedForCurrentMonth;
 
+    /**
+     * Incremented on each update, and sent as the {@code ETag} of the tenant. A primitive, so that a tenant referenced
+     * by its id only, e.g. {@code {"tenants": {"id": 1}}}, is not taken for a new one. Not read from request bodies: the
+     * version expected by an update is sent in the {@code If-Match} header.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     @OneToOne
     @JoinColumn(unique = true)
     private Location location;
@@ -128,30 +142,30 @@ public class Tenant implements Serializable {
         this.tenantName = tenantName;
     }
 
-    public byte[] getAddressProff() {
-        return this.addressProff;
+    public String getAddressProffContentType() {
+        return this.addressProffContentType;
     }
 
-    public Tenant addressProff(byte[] addressProff) {
-        this.setAddressProff(addressProff);
+    public Tenant addressProffContentType(String addressProffContentType) {
+        this.addressProffContentType = addressProffContentType;
         return this;
     }
 
-    public void setAddressProff(byte[] addressProff) {
-        this.addressProff = addressProff;
+    public void setAddressProffContentType(String addressProffContentType) {
+        this.addressProffContentType = addressProffContentType;
     }
 
-    public String getAddressProffContentType() {
-        return this.addressProffContentType;
+    public Long getAddressProffSize() {
+        return this.addressProffSize;
     }
 
-    public Tenant addressProffContentType(String addressProffContentType) {
-        this.addressProffContentType = addressProffContentType;
+    public Tenant addressProffSize(Long addressProffSize) {
+        this.setAddressProffSize(addressProffSize);
         return this;
     }
 
-    public void setAddressProffContentType(String addressProffContentType) {
-        this.addressProffContentType = addressProffContentType;
+    public void setAddressProffSize(Long addressProffSize) {
+        this.addressProffSize = addressProffSize;
     }
 
     public Integer getNumberofFamilyMembers() {
@@ -336,6 +350,14 @@ public class Tenant implements Serializable {
         this.calculatedForCurrentMonth = calculatedForCurrentMonth;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Location getLocation() {
         return this.location;
     }
@@ -436,8 +458,8 @@ public class Tenant implements Serializable {
         return "Tenant{" +
             "id=" + getId() +
             ", tenantName='" + getTenantName() + "'" +
-            ", addressProff='" + getAddressProff() + "'" +
             ", addressProffContentType='" + getAddressProffContentType() + "'" +
+            ", addressProffSize=" + getAddressProffSize() +
             ", numberofFamilyMembers=" + getNumberofFamilyMembers() +
             ", phoneNumber='" + getPhoneNumber() + "'" +
             ", rentStartDate='" + getRentStartDate() + "'" +
@@ -0,0 +1,119 @@
+package com.rentmanagement.domain;
+
+import java.io.Serializable;
+import javax.persistence.*;
+import javax.validation.constraints.*;
+
+/**
+ * A chunk of the addressProff document of a {@link Tenant}.
+ * <p>
+ * Documents are stored apart from the tenant row, split in chunks ordered by their offset in the document, so they can
+ * be written and read back one chunk at a time. Chunks are not cached.
+ */
+@Entity
+@Table(name = "tenant_document_chunk")
+public class TenantDocumentChunk implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @NotNull
+    @Column(name = "start_offset", nullable = false)
+    private Long startOffset;
+
+    @Lob
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    // jhipster-needle-entity-add-field - JHipster will add fields here
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public TenantDocumentChunk id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTenantId() {
+        return this.tenantId;
+    }
+
+    public TenantDocumentChunk tenantId(Long tenantId) {
+        this.setTenantId(tenantId);
+        return this;
+    }
+
+    public void setTenantId(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Long getStartOffset() {
+        return this.startOffset;
+    }
+
+    public TenantDocumentChunk startOffset(Long startOffset) {
+        this.setStartOffset(startOffset);
+        return this;
+    }
+
+    public void setStartOffset(Long startOffset) {
+        this.startOffset = startOffset;
+    }
+
+    public byte[] getData() {
+        return this.data;
+    }
+
+    public TenantDocumentChunk data(byte[] data) {
+        this.setData(data);
+        return this;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantDocumentChunk)) {
+            return false;
+        }
+        return id != null && id.equals(((TenantDocumentChunk) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TenantDocumentChunk{" +
+            "id=" + getId() +
+            ", tenantId=" + getTenantId() +
+            ", startOffset=" + getStartOffset() +
+            "}";
+    }
+}
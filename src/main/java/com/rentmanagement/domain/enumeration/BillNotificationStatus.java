@@ -0,0 +1,10 @@
+package com.rentmanagement.domain.enumeration;
+
+/**
+ * The BillNotificationStatus enumeration.
+ */
+public enum BillNotificationStatus {
+    PENDING,
+    SENT,
+    FAILED,
+}
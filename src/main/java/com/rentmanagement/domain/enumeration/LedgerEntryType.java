@@ -0,0 +1,9 @@
+package com.rentmanagement.domain.enumeration;
+
+/**
+ * The LedgerEntryType enumeration.
+ */
+public enum LedgerEntryType {
+    CHARGE,
+    PAYMENT,
+}
@@ -0,0 +1,39 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.BillNotification;
+import com.rentmanagement.domain.enumeration.BillNotificationStatus;
+import java.time.Instant;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the BillNotification entity.
+ */
+@Repository
+public interface BillNotificationRepository extends JpaRepository<BillNotification, Long> {
+    /**
+     * Next pending notifications due at {@code now}, oldest first. They are locked until the end of the transaction,
+     * and the notifications already locked by another dispatcher are skipped where the database supports it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query(
+        "select notification from BillNotification notification" +
+        " where notification.status = :status and notification.nextAttemptDate <= :now" +
+        " order by notification.nextAttemptDate, notification.id"
+    )
+    List<BillNotification> findDueForUpdate(
+        @Param("status") BillNotificationStatus status,
+        @Param("now") Instant now,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from BillNotification notification where notification.generateBillId = :generateBillId")
+    void deleteByGenerateBillId(@Param("generateBillId") Long generateBillId);
+}
@@ -0,0 +1,47 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.BillingRollup;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the BillingRollup entity.
+ */
+@Repository
+public interface BillingRollupRepository extends JpaRepository<BillingRollup, Long> {
+    /**
+     * Adds to the totals of the rollup of a building and month, in place, so that concurrent transactions add up
+     * instead of overwriting each other.
+     *
+     * @return the number of rollups updated, {@code 0} if the rollup does not exist yet.
+     */
+    @Modifying
+    @Query(
+        "update BillingRollup rollup set rollup.bills = rollup.bills + :bills, rollup.billed = rollup.billed + :billed," +
+        " rollup.paid = rollup.paid + :paid, rollup.pending = rollup.pending + :pending," +
+        " rollup.electricityUnits = rollup.electricityUnits + :electricityUnits" +
+        " where rollup.buildingId = :buildingId and rollup.month = :month"
+    )
+    int add(
+        @Param("buildingId") Long buildingId,
+        @Param("month") LocalDate month,
+        @Param("bills") long bills,
+        @Param("billed") double billed,
+        @Param("paid") double paid,
+        @Param("pending") double pending,
+        @Param("electricityUnits") double electricityUnits
+    );
+
+    /**
+     * Rollups from the {@code from} month to the {@code to} month, optionally of one building, ordered by month and
+     * building.
+     */
+    @Query(
+        "select rollup from BillingRollup rollup where (:buildingId is null or rollup.buildingId = :buildingId)" +
+        " and rollup.month between :from and :to order by rollup.month, rollup.buildingId"
+    )
+    List<BillingRollup> findSummary(@Param("buildingId") Long buildingId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,7 +1,16 @@
 package com.rentmanagement.repository;
 
 import com.rentmanagement.domain.Building;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +18,28 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BuildingRepository extends JpaRepository<Building, Long> {}
+public interface BuildingRepository extends JpaRepository<Building, Long>, JpaSpecificationExecutor<Building> {
+    /**
+     * Buildings matching the criteria of the {@code BuildingQueryService}, fetching their address in the same select.
+     */
+    @Override
+    @EntityGraph(attributePaths = { "address" })
+    List<Building> findAll(Specification<Building> specification);
+
+    @Override
+    @EntityGraph(attributePaths = { "address" })
+    Page<Building> findAll(Specification<Building> specification, Pageable pageable);
+
+    /**
+     * The "id" building, locked until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select building from Building building where building.id = :id")
+    Optional<Building> findOneForUpdate(@Param("id") Long id);
+
+    /**
+     * The ids of the given buildings that exist.
+     */
+    @Query("select building.id from Building building where building.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
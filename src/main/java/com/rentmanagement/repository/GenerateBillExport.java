@@ -0,0 +1,24 @@
+package com.rentmanagement.repository;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a {@link com.rentmanagement.domain.GenerateBill} and its tenant, as exported.
+ */
+@JsonPropertyOrder({ "id", "billingPeriod", "amountPending", "electricityUnit", "sendNotification", "tenantId", "tenantName" })
+public interface GenerateBillExport {
+    Long getId();
+
+    LocalDate getBillingPeriod();
+
+    Double getAmountPending();
+
+    Double getElectricityUnit();
+
+    Boolean getSendNotification();
+
+    Long getTenantId();
+
+    String getTenantName();
+}
@@ -1,7 +1,21 @@
 package com.rentmanagement.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.rentmanagement.domain.GenerateBill;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +23,57 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface GenerateBillRepository extends JpaRepository<GenerateBill, Long> {}
+public interface GenerateBillRepository extends JpaRepository<GenerateBill, Long>, JpaSpecificationExecutor<GenerateBill> {
+    String GENERATE_BILLS_BY_TENANT_CACHE = "generateBillsByTenant";
+
+    /**
+     * Bills matching the criteria of the {@code GenerateBillQueryService}, fetching their tenant in the same select.
+     */
+    @Override
+    @EntityGraph(attributePaths = { "tenant.location" })
+    List<GenerateBill> findAll(Specification<GenerateBill> specification);
+
+    @Override
+    @EntityGraph(attributePaths = { "tenant.location" })
+    Page<GenerateBill> findAll(Specification<GenerateBill> specification, Pageable pageable);
+
+    /**
+     * Bills of a tenant, latest first, from the query cache until a bill is written.
+     */
+    @QueryHints(
+        { @QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = GENERATE_BILLS_BY_TENANT_CACHE) }
+    )
+    List<GenerateBill> findByTenantIdOrderByIdDesc(Long tenantId);
+
+    /**
+     * The bills of the given ids, with their tenant.
+     */
+    @Query("select bill from GenerateBill bill join fetch bill.tenant where bill.id in :ids")
+    List<GenerateBill> findAllWithTenantByIdIn(@Param("ids") Collection<Long> ids);
+
+    boolean existsByTenantIdAndBillingPeriod(Long tenantId, LocalDate billingPeriod);
+
+    /**
+     * The ids of the given tenants that already have a bill for the period, read from the unique index on the tenant
+     * and the period.
+     */
+    @Query("select bill.tenant.id from GenerateBill bill where bill.billingPeriod = :billingPeriod and bill.tenant.id in :tenantIds")
+    Set<Long> findTenantIdsBilledFor(@Param("tenantIds") Collection<Long> tenantIds, @Param("billingPeriod") LocalDate billingPeriod);
+
+    /**
+     * Bills ordered by id, optionally of one tenant or of the tenants of one building, read forward-only with a JDBC
+     * fetch size. Must be consumed, and closed, within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(
+        "select bill.id as id, bill.billingPeriod as billingPeriod, bill.amountPending as amountPending," +
+        " bill.electricityUnit as electricityUnit, bill.sendNotification as sendNotification," +
+        " tenant.id as tenantId, tenant.tenantName as tenantName" +
+        " from GenerateBill bill join bill.tenant tenant" +
+        " where (:tenantId is null or tenant.id = :tenantId)" +
+        " and (:buildingId is null or exists" +
+        " (select room.id from Room room where room.tenants = tenant and room.building.id = :buildingId))" +
+        " order by bill.id"
+    )
+    Stream<GenerateBillExport> streamForExport(@Param("tenantId") Long tenantId, @Param("buildingId") Long buildingId);
+}
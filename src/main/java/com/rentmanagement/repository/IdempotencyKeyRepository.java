@@ -0,0 +1,25 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.IdempotencyKey;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the IdempotencyKey entity.
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    /**
+     * In-memory front cache of the stored responses, by user, scope and key, see {@code IdempotencyService}.
+     */
+    String IDEMPOTENT_RESPONSES_CACHE = "idempotentResponses";
+
+    Optional<IdempotencyKey> findOneByLoginAndScopeAndRequestKey(String login, String scope, String requestKey);
+
+    @Modifying
+    @Query("delete from IdempotencyKey idempotencyKey where idempotencyKey.createdDate < :createdBefore")
+    int deleteByCreatedDateBefore(@Param("createdBefore") Instant createdBefore);
+}
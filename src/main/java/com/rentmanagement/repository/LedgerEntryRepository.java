@@ -0,0 +1,32 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.LedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the LedgerEntry entity.
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+    /**
+     * Page of the ledger of a tenant, latest entries first.
+     */
+    Page<LedgerEntry> findByTenantIdOrderByIdDesc(Long tenantId, Pageable pageable);
+
+    /**
+     * Net amount appended to the ledger for a bill: its charges less its payments.
+     */
+    @Query(
+        "select coalesce(sum(case when entry.entryType = com.rentmanagement.domain.enumeration.LedgerEntryType.PAYMENT " +
+        "then -entry.amount else entry.amount end), 0) from LedgerEntry entry where entry.generateBillId = :generateBillId"
+    )
+    double sumByGenerateBillId(@Param("generateBillId") Long generateBillId);
+
+    @Modifying
+    @Query("delete from LedgerEntry entry where entry.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+}
@@ -1,7 +1,10 @@
 package com.rentmanagement.repository;
 
 import com.rentmanagement.domain.Location;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,10 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface LocationRepository extends JpaRepository<Location, Long> {}
+public interface LocationRepository extends JpaRepository<Location, Long>, JpaSpecificationExecutor<Location> {
+    /**
+     * The ids of the given locations that exist.
+     */
+    @Query("select location.id from Location location where location.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
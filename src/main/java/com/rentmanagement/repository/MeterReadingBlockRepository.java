@@ -0,0 +1,44 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.MeterReadingBlock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the MeterReadingBlock entity.
+ * <p>
+ * Every query is driven by the unique index on the tenant and the month.
+ */
+@Repository
+public interface MeterReadingBlockRepository extends JpaRepository<MeterReadingBlock, Long> {
+    Optional<MeterReadingBlock> findByTenantIdAndMonth(Long tenantId, LocalDate month);
+
+    /**
+     * The blocks of a tenant from the {@code from} month to the {@code to} month, in month order.
+     */
+    List<MeterReadingBlock> findByTenantIdAndMonthBetweenOrderByMonth(Long tenantId, LocalDate from, LocalDate to);
+
+    /**
+     * The latest block of a tenant before the {@code month} month, holding the reading preceding the month.
+     */
+    Optional<MeterReadingBlock> findFirstByTenantIdAndMonthLessThanOrderByMonthDesc(Long tenantId, LocalDate month);
+
+    /**
+     * The latest meter reading of each of the tenants that have one, read from their latest block.
+     */
+    @Query(
+        "select block.tenantId as tenantId, block.lastValue as lastValue from MeterReadingBlock block" +
+        " where block.tenantId in :tenantIds" +
+        " and block.month = (select max(latest.month) from MeterReadingBlock latest where latest.tenantId = block.tenantId)"
+    )
+    List<TenantMeterReading> findLatestOfTenants(@Param("tenantIds") Collection<Long> tenantIds);
+
+    @Modifying
+    @Query("delete from MeterReadingBlock block where block.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+}
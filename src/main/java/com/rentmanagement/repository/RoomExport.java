@@ -0,0 +1,23 @@
+package com.rentmanagement.repository;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Read-only view of a {@link com.rentmanagement.domain.Room}, its building and its tenant, as exported.
+ */
+@JsonPropertyOrder({ "id", "roomName", "floor", "buildingId", "buildingName", "tenantId", "tenantName" })
+public interface RoomExport {
+    Long getId();
+
+    String getRoomName();
+
+    String getFloor();
+
+    Long getBuildingId();
+
+    String getBuildingName();
+
+    Long getTenantId();
+
+    String getTenantName();
+}
@@ -1,12 +1,79 @@
 package com.rentmanagement.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.rentmanagement.domain.Room;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data SQL repository for the Room entity.
+ * <p>
+ * The {@code findAll} by specification and {@code *WithToOneRelationships} methods fetch join the building with its
+ * address and the tenant with its location, so that reading rooms does not fire one extra select per building and per
+ * tenant.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {}
+public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room> {
+    String ROOMS_BY_BUILDING_CACHE = "roomsByBuilding";
+
+    /**
+     * Rooms matching the criteria of the {@code RoomQueryService}, fetching their building and tenant in the same
+     * select.
+     */
+    @Override
+    @EntityGraph(attributePaths = { "building.address", "tenants.location" })
+    List<Room> findAll(Specification<Room> specification);
+
+    @Override
+    @EntityGraph(attributePaths = { "building.address", "tenants.location" })
+    Page<Room> findAll(Specification<Room> specification, Pageable pageable);
+
+    @Query(
+        "select room from Room room join fetch room.building building left join fetch building.address" +
+        " left join fetch room.tenants tenant left join fetch tenant.location where room.id = :id"
+    )
+    Optional<Room> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /**
+     * Rooms of a building, from the query cache until a room is written.
+     */
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = ROOMS_BY_BUILDING_CACHE) })
+    List<Room> findByBuildingIdOrderByIdAsc(Long buildingId);
+
+    /**
+     * The first building, by id, each of the given tenants rents a room in. Tenants renting no room are left out.
+     */
+    @Query(
+        "select room.tenants.id as tenantId, min(room.building.id) as buildingId from Room room" +
+        " where room.tenants.id in :tenantIds group by room.tenants.id"
+    )
+    List<TenantBuilding> findBuildingsOfTenants(@Param("tenantIds") Collection<Long> tenantIds);
+
+    /**
+     * Rooms ordered by id, optionally of one building or of one tenant, read forward-only with a JDBC fetch size. Must
+     * be consumed, and closed, within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(
+        "select room.id as id, room.roomName as roomName, room.floor as floor, building.id as buildingId," +
+        " building.buildingName as buildingName, tenant.id as tenantId, tenant.tenantName as tenantName" +
+        " from Room room join room.building building left join room.tenants tenant" +
+        " where (:buildingId is null or building.id = :buildingId)" +
+        " and (:tenantId is null or tenant.id = :tenantId)" +
+        " order by room.id"
+    )
+    Stream<RoomExport> streamForExport(@Param("buildingId") Long buildingId, @Param("tenantId") Long tenantId);
+}
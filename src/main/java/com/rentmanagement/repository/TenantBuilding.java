@@ -0,0 +1,10 @@
+package com.rentmanagement.repository;
+
+/**
+ * The building a {@link com.rentmanagement.domain.Tenant} is attached to, see {@link RoomRepository#findBuildingsOfTenants}.
+ */
+public interface TenantBuilding {
+    Long getTenantId();
+
+    Long getBuildingId();
+}
@@ -0,0 +1,27 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.TenantDocumentChunk;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data SQL repository for the TenantDocumentChunk entity.
+ */
+@Repository
+public interface TenantDocumentChunkRepository extends JpaRepository<TenantDocumentChunk, Long> {
+    /**
+     * The chunk of a document holding the byte at {@code offset}.
+     */
+    Optional<TenantDocumentChunk> findFirstByTenantIdAndStartOffsetLessThanEqualOrderByStartOffsetDesc(Long tenantId, Long offset);
+
+    /**
+     * The chunk of a document following the one starting at {@code startOffset}.
+     */
+    Optional<TenantDocumentChunk> findFirstByTenantIdAndStartOffsetGreaterThanOrderByStartOffsetAsc(Long tenantId, Long startOffset);
+
+    @Modifying
+    @Query("delete from TenantDocumentChunk chunk where chunk.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+}
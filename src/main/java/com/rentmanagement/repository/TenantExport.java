@@ -0,0 +1,49 @@
+package com.rentmanagement.repository;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of the scalar columns of a {@link com.rentmanagement.domain.Tenant}, as exported.
+ */
+@JsonPropertyOrder(
+    {
+        "id",
+        "tenantName",
+        "phoneNumber",
+        "emailAddress",
+        "rentStartDate",
+        "rentAmount",
+        "electricityUnitRate",
+        "startingElectricityUnit",
+        "outStandingAmount",
+        "monthEndCalculation",
+        "calculateOnDate",
+        "calculatedForCurrentMonth",
+    }
+)
+public interface TenantExport {
+    Long getId();
+
+    String getTenantName();
+
+    String getPhoneNumber();
+
+    String getEmailAddress();
+
+    LocalDate getRentStartDate();
+
+    Double getRentAmount();
+
+    Integer getElectricityUnitRate();
+
+    Double getStartingElectricityUnit();
+
+    Double getOutStandingAmount();
+
+    Boolean getMonthEndCalculation();
+
+    Boolean getCalculateOnDate();
+
+    Boolean getCalculatedForCurrentMonth();
+}
@@ -0,0 +1,11 @@
+package com.rentmanagement.repository;
+
+/**
+ * The latest meter reading of a {@link com.rentmanagement.domain.Tenant}, see
+ * {@link MeterReadingBlockRepository#findLatestOfTenants}.
+ */
+public interface TenantMeterReading {
+    Long getTenantId();
+
+    Double getLastValue();
+}
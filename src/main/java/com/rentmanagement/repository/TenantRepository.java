@@ -1,7 +1,23 @@
 package com.rentmanagement.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.rentmanagement.domain.Tenant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +25,111 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TenantRepository extends JpaRepository<Tenant, Long> {}
+public interface TenantRepository
+    extends TenantRepositoryWithOutStandingAmount, JpaRepository<Tenant, Long>, JpaSpecificationExecutor<Tenant> {
+    String TENANTS_BY_BUILDING_CACHE = "tenantsByBuilding";
+
+    /**
+     * Tenants matching the criteria of the {@code TenantQueryService}, fetching their location in the same select.
+     */
+    @Override
+    @EntityGraph(attributePaths = { "location" })
+    List<Tenant> findAll(Specification<Tenant> specification);
+
+    @Override
+    @EntityGraph(attributePaths = { "location" })
+    Page<Tenant> findAll(Specification<Tenant> specification, Pageable pageable);
+
+    /**
+     * Keyset page of tenants ordered by id, starting after {@code id}.
+     */
+    List<Tenant> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Page of tenant summaries, selecting only their scalar columns.
+     */
+    @Query(
+        value = "select tenant.id as id, tenant.tenantName as tenantName, tenant.phoneNumber as phoneNumber," +
+        " tenant.rentAmount as rentAmount, tenant.outStandingAmount as outStandingAmount from Tenant tenant",
+        countQuery = "select count(tenant) from Tenant tenant"
+    )
+    Page<TenantSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select tenant.id as id, tenant.tenantName as tenantName, tenant.phoneNumber as phoneNumber," +
+        " tenant.rentAmount as rentAmount, tenant.outStandingAmount as outStandingAmount from Tenant tenant where tenant.id = :id"
+    )
+    Optional<TenantSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Tenants renting a room of a building, from the query cache until a tenant or a room is written. The rooms of the
+     * building are read first, from their index, rather than checking the rooms of every tenant.
+     */
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = TENANTS_BY_BUILDING_CACHE) })
+    @Query(
+        "select tenant from Tenant tenant where tenant.id in" +
+        " (select room.tenants.id from Room room where room.building.id = :buildingId)" +
+        " order by tenant.id"
+    )
+    List<Tenant> findByBuildingId(@Param("buildingId") Long buildingId);
+
+    /**
+     * The "id" tenant, locked until the end of the transaction so that its meter readings are recorded one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select tenant from Tenant tenant where tenant.id = :id")
+    Optional<Tenant> findOneForUpdate(@Param("id") Long id);
+
+    @Query("select tenant.outStandingAmount from Tenant tenant where tenant.id = :id")
+    Optional<Double> findOutStandingAmountById(@Param("id") Long id);
+
+    /**
+     * Next chunk of tenants, ordered by id after {@code lastId}, that take part in the monthly bill run and have not
+     * been billed for the current month yet. The tenants are locked until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select tenant from Tenant tenant where tenant.id > :lastId" +
+        " and (tenant.monthEndCalculation = true or tenant.calculateOnDate = true)" +
+        " and (tenant.calculatedForCurrentMonth is null or tenant.calculatedForCurrentMonth = false)" +
+        " order by tenant.id"
+    )
+    List<Tenant> findBillableAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * The ids of the given tenants that exist.
+     */
+    @Query("select tenant.id from Tenant tenant where tenant.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * The ids of the given locations that are already the location of a tenant, read from the unique index on the
+     * location of the tenants.
+     */
+    @Query("select tenant.location.id from Tenant tenant where tenant.location.id in :locationIds")
+    Set<Long> findRentedLocationIds(@Param("locationIds") Collection<Long> locationIds);
+
+    /**
+     * Tenants ordered by id, optionally of one building and starting their rent within a date range, read forward-only
+     * with a JDBC fetch size. Must be consumed, and closed, within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(
+        "select tenant.id as id, tenant.tenantName as tenantName, tenant.phoneNumber as phoneNumber," +
+        " tenant.emailAddress as emailAddress, tenant.rentStartDate as rentStartDate, tenant.rentAmount as rentAmount," +
+        " tenant.electricityUnitRate as electricityUnitRate, tenant.startingElectricityUnit as startingElectricityUnit," +
+        " tenant.outStandingAmount as outStandingAmount, tenant.monthEndCalculation as monthEndCalculation," +
+        " tenant.calculateOnDate as calculateOnDate, tenant.calculatedForCurrentMonth as calculatedForCurrentMonth" +
+        " from Tenant tenant" +
+        " where (:buildingId is null or exists" +
+        " (select room.id from Room room where room.tenants = tenant and room.building.id = :buildingId))" +
+        " and (:from is null or tenant.rentStartDate >= :from)" +
+        " and (:to is null or tenant.rentStartDate <= :to)" +
+        " order by tenant.id"
+    )
+    Stream<TenantExport> streamForExport(
+        @Param("buildingId") Long buildingId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
@@ -0,0 +1,18 @@
+package com.rentmanagement.repository;
+
+/**
+ * Atomic updates of the outstanding amount of the tenants, see {@link TenantRepository}.
+ */
+public interface TenantRepositoryWithOutStandingAmount {
+    /**
+     * Adds {@code delta} to the outstanding amount of the "id" tenant and increments its version, in a single update
+     * that does not read the tenant first: concurrent updates of a tenant are applied one after the other by the
+     * database instead of overwriting each other. The update bypasses the persistence context, and evicts only this
+     * tenant from the second-level cache.
+     *
+     * @param id the id of the tenant.
+     * @param delta the amount to add, negative for a payment.
+     * @return the number of tenants updated, {@code 0} if the tenant does not exist.
+     */
+    int addToOutStandingAmount(Long id, double delta);
+}
@@ -0,0 +1,55 @@
+package com.rentmanagement.repository;
+
+import com.rentmanagement.domain.Tenant;
+import java.sql.PreparedStatement;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the update on the JDBC connection of the session rather than as a bulk query: Hibernate would evict every
+ * tenant from the second-level cache, and every query cached on the tenants, after a bulk update. The outstanding
+ * amount is not a criterion of the cached queries, so only the updated tenant is evicted, when the update runs and
+ * again when the transaction completes, in case a concurrent transaction cached the previous amount in between. Each
+ * eviction is published to the other instances by the region, whether this instance held the tenant or not.
+ */
+public class TenantRepositoryWithOutStandingAmountImpl implements TenantRepositoryWithOutStandingAmount {
+
+    private static final String ADD_TO_OUT_STANDING_AMOUNT =
+        "update tenant set out_standing_amount = coalesce(out_standing_amount, 0) + ?, version = version + 1 where id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int addToOutStandingAmount(Long id, double delta) {
+        entityManager.flush();
+        int updated = entityManager
+            .unwrap(Session.class)
+            .doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(ADD_TO_OUT_STANDING_AMOUNT)) {
+                    statement.setDouble(1, delta);
+                    statement.setLong(2, id);
+                    return statement.executeUpdate();
+                }
+            });
+        evict(id);
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            }
+        );
+        return updated;
+    }
+
+    private void evict(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Tenant.class, id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.rentmanagement.repository;
+
+/**
+ * Read-only view of a {@link com.rentmanagement.domain.Tenant} holding only the scalar columns list screens need.
+ */
+public interface TenantSummary {
+    Long getId();
+
+    String getTenantName();
+
+    String getPhoneNumber();
+
+    Double getRentAmount();
+
+    Double getOutStandingAmount();
+}
@@ -5,10 +5,15 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.stream.Collectors;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,6 +34,12 @@ public class TokenProvider {
 
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    /**
+     * Cache of the recently verified tokens, by SHA-256 digest of the token. Each instance verifies its own tokens, so
+     * the cache is not invalidated across instances.
+     */
+    public static final String VERIFIED_TOKENS_CACHE = "verifiedTokens";
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,7 +50,9 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
-    public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
+    private final Cache<Object, Object> verifiedTokens;
+
+    public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService, CacheManager cacheManager) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
         if (!ObjectUtils.isEmpty(secret)) {
@@ -60,6 +73,7 @@ public class TokenProvider {
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
 
         this.securityMetersService = securityMetersService;
+        this.verifiedTokens = cacheManager.getCache(VERIFIED_TOKENS_CACHE);
     }
 
     public String createToken(Authentication authentication, boolean rememberMe) {
@@ -82,25 +96,60 @@ public class TokenProvider {
             .compact();
     }
 
+    /**
+     * Verifies a token and returns its authentication, parsing the token only once.
+     * <p>
+     * The principals of the verified tokens are cached until the tokens expire, so a token presented again is neither
+     * verified nor decoded again. Each call returns a new authentication, which the caller may alter.
+     *
+     * @param token the token.
+     * @return the authentication of the token, or empty if the token is not valid.
+     */
+    public Optional<Authentication> resolveAuthentication(String token) {
+        String digest = digest(token);
+        VerifiedToken verifiedToken = (VerifiedToken) verifiedTokens.get(digest);
+        if (verifiedToken != null && verifiedToken.expiration > System.currentTimeMillis()) {
+            this.securityMetersService.trackTokenCacheHit();
+            return Optional.of(verifiedToken.toAuthentication(token));
+        }
+        if (verifiedToken != null) {
+            verifiedTokens.remove(digest, verifiedToken);
+        }
+        this.securityMetersService.trackTokenCacheMiss();
+        return parseClaims(token)
+            .map(claims -> {
+                VerifiedToken verified = toVerifiedToken(claims);
+                if (claims.getExpiration() != null) {
+                    verifiedTokens.put(digest, verified);
+                }
+                return verified.toAuthentication(token);
+            });
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return toVerifiedToken(jwtParser.parseClaimsJws(token).getBody()).toAuthentication(token);
+    }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken).isPresent();
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<GrantedAuthority> authorities = Arrays
             .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
             .filter(auth -> !auth.trim().isEmpty())
             .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+            .collect(Collectors.toUnmodifiableList());
 
         User principal = new User(claims.getSubject(), "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        long expiration = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        return new VerifiedToken(principal, authorities, expiration);
     }
 
-    public boolean validateToken(String authToken) {
+    private Optional<Claims> parseClaims(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
-
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(authToken).getBody());
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
@@ -121,6 +170,38 @@ public class TokenProvider {
             log.error("Token validation error {}", e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    private static String digest(String token) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The immutable principal and authorities of a verified token.
+     */
+    private static final class VerifiedToken implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final User principal;
+
+        private final List<GrantedAuthority> authorities;
+
+        private final long expiration;
+
+        private VerifiedToken(User principal, List<GrantedAuthority> authorities, long expiration) {
+            this.principal = principal;
+            this.authorities = authorities;
+            this.expiration = expiration;
+        }
+
+        private Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
     }
 }
@@ -0,0 +1,367 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.config.Constants;
+import com.rentmanagement.domain.BillNotification;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.enumeration.BillNotificationStatus;
+import com.rentmanagement.repository.BillNotificationRepository;
+import com.rentmanagement.repository.GenerateBillRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service notifying the tenants of their {@link GenerateBill}s by email, through an outbox.
+ * <p>
+ * A {@link BillNotification} is written in the same transaction as each bill flagged {@code sendNotification}, so
+ * creating bills never waits for the mail server, and a bill is notified if and only if it is committed. The
+ * dispatcher, run by the scheduler rather than by the request threads or the async task pool, claims the due
+ * notifications in batches, renders each batch in one pass and sends it over a single SMTP connection, no faster than
+ * {@code application.notification.messages-per-second}. Failed notifications are retried with an exponential backoff.
+ * <p>
+ * A claimed notification is only retried once {@link #CLAIM_TIMEOUT} has elapsed, so an instance stopped while sending
+ * may send a notification twice, but never loses one.
+ */
+@Service
+public class BillNotificationService {
+
+    /**
+     * Delay after which a notification claimed by a dispatcher which did not record the outcome is claimed again.
+     */
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private static final String BILL = "bill";
+
+    private static final String TENANT = "tenant";
+
+    private static final String NOTIFICATION_TEMPLATE = "mail/billNotificationEmail";
+
+    private final Logger log = LoggerFactory.getLogger(BillNotificationService.class);
+
+    private final BillNotificationRepository billNotificationRepository;
+
+    private final GenerateBillRepository generateBillRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final MailService mailService;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BillNotificationService(
+        BillNotificationRepository billNotificationRepository,
+        GenerateBillRepository generateBillRepository,
+        JavaMailSender javaMailSender,
+        MailService mailService,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.billNotificationRepository = billNotificationRepository;
+        this.generateBillRepository = generateBillRepository;
+        this.javaMailSender = javaMailSender;
+        this.mailService = mailService;
+        this.jHipsterProperties = jHipsterProperties;
+        this.applicationProperties = applicationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queues the notification of the bills flagged {@code sendNotification}, in the transaction writing the bills.
+     *
+     * @param bills the bills, already saved.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<GenerateBill> bills) {
+        if (!applicationProperties.getNotification().isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<BillNotification> notifications = bills
+            .stream()
+            .filter(bill -> Boolean.TRUE.equals(bill.getSendNotification()))
+            .map(bill ->
+                new BillNotification()
+                    .generateBillId(bill.getId())
+                    .billingPeriod(bill.getBillingPeriod())
+                    .status(BillNotificationStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptDate(now)
+                    .createdDate(now)
+            )
+            .collect(Collectors.toList());
+        if (!notifications.isEmpty()) {
+            log.debug("Queuing {} bill notifications", notifications.size());
+            billNotificationRepository.saveAll(notifications);
+        }
+    }
+
+    /**
+     * Sends all the notifications due, batch by batch.
+     * <p>
+     * This is scheduled every {@code application.notification.delay}, and does nothing unless
+     * {@code application.notification.enabled} is set.
+     *
+     * @return the number of notifications sent.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.notification.delay:PT10S}",
+        initialDelayString = "${application.notification.delay:PT10S}"
+    )
+    public int dispatchPending() {
+        if (!applicationProperties.getNotification().isEnabled()) {
+            return 0;
+        }
+        int sent = 0;
+        List<OutgoingNotification> claimed;
+        while ((claimed = transactionTemplate.execute(status -> claimBatch())) != null) {
+            List<OutgoingNotification> batch = claimed;
+            long start = System.nanoTime();
+            Map<Long, Exception> failures = send(batch);
+            transactionTemplate.executeWithoutResult(status -> recordOutcome(batch, failures));
+            sent += batch.size() - failures.size();
+            if (!throttle(batch.size(), start)) {
+                break;
+            }
+        }
+        if (sent > 0) {
+            log.info("Sent {} bill notifications", sent);
+        }
+        return sent;
+    }
+
+    /**
+     * Claims the next batch of due notifications and prepares their message. The notifications that cannot be sent,
+     * for want of a bill or of an email address, are given up. The notifications that cannot be rendered are retried
+     * like the ones that cannot be sent.
+     *
+     * @return the notifications to send, or {@code null} if none is due.
+     */
+    private List<OutgoingNotification> claimBatch() {
+        Instant now = Instant.now();
+        List<BillNotification> notifications = billNotificationRepository.findDueForUpdate(
+            BillNotificationStatus.PENDING,
+            now,
+            PageRequest.of(0, applicationProperties.getNotification().getBatchSize())
+        );
+        if (notifications.isEmpty()) {
+            return null;
+        }
+        Map<Long, GenerateBill> bills = generateBillRepository
+            .findAllWithTenantByIdIn(notifications.stream().map(BillNotification::getGenerateBillId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(GenerateBill::getId, Function.identity()));
+        List<BillNotification> sendable = new ArrayList<>(notifications.size());
+        List<Map<String, Object>> variables = new ArrayList<>(notifications.size());
+        for (BillNotification notification : notifications) {
+            notification.setAttempts(notification.getAttempts() + 1);
+            notification.setNextAttemptDate(now.plus(CLAIM_TIMEOUT));
+            GenerateBill bill = bills.get(notification.getGenerateBillId());
+            if (bill == null) {
+                giveUp(notification, "The bill no longer exists");
+                continue;
+            }
+            String emailAddress = bill.getTenant().getEmailAddress();
+            if (!StringUtils.hasText(emailAddress)) {
+                giveUp(notification, "The tenant has no email address");
+                continue;
+            }
+            notification.setRecipient(emailAddress);
+            sendable.add(notification);
+            variables.add(Map.of(BILL, bill, TENANT, bill.getTenant()));
+        }
+        Locale locale = Locale.forLanguageTag(Constants.DEFAULT_LANGUAGE);
+        String subject = mailService.getMessage("email.bill.title", locale);
+        List<String> contents = render(sendable, locale, variables, now);
+        List<OutgoingNotification> batch = new ArrayList<>(sendable.size());
+        for (int i = 0; i < sendable.size(); i++) {
+            BillNotification notification = sendable.get(i);
+            if (contents.get(i) == null) {
+                continue;
+            }
+            try {
+                batch.add(new OutgoingNotification(notification.getId(), createMessage(notification.getRecipient(), subject, contents.get(i))));
+            } catch (MessagingException e) {
+                giveUp(notification, e.getMessage());
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Renders the messages of a batch in one pass, or one at a time if the batch fails, so that a notification which
+     * cannot be rendered does not hold back the others.
+     *
+     * @return the contents of the messages, {@code null} for the notifications which could not be rendered.
+     */
+    private List<String> render(List<BillNotification> notifications, Locale locale, List<Map<String, Object>> variables, Instant now) {
+        try {
+            return mailService.renderBatch(NOTIFICATION_TEMPLATE, locale, variables);
+        } catch (RuntimeException e) {
+            log.warn("Rendering {} bill notifications failed, rendering them one at a time", notifications.size(), e);
+        }
+        List<String> contents = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            try {
+                contents.add(mailService.renderBatch(NOTIFICATION_TEMPLATE, locale, List.of(variables.get(i))).get(0));
+            } catch (RuntimeException e) {
+                contents.add(null);
+                retryOrGiveUp(notifications.get(i), "Rendering failed: " + e.getMessage(), now);
+            }
+        }
+        return contents;
+    }
+
+    private MimeMessage createMessage(String emailAddress, String subject, String content) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, false, StandardCharsets.UTF_8.name());
+        message.setTo(emailAddress);
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(subject);
+        message.setText(content, true);
+        return mimeMessage;
+    }
+
+    /**
+     * Sends a batch of messages over one connection.
+     *
+     * @return the errors of the notifications which could not be sent, by notification id.
+     */
+    private Map<Long, Exception> send(List<OutgoingNotification> batch) {
+        Map<Long, Exception> failures = new HashMap<>();
+        if (batch.isEmpty()) {
+            return failures;
+        }
+        try {
+            javaMailSender.send(batch.stream().map(OutgoingNotification::getMessage).toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (OutgoingNotification notification : batch) {
+                Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(notification.getMessage());
+                if (failure != null) {
+                    failures.put(notification.getId(), failure);
+                }
+            }
+        } catch (MailException e) {
+            batch.forEach(notification -> failures.put(notification.getId(), e));
+        }
+        if (!failures.isEmpty()) {
+            log.warn("{} of {} bill notifications could not be sent", failures.size(), batch.size(), failures.values().iterator().next());
+        }
+        return failures;
+    }
+
+    private void recordOutcome(List<OutgoingNotification> batch, Map<Long, Exception> failures) {
+        Instant now = Instant.now();
+        List<Long> ids = batch.stream().map(OutgoingNotification::getId).collect(Collectors.toList());
+        for (BillNotification notification : billNotificationRepository.findAllById(ids)) {
+            Exception failure = failures.get(notification.getId());
+            if (failure == null) {
+                notification.setStatus(BillNotificationStatus.SENT);
+                notification.setSentDate(now);
+                notification.setLastError(null);
+            } else {
+                retryOrGiveUp(notification, failure.getMessage(), now);
+            }
+        }
+    }
+
+    /**
+     * Schedules the next attempt of a failed notification with an exponential backoff, or gives it up once it has been
+     * attempted {@code application.notification.max-attempts} times.
+     */
+    private void retryOrGiveUp(BillNotification notification, String error, Instant now) {
+        if (notification.getAttempts() >= applicationProperties.getNotification().getMaxAttempts()) {
+            giveUp(notification, error);
+        } else {
+            int doublings = Math.min(notification.getAttempts() - 1, 20);
+            notification.setNextAttemptDate(now.plus(applicationProperties.getNotification().getRetryBackoff().multipliedBy(1L << doublings)));
+            notification.setLastError(truncate(error));
+        }
+    }
+
+    private void giveUp(BillNotification notification, String error) {
+        log.warn("Giving up the notification of bill {} after {} attempts: {}", notification.getGenerateBillId(), notification.getAttempts(), error);
+        notification.setStatus(BillNotificationStatus.FAILED);
+        notification.setLastError(truncate(error));
+    }
+
+    /**
+     * Waits until a batch of {@code size} messages, sent since {@code start}, fits the rate limit.
+     *
+     * @return {@code false} if the thread was interrupted.
+     */
+    private boolean throttle(int size, long start) {
+        long minimumNanos = (long) (TimeUnit.SECONDS.toNanos(size) / applicationProperties.getNotification().getMessagesPerSecond());
+        long remainingNanos = minimumNanos - (System.nanoTime() - start);
+        if (remainingNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * A claimed notification and its message.
+     */
+    private static final class OutgoingNotification {
+
+        private final Long id;
+
+        private final MimeMessage message;
+
+        private OutgoingNotification(Long id, MimeMessage message) {
+            this.id = id;
+            this.message = message;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        MimeMessage getMessage() {
+            return message;
+        }
+    }
+}
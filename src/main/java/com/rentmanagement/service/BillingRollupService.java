@@ -0,0 +1,348 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.BillingRollup;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.BillingRollupRepository;
+import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantBuilding;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service maintaining the {@link BillingRollup}s of the buildings as the bills are written and the ledger entries
+ * appended.
+ * <p>
+ * The changes of a transaction are collected, then added to the rollups just before it commits: one atomic update per
+ * building and month, in building and month order so that concurrent transactions cannot deadlock on them. A chunk of
+ * the bill run thus costs a few updates, not one per bill. Rolled back changes are never counted.
+ * <p>
+ * A bill counts in its billing period and for the building it was issued for, both kept on the bill. A ledger entry
+ * counts in the month it was appended and for the first building the tenant rents a room in at that time. Months are
+ * UTC months.
+ */
+@Service
+@Transactional
+public class BillingRollupService {
+
+    private final Logger log = LoggerFactory.getLogger(BillingRollupService.class);
+
+    private final BillingRollupRepository billingRollupRepository;
+
+    private final BuildingRepository buildingRepository;
+
+    private final RoomRepository roomRepository;
+
+    public BillingRollupService(
+        BillingRollupRepository billingRollupRepository,
+        BuildingRepository buildingRepository,
+        RoomRepository roomRepository
+    ) {
+        this.billingRollupRepository = billingRollupRepository;
+        this.buildingRepository = buildingRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    /**
+     * Dates new bills, sets the building they are issued for, and adds them to the rollups of their billing period. Must
+     * be called before the bills are saved, once their billing period is set.
+     *
+     * @param bills the new bills.
+     */
+    public void billsCreated(Collection<GenerateBill> bills) {
+        Map<Long, Long> buildings = findBuildingsOfTenants(
+            bills.stream().map(bill -> bill.getTenant().getId()).filter(Objects::nonNull).collect(Collectors.toSet())
+        );
+        Instant now = Instant.now();
+        RollupChanges changes = currentChanges();
+        for (GenerateBill bill : bills) {
+            bill.setCreatedDate(now);
+            bill.setBuildingId(buildings.get(bill.getTenant().getId()));
+            changes.add(bill, 1L, valueOf(bill.getAmountPending()), valueOf(bill.getElectricityUnit()));
+        }
+    }
+
+    /**
+     * Adds the changes of an updated bill to the rollups.
+     *
+     * @param bill the updated bill.
+     * @param previousAmountPending the amount pending of the bill before the update.
+     * @param previousElectricityUnit the electricity units of the bill before the update.
+     */
+    public void billUpdated(GenerateBill bill, Double previousAmountPending, Double previousElectricityUnit) {
+        currentChanges()
+            .add(
+                bill,
+                0L,
+                valueOf(bill.getAmountPending()) - valueOf(previousAmountPending),
+                valueOf(bill.getElectricityUnit()) - valueOf(previousElectricityUnit)
+            );
+    }
+
+    /**
+     * Removes a deleted bill from the rollups.
+     *
+     * @param bill the deleted bill.
+     */
+    public void billDeleted(GenerateBill bill) {
+        currentChanges().add(bill, -1L, -valueOf(bill.getAmountPending()), -valueOf(bill.getElectricityUnit()));
+    }
+
+    /**
+     * Adds a ledger entry to the rollups.
+     *
+     * @param entry the appended entry.
+     */
+    public void ledgerEntryAppended(LedgerEntry entry) {
+        currentChanges().add(entry);
+    }
+
+    /**
+     * Get the rollups from the {@code from} month to the {@code to} month, optionally of one building.
+     *
+     * @param buildingId the id of the building, or {@code null} for all the buildings.
+     * @param from the first month, the current month if {@code null}.
+     * @param to the last month, the current month if {@code null}.
+     * @return the rollups, ordered by month and building.
+     */
+    @Transactional(readOnly = true)
+    public List<BillingRollup> findSummary(Long buildingId, YearMonth from, YearMonth to) {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        LocalDate fromMonth = (from == null ? currentMonth : from).atDay(1);
+        LocalDate toMonth = (to == null ? currentMonth : to).atDay(1);
+        return billingRollupRepository.findSummary(buildingId, fromMonth, toMonth);
+    }
+
+    /**
+     * The changes collected by the current transaction, to be added to the rollups just before it commits.
+     */
+    private RollupChanges currentChanges() {
+        RollupChanges changes = (RollupChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            RollupChanges newChanges = new RollupChanges();
+            TransactionSynchronizationManager.bindResource(this, newChanges);
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        apply(newChanges);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(BillingRollupService.this);
+                    }
+                }
+            );
+            changes = newChanges;
+        }
+        return changes;
+    }
+
+    private void apply(RollupChanges changes) {
+        Map<RollupKey, RollupChange> byBuilding = new TreeMap<>(changes.byBuilding);
+        if (!changes.byTenant.isEmpty()) {
+            Map<Long, Long> buildings = findBuildingsOfTenants(
+                changes.byTenant.keySet().stream().map(key -> key.id).collect(Collectors.toSet())
+            );
+            changes.byTenant.forEach((key, change) -> {
+                Long buildingId = buildings.get(key.id);
+                if (buildingId != null) {
+                    byBuilding.computeIfAbsent(new RollupKey(buildingId, key.month), k -> new RollupChange()).add(change);
+                }
+            });
+        }
+        byBuilding.forEach(this::addToRollup);
+    }
+
+    private void addToRollup(RollupKey key, RollupChange change) {
+        if (change.isEmpty() || addToExistingRollup(key, change)) {
+            return;
+        }
+        // The first change of the month: locking the building keeps two transactions from both creating the rollup
+        if (buildingRepository.findOneForUpdate(key.id).isEmpty()) {
+            log.debug("Not rolling up the changes of deleted Building {} : {}", key.id, change);
+            return;
+        }
+        if (!addToExistingRollup(key, change)) {
+            billingRollupRepository.save(
+                new BillingRollup()
+                    .buildingId(key.id)
+                    .month(key.month)
+                    .bills(change.bills)
+                    .billed(change.billed)
+                    .paid(change.paid)
+                    .pending(change.pending)
+                    .electricityUnits(change.electricityUnits)
+            );
+        }
+    }
+
+    private boolean addToExistingRollup(RollupKey key, RollupChange change) {
+        return (
+            billingRollupRepository.add(
+                key.id,
+                key.month,
+                change.bills,
+                change.billed,
+                change.paid,
+                change.pending,
+                change.electricityUnits
+            ) >
+            0
+        );
+    }
+
+    private Map<Long, Long> findBuildingsOfTenants(Set<Long> tenantIds) {
+        if (tenantIds.isEmpty()) {
+            return Map.of();
+        }
+        return roomRepository
+            .findBuildingsOfTenants(tenantIds)
+            .stream()
+            .collect(Collectors.toMap(TenantBuilding::getTenantId, TenantBuilding::getBuildingId));
+    }
+
+    private static LocalDate monthOf(Instant instant) {
+        return instant.atZone(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1);
+    }
+
+    private static double valueOf(Number number) {
+        return number == null ? 0D : number.doubleValue();
+    }
+
+    /**
+     * The changes of a transaction, by building and month for the bills, by tenant and month for the ledger entries.
+     */
+    private static class RollupChanges {
+
+        private final Map<RollupKey, RollupChange> byBuilding = new HashMap<>();
+
+        private final Map<RollupKey, RollupChange> byTenant = new HashMap<>();
+
+        void add(GenerateBill bill, long bills, double pending, double electricityUnits) {
+            if (bill.getBuildingId() == null || bill.getBillingPeriod() == null) {
+                return;
+            }
+            RollupChange change = byBuilding.computeIfAbsent(
+                new RollupKey(bill.getBuildingId(), bill.getBillingPeriod()),
+                key -> new RollupChange()
+            );
+            change.bills += bills;
+            change.pending += pending;
+            change.electricityUnits += electricityUnits;
+        }
+
+        void add(LedgerEntry entry) {
+            RollupChange change = byTenant.computeIfAbsent(
+                new RollupKey(entry.getTenantId(), monthOf(entry.getCreatedDate())),
+                key -> new RollupChange()
+            );
+            if (entry.getGenerateBillId() != null) {
+                // The entries of a bill are its charge and its adjustments, not payments
+                change.billed += entry.getEntryType() == LedgerEntryType.PAYMENT ? -entry.getAmount() : entry.getAmount();
+            } else if (entry.getEntryType() == LedgerEntryType.PAYMENT) {
+                change.paid += entry.getAmount();
+            } else {
+                change.billed += entry.getAmount();
+            }
+        }
+    }
+
+    /**
+     * A building, or a tenant, and a month.
+     */
+    private static class RollupKey implements Comparable<RollupKey> {
+
+        private static final Comparator<RollupKey> ORDER = Comparator
+            .comparing((RollupKey key) -> key.id)
+            .thenComparing(key -> key.month);
+
+        private final Long id;
+
+        private final LocalDate month;
+
+        RollupKey(Long id, LocalDate month) {
+            this.id = id;
+            this.month = month;
+        }
+
+        @Override
+        public int compareTo(RollupKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return id.equals(other.id) && month.equals(other.month);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, month);
+        }
+    }
+
+    private static class RollupChange {
+
+        private long bills;
+
+        private double billed;
+
+        private double paid;
+
+        private double pending;
+
+        private double electricityUnits;
+
+        void add(RollupChange other) {
+            bills += other.bills;
+            billed += other.billed;
+            paid += other.paid;
+            pending += other.pending;
+            electricityUnits += other.electricityUnits;
+        }
+
+        boolean isEmpty() {
+            return bills == 0L && billed == 0D && paid == 0D && pending == 0D && electricityUnits == 0D;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "RollupChange{" +
+                "bills=" + bills +
+                ", billed=" + billed +
+                ", paid=" + paid +
+                ", pending=" + pending +
+                ", electricityUnits=" + electricityUnits +
+                "}";
+        }
+    }
+}
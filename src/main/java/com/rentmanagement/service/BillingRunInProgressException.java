@@ -0,0 +1,10 @@
+package com.rentmanagement.service;
+
+public class BillingRunInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BillingRunInProgressException() {
+        super("A bill run is already in progress!");
+    }
+}
@@ -0,0 +1,222 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.dto.BillingRunDTO;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service generating the monthly {@link GenerateBill}s of the tenants.
+ * <p>
+ * Tenants are walked by id in chunks, each chunk in its own transaction, so the bills are written in JDBC batches
+ * (see {@code hibernate.jdbc.batch_size}) and the persistence context never holds more than one chunk. A tenant is
+ * flagged {@code calculatedForCurrentMonth} in the same transaction as its bill, so an interrupted run can simply be
+ * started again: it resumes with the tenants that were not billed yet. The bills are for the UTC month the run started
+ * in, and a tenant that already has a bill for that period is skipped. The monthly charge of each bill is appended to
+ * the ledger of the tenant, which maintains its outstanding amount, the bills are added to the billing rollups of their
+ * buildings, and the notification of the bill is queued. The latest meter readings of a chunk are read in one query,
+ * and become the {@code startingElectricityUnit} of the tenants for their next bill.
+ */
+@Service
+public class BillingService {
+
+    private final Logger log = LoggerFactory.getLogger(BillingService.class);
+
+    private final TenantRepository tenantRepository;
+
+    private final GenerateBillRepository generateBillRepository;
+
+    private final LedgerService ledgerService;
+
+    private final BillNotificationService billNotificationService;
+
+    private final BillingRollupService billingRollupService;
+
+    private final MeterReadingService meterReadingService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BillingService(
+        TenantRepository tenantRepository,
+        GenerateBillRepository generateBillRepository,
+        LedgerService ledgerService,
+        BillNotificationService billNotificationService,
+        BillingRollupService billingRollupService,
+        MeterReadingService meterReadingService,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.generateBillRepository = generateBillRepository;
+        this.ledgerService = ledgerService;
+        this.billNotificationService = billNotificationService;
+        this.billingRollupService = billingRollupService;
+        this.meterReadingService = meterReadingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Bills every tenant flagged {@code monthEndCalculation} or {@code calculateOnDate} that has not been billed for
+     * the current month yet.
+     * <p>
+     * This is scheduled with the {@code application.billing.cron} expression, and disabled by default.
+     *
+     * @return a summary of the run.
+     * @throws BillingRunInProgressException if another run is in progress.
+     */
+    @Scheduled(cron = "${application.billing.cron:-}")
+    public BillingRunDTO runMonthlyBilling() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BillingRunInProgressException();
+        }
+        try {
+            BillingRunDTO run = new BillingRunDTO();
+            run.setBillingPeriod(YearMonth.now(ZoneOffset.UTC).atDay(1));
+            PageRequest chunk = PageRequest.of(0, applicationProperties.getBilling().getChunkSize());
+            Long lastId;
+            while ((lastId = transactionTemplate.execute(status -> billChunk(run, chunk))) != null) {
+                run.setLastTenantId(lastId);
+                run.setChunks(run.getChunks() + 1);
+                log.debug("Billed tenants up to id {}, {} bills so far", lastId, run.getBillsGenerated());
+            }
+            log.info("Monthly bill run done: {}", run);
+            return run;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Creates a bill outside of the bill run, e.g. entered by hand. Like a bill of the run, its charge is appended to the
+     * ledger of the tenant, it is added to the billing rollups, and its notification is queued.
+     *
+     * @param bill the new bill, with its billing period.
+     * @return the saved bill, or empty if its tenant does not exist.
+     */
+    @Transactional
+    public Optional<GenerateBill> createBill(GenerateBill bill) {
+        Optional<Tenant> tenant = tenantRepository.findOneForUpdate(bill.getTenant().getId());
+        if (tenant.isEmpty()) {
+            return Optional.empty();
+        }
+        bill.setTenant(tenant.get());
+        billingRollupService.billsCreated(List.of(bill));
+        GenerateBill result = generateBillRepository.save(bill);
+        charge(tenant.get(), result, "Bill");
+        billNotificationService.enqueue(List.of(result));
+        return Optional.of(result);
+    }
+
+    /**
+     * Bills one chunk of tenants.
+     *
+     * @return the id of the last tenant of the chunk, or {@code null} if there was nothing left to bill.
+     */
+    private Long billChunk(BillingRunDTO run, PageRequest chunk) {
+        long lastId = run.getLastTenantId() == null ? 0L : run.getLastTenantId();
+        List<Tenant> tenants = tenantRepository.findBillableAfter(lastId, chunk);
+        if (tenants.isEmpty()) {
+            return null;
+        }
+        List<Long> tenantIds = tenants.stream().map(Tenant::getId).collect(Collectors.toList());
+        Set<Long> billedTenantIds = generateBillRepository.findTenantIdsBilledFor(tenantIds, run.getBillingPeriod());
+        Map<Long, Double> meterReadings = meterReadingService.findLatestReadings(tenantIds);
+        List<GenerateBill> bills = new ArrayList<>(tenants.size());
+        for (Tenant tenant : tenants) {
+            tenant.setCalculatedForCurrentMonth(true);
+            if (billedTenantIds.contains(tenant.getId())) {
+                log.debug("Tenant {} already has a bill for {}", tenant.getId(), run.getBillingPeriod());
+                continue;
+            }
+            Double meterReading = meterReadings.get(tenant.getId());
+            GenerateBill bill = computeBill(tenant, meterReading).billingPeriod(run.getBillingPeriod());
+            if (meterReading != null) {
+                tenant.setStartingElectricityUnit(meterReading);
+            }
+            bills.add(bill);
+        }
+        billingRollupService.billsCreated(bills);
+        generateBillRepository.saveAll(bills);
+        for (GenerateBill bill : bills) {
+            charge(bill.getTenant(), bill, "Monthly bill");
+        }
+        billNotificationService.enqueue(bills);
+        run.setBillsGenerated(run.getBillsGenerated() + bills.size());
+        return tenants.get(tenants.size() - 1).getId();
+    }
+
+    /**
+     * Appends the charge of a bill to the ledger of its tenant: the amount pending of the bill, less the outstanding
+     * amount it carries over.
+     *
+     * @param tenant the tenant, managed and locked by the current transaction.
+     * @param bill the bill, saved so that the charge is linked to it.
+     */
+    private void charge(Tenant tenant, GenerateBill bill, String description) {
+        double charge = valueOf(bill.getAmountPending()) - valueOf(tenant.getOutStandingAmount());
+        if (charge > 0D) {
+            ledgerService.charge(tenant, bill, charge, description);
+        }
+    }
+
+    /**
+     * Computes the bill of a tenant: the previous outstanding amount, plus the monthly rent, plus the electricity
+     * consumed since {@code startingElectricityUnit} at {@code electricityUnitRate}.
+     *
+     * @param meterReading the latest meter reading of the tenant, {@code null} if there is none.
+     */
+    GenerateBill computeBill(Tenant tenant, Double meterReading) {
+        double consumedUnits = consumedElectricityUnits(tenant, meterReading);
+        double amountPending =
+            valueOf(tenant.getOutStandingAmount()) + valueOf(tenant.getRentAmount()) + consumedUnits * valueOf(tenant.getElectricityUnitRate());
+        return new GenerateBill()
+            .tenant(tenant)
+            .electricityUnit(consumedUnits)
+            .amountPending(amountPending)
+            .sendNotification(Boolean.TRUE.equals(tenant.getSendNotification()));
+    }
+
+    /**
+     * Electricity units consumed since {@code startingElectricityUnit}, the meter reading of the previous bill. Without
+     * a reading the meter is considered unchanged, and a meter that went backwards, e.g. replaced, is not charged.
+     */
+    private double consumedElectricityUnits(Tenant tenant, Double meterReading) {
+        if (meterReading == null) {
+            return 0D;
+        }
+        double consumedUnits = meterReading - valueOf(tenant.getStartingElectricityUnit());
+        if (consumedUnits < 0D) {
+            log.warn("The meter of tenant {} went backwards to {}, not charging electricity", tenant.getId(), meterReading);
+            return 0D;
+        }
+        return consumedUnits;
+    }
+
+    private static double valueOf(Number number) {
+        return number == null ? 0D : number.doubleValue();
+    }
+}
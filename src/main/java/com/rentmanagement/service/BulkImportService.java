@@ -0,0 +1,372 @@
+package com.rentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.Location;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.repository.LocationRepository;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.dto.ImportReportDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service importing {@link Tenant}s and {@link Room}s in bulk from CSV or newline delimited JSON.
+ * <p>
+ * The upload is read one row at a time. Each row is bound to the entity as its JSON representation would be (in CSV,
+ * nested properties are dotted headers such as {@code building.id}) and validated with the bean validation constraints
+ * of the entity. Valid rows are inserted in chunks, each chunk in its own transaction so it is written in JDBC batches
+ * (see {@code hibernate.jdbc.batch_size}); invalid rows are skipped and listed in the returned report.
+ */
+@Service
+public class BulkImportService {
+
+    private final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final TenantRepository tenantRepository;
+
+    private final RoomRepository roomRepository;
+
+    private final BuildingRepository buildingRepository;
+
+    private final LocationRepository locationRepository;
+
+    private final LedgerService ledgerService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties applicationProperties;
+
+    public BulkImportService(
+        ObjectMapper objectMapper,
+        Validator validator,
+        TenantRepository tenantRepository,
+        RoomRepository roomRepository,
+        BuildingRepository buildingRepository,
+        LocationRepository locationRepository,
+        LedgerService ledgerService,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.tenantRepository = tenantRepository;
+        this.roomRepository = roomRepository;
+        this.buildingRepository = buildingRepository;
+        this.locationRepository = locationRepository;
+        this.ledgerService = ledgerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Imports tenants. The outstanding amount of each tenant opens its ledger.
+     *
+     * @param in the rows to import.
+     * @param format the format of the rows.
+     * @return the report of the import.
+     * @throws IOException if the rows cannot be read.
+     */
+    public ImportReportDTO importTenants(InputStream in, DataFormat format) throws IOException {
+        return importRows(
+            in,
+            format,
+            Tenant.class,
+            this::checkTenants,
+            tenant -> {
+                tenantRepository.save(tenant);
+                ledgerService.open(tenant);
+            }
+        );
+    }
+
+    /**
+     * Imports rooms. The building, and the tenant if any, of each room must already exist.
+     *
+     * @param in the rows to import.
+     * @param format the format of the rows.
+     * @return the report of the import.
+     * @throws IOException if the rows cannot be read.
+     */
+    public ImportReportDTO importRooms(InputStream in, DataFormat format) throws IOException {
+        return importRows(in, format, Room.class, this::checkRooms, roomRepository::save);
+    }
+
+    /**
+     * Checks a chunk of tenants. The location of a tenant must exist and must not be the location of another tenant,
+     * already stored or from a previous row of the upload.
+     */
+    private List<List<String>> checkTenants(List<Tenant> tenants) {
+        Set<Long> locationIds = idsOf(tenants, Tenant::getLocation, Location::getId);
+        Set<Long> existingLocationIds = query(locationIds, locationRepository::findExistingIds);
+        Set<Long> rentedLocationIds = query(locationIds, tenantRepository::findRentedLocationIds);
+        Set<Long> importedLocationIds = new HashSet<>();
+        List<List<String>> errors = new ArrayList<>(tenants.size());
+        for (Tenant tenant : tenants) {
+            List<String> tenantErrors = new ArrayList<>();
+            if (tenant.getId() != null) {
+                tenantErrors.add("id: a new tenant cannot already have an ID");
+            }
+            if (tenant.getLocation() != null) {
+                Long locationId = tenant.getLocation().getId();
+                if (locationId == null || !existingLocationIds.contains(locationId)) {
+                    tenantErrors.add("location: not found");
+                } else if (rentedLocationIds.contains(locationId)) {
+                    tenantErrors.add("location: already the location of another tenant");
+                } else if (tenantErrors.isEmpty() && !importedLocationIds.add(locationId)) {
+                    tenantErrors.add("location: already the location of a previous row");
+                }
+            }
+            errors.add(tenantErrors);
+        }
+        return errors;
+    }
+
+    /**
+     * Checks a chunk of rooms. The building, and the tenant if any, of a room must exist.
+     */
+    private List<List<String>> checkRooms(List<Room> rooms) {
+        Set<Long> existingBuildingIds = query(idsOf(rooms, Room::getBuilding, Building::getId), buildingRepository::findExistingIds);
+        Set<Long> existingTenantIds = query(idsOf(rooms, Room::getTenants, Tenant::getId), tenantRepository::findExistingIds);
+        List<List<String>> errors = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            List<String> roomErrors = new ArrayList<>();
+            if (room.getId() != null) {
+                roomErrors.add("id: a new room cannot already have an ID");
+            }
+            if (room.getBuilding() != null && !existingBuildingIds.contains(room.getBuilding().getId())) {
+                roomErrors.add("building: not found");
+            }
+            if (room.getTenants() != null && !existingTenantIds.contains(room.getTenants().getId())) {
+                roomErrors.add("tenants: not found");
+            }
+            errors.add(roomErrors);
+        }
+        return errors;
+    }
+
+    private <T> ImportReportDTO importRows(
+        InputStream in,
+        DataFormat format,
+        Class<T> type,
+        Function<List<T>, List<List<String>>> check,
+        Consumer<T> insert
+    ) throws IOException {
+        int chunkSize = applicationProperties.getBulkImport().getChunkSize();
+        ImportReportDTO report = new ImportReportDTO();
+        List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+        List<String> unreadable = null;
+        try (MappingIterator<?> rows = open(in, format)) {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    node = toNode(rows.nextValue());
+                } catch (JsonProcessingException e) {
+                    // The reader cannot resynchronize after a malformed row, so the rest of the upload is skipped
+                    unreadable = List.of("unreadable row: " + e.getOriginalMessage());
+                    break;
+                }
+                long row = report.getRows() + 1;
+                report.setRows(row);
+                chunk.add(bindRow(row, node, type));
+                if (chunk.size() == chunkSize) {
+                    importChunk(report, chunk, type, check, insert);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(report, chunk, type, check, insert);
+        }
+        if (unreadable != null) {
+            report.setAborted(true);
+            report.setRows(report.getRows() + 1);
+            reject(report, report.getRows(), unreadable);
+        }
+        log.info("Bulk import of {} done: {}", type.getSimpleName(), report);
+        return report;
+    }
+
+    private MappingIterator<?> open(InputStream in, DataFormat format) throws IOException {
+        if (format == DataFormat.CSV) {
+            return csvMapper.readerFor(Map.class).with(CsvSchema.emptySchema().withHeader()).readValues(in);
+        }
+        return objectMapper.readerFor(JsonNode.class).readValues(in);
+    }
+
+    /**
+     * A CSV row as the JSON object it stands for: dotted headers are nested objects, empty cells are left out.
+     */
+    private JsonNode toNode(Object row) {
+        if (row instanceof JsonNode) {
+            return (JsonNode) row;
+        }
+        ObjectNode node = objectMapper.createObjectNode();
+        for (Map.Entry<?, ?> cell : ((Map<?, ?>) row).entrySet()) {
+            String value = cell.getValue() == null ? "" : cell.getValue().toString();
+            if (value.isEmpty()) {
+                continue;
+            }
+            String[] path = cell.getKey().toString().trim().split("\\.");
+            ObjectNode parent = node;
+            for (int i = 0; i < path.length - 1; i++) {
+                parent = parent.with(path[i]);
+            }
+            parent.put(path[path.length - 1], value);
+        }
+        return node;
+    }
+
+    private <T> ImportRow<T> bindRow(long row, JsonNode node, Class<T> type) {
+        ImportRow<T> importRow = new ImportRow<>(row, node);
+        importRow.entity = bind(node, type, importRow.errors);
+        if (importRow.entity != null) {
+            validator
+                .validate(importRow.entity)
+                .forEach(violation -> importRow.errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+        }
+        return importRow;
+    }
+
+    private <T> T bind(JsonNode node, Class<T> type, List<String> errors) {
+        try {
+            return objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            errors.add(e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks the valid rows of a chunk together, then inserts them in a single transaction. If the transaction fails,
+     * e.g. on a unique constraint, the rows are inserted again one at a time, so that only the failing rows are rejected.
+     */
+    private <T> void importChunk(
+        ImportReportDTO report,
+        List<ImportRow<T>> chunk,
+        Class<T> type,
+        Function<List<T>, List<List<String>>> check,
+        Consumer<T> insert
+    ) {
+        List<ImportRow<T>> checked = chunk.stream().filter(ImportRow::isValid).collect(Collectors.toList());
+        if (!checked.isEmpty()) {
+            List<List<String>> errors = check.apply(checked.stream().map(row -> row.entity).collect(Collectors.toList()));
+            for (int i = 0; i < checked.size(); i++) {
+                checked.get(i).errors.addAll(errors.get(i));
+            }
+        }
+        List<ImportRow<T>> valid = checked.stream().filter(ImportRow::isValid).collect(Collectors.toList());
+        if (!valid.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> valid.forEach(row -> insert.accept(row.entity)));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn(
+                    "Bulk import of rows {} to {} failed, importing them one at a time: {}",
+                    chunk.get(0).row,
+                    chunk.get(chunk.size() - 1).row,
+                    e.getMessage()
+                );
+                valid.forEach(row -> insertAlone(row, type, insert));
+            }
+        }
+        for (ImportRow<T> row : chunk) {
+            if (row.isValid()) {
+                report.setImported(report.getImported() + 1);
+            } else {
+                reject(report, row.row, row.errors);
+            }
+        }
+    }
+
+    private <T> void insertAlone(ImportRow<T> row, Class<T> type, Consumer<T> insert) {
+        // The failed transaction may have left an id on the entity, a fresh one is bound from the row
+        T entity = bind(row.node, type, row.errors);
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert.accept(entity));
+        } catch (DataAccessException | TransactionException e) {
+            row.errors.add("not imported: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void reject(ImportReportDTO report, long row, List<String> errors) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < applicationProperties.getBulkImport().getMaxReportedErrors()) {
+            report.getErrors().add(new ImportReportDTO.RowErrorDTO(row, errors));
+        }
+    }
+
+    /**
+     * The ids of the entities referenced by the given entities.
+     */
+    private static <T, R> Set<Long> idsOf(List<T> entities, Function<T, R> reference, Function<R, Long> id) {
+        return entities.stream().map(reference).filter(Objects::nonNull).map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    /**
+     * Runs an {@code in} query on the given ids, unless there are none.
+     */
+    private static Set<Long> query(Set<Long> ids, Function<Collection<Long>, Set<Long>> query) {
+        return ids.isEmpty() ? Collections.emptySet() : query.apply(ids);
+    }
+
+    /**
+     * A row of an upload: the entity bound from it, if any, and the reasons it is rejected for.
+     */
+    private static class ImportRow<T> {
+
+        private final long row;
+
+        private final JsonNode node;
+
+        private final List<String> errors = new ArrayList<>();
+
+        private T entity;
+
+        ImportRow(long row, JsonNode node) {
+            this.row = row;
+            this.node = node;
+        }
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+}
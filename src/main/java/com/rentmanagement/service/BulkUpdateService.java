@@ -0,0 +1,137 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.GenerateBill_;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.Tenant_;
+import com.rentmanagement.service.criteria.GenerateBillCriteria;
+import com.rentmanagement.service.criteria.TenantCriteria;
+import com.rentmanagement.service.dto.GenerateBillPatchDTO;
+import com.rentmanagement.service.dto.TenantPatchDTO;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import javax.persistence.metamodel.SingularAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service patching all the tenants or bills matching a criteria with a single update, instead of reading and saving
+ * them one by one.
+ * <p>
+ * The entities are selected by the specifications of the {@link TenantQueryService} and {@link GenerateBillQueryService},
+ * as an in subquery of the update, and their versions are incremented so that the single updates made from an older
+ * version fail. Hibernate clears the regions of the patched entities from the second-level cache, and the query results
+ * depending on their tables, when the transaction completes.
+ */
+@Service
+@Transactional
+public class BulkUpdateService {
+
+    private final Logger log = LoggerFactory.getLogger(BulkUpdateService.class);
+
+    private final EntityManager entityManager;
+
+    private final TenantQueryService tenantQueryService;
+
+    private final GenerateBillQueryService generateBillQueryService;
+
+    public BulkUpdateService(
+        EntityManager entityManager,
+        TenantQueryService tenantQueryService,
+        GenerateBillQueryService generateBillQueryService
+    ) {
+        this.entityManager = entityManager;
+        this.tenantQueryService = tenantQueryService;
+        this.generateBillQueryService = generateBillQueryService;
+    }
+
+    /**
+     * Patch the tenants matching the criteria.
+     *
+     * @param criteria the criteria which the tenants to patch should match.
+     * @param patch the fields to patch.
+     * @return the number of patched tenants.
+     */
+    public int patchTenants(TenantCriteria criteria, TenantPatchDTO patch) {
+        log.debug("Patching Tenants by criteria: {} with {}", criteria, patch);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Tenant> update = builder.createCriteriaUpdate(Tenant.class);
+        Root<Tenant> root = update.from(Tenant.class);
+        if (patch.getRentAmount() != null) {
+            update.set(root.get(Tenant_.rentAmount), patch.getRentAmount());
+        }
+        if (patch.getElectricityUnitRate() != null) {
+            update.set(root.get(Tenant_.electricityUnitRate), patch.getElectricityUnitRate());
+        }
+        if (patch.getSendNotification() != null) {
+            update.set(root.get(Tenant_.sendNotification), patch.getSendNotification());
+        }
+        if (patch.getMonthEndCalculation() != null) {
+            update.set(root.get(Tenant_.monthEndCalculation), patch.getMonthEndCalculation());
+        }
+        if (patch.getCalculateOnDate() != null) {
+            update.set(root.get(Tenant_.calculateOnDate), patch.getCalculateOnDate());
+        }
+        if (patch.getCalculatedForCurrentMonth() != null) {
+            update.set(root.get(Tenant_.calculatedForCurrentMonth), patch.getCalculatedForCurrentMonth());
+        }
+        update.set(root.get(Tenant_.version), builder.sum(root.get(Tenant_.version), 1L));
+        update.where(
+            root.get(Tenant_.id).in(matching(update, Tenant.class, Tenant_.id, tenantQueryService.createSpecification(criteria)))
+        );
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Patch the bills matching the criteria.
+     *
+     * @param criteria the criteria which the bills to patch should match.
+     * @param patch the fields to patch.
+     * @return the number of patched bills.
+     */
+    public int patchGenerateBills(GenerateBillCriteria criteria, GenerateBillPatchDTO patch) {
+        log.debug("Patching GenerateBills by criteria: {} with {}", criteria, patch);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<GenerateBill> update = builder.createCriteriaUpdate(GenerateBill.class);
+        Root<GenerateBill> root = update.from(GenerateBill.class);
+        if (patch.getSendNotification() != null) {
+            update.set(root.get(GenerateBill_.sendNotification), patch.getSendNotification());
+        }
+        update.set(root.get(GenerateBill_.version), builder.sum(root.get(GenerateBill_.version), 1L));
+        update.where(
+            root
+                .get(GenerateBill_.id)
+                .in(matching(update, GenerateBill.class, GenerateBill_.id, generateBillQueryService.createSpecification(criteria)))
+        );
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * The ids of the entities matching the specification, as a subquery of the update: the joins of the specification
+     * stay in the subquery, an update having none.
+     */
+    private <T> Subquery<Long> matching(
+        CriteriaUpdate<T> update,
+        Class<T> entityClass,
+        SingularAttribute<? super T, Long> id,
+        Specification<T> specification
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        Subquery<Long> ids = update.subquery(Long.class);
+        Root<T> root = ids.from(entityClass);
+        ids.select(root.get(id));
+        // The specifications build their own subqueries from the query they are given, which an update is not
+        Predicate predicate = specification.toPredicate(root, builder.createQuery(Long.class), builder);
+        if (predicate != null) {
+            ids.where(predicate);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,15 @@
+package com.rentmanagement.service;
+
+/**
+ * The formats of the bulk imports and exports.
+ */
+public enum DataFormat {
+    /**
+     * {@code text/csv}, with a header row.
+     */
+    CSV,
+    /**
+     * {@code application/x-ndjson}, one JSON object per line.
+     */
+    NDJSON,
+}
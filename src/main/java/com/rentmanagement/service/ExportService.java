@@ -0,0 +1,125 @@
+package com.rentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rentmanagement.repository.GenerateBillExport;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.RoomExport;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantExport;
+import com.rentmanagement.repository.TenantRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service exporting bills, tenants and rooms as CSV or newline delimited JSON.
+ * <p>
+ * Rows are read through forward-only queries of scalar columns and written to the output as they are read, so an
+ * export holds neither the rows nor managed entities in memory. The output is left open.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private final CsvMapper csvMapper = (CsvMapper) new CsvMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectWriter ndjsonWriter;
+
+    private final GenerateBillRepository generateBillRepository;
+
+    private final TenantRepository tenantRepository;
+
+    private final RoomRepository roomRepository;
+
+    public ExportService(
+        ObjectMapper objectMapper,
+        GenerateBillRepository generateBillRepository,
+        TenantRepository tenantRepository,
+        RoomRepository roomRepository
+    ) {
+        this.ndjsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generateBillRepository = generateBillRepository;
+        this.tenantRepository = tenantRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    /**
+     * Exports the bills, optionally of one tenant or of the tenants of one building.
+     *
+     * @param tenantId the id of the tenant, or {@code null}.
+     * @param buildingId the id of the building, or {@code null}.
+     * @param format the format of the export.
+     * @param out the output.
+     * @throws IOException if the output cannot be written.
+     */
+    public void exportBills(Long tenantId, Long buildingId, DataFormat format, OutputStream out) throws IOException {
+        try (Stream<GenerateBillExport> rows = generateBillRepository.streamForExport(tenantId, buildingId)) {
+            write(rows, GenerateBillExport.class, format, out);
+        }
+    }
+
+    /**
+     * Exports the tenants, optionally of one building and starting their rent within a date range.
+     *
+     * @param buildingId the id of the building, or {@code null}.
+     * @param from the first rent start date, or {@code null}.
+     * @param to the last rent start date, or {@code null}.
+     * @param format the format of the export.
+     * @param out the output.
+     * @throws IOException if the output cannot be written.
+     */
+    public void exportTenants(Long buildingId, LocalDate from, LocalDate to, DataFormat format, OutputStream out) throws IOException {
+        try (Stream<TenantExport> rows = tenantRepository.streamForExport(buildingId, from, to)) {
+            write(rows, TenantExport.class, format, out);
+        }
+    }
+
+    /**
+     * Exports the rooms, optionally of one building or of one tenant.
+     *
+     * @param buildingId the id of the building, or {@code null}.
+     * @param tenantId the id of the tenant, or {@code null}.
+     * @param format the format of the export.
+     * @param out the output.
+     * @throws IOException if the output cannot be written.
+     */
+    public void exportRooms(Long buildingId, Long tenantId, DataFormat format, OutputStream out) throws IOException {
+        try (Stream<RoomExport> rows = roomRepository.streamForExport(buildingId, tenantId)) {
+            write(rows, RoomExport.class, format, out);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, Class<T> type, DataFormat format, OutputStream out) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+        if (format == DataFormat.NDJSON) {
+            while (iterator.hasNext()) {
+                ndjsonWriter.writeValue(out, iterator.next());
+                out.write('\n');
+            }
+            out.flush();
+            return;
+        }
+        ObjectWriter csvWriter = csvMapper
+            .writer(csvMapper.schemaFor(type).withHeader())
+            .with(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter writer = csvWriter.writeValues(out)) {
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,88 @@
+package com.rentmanagement.service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service creating the monthly partitions of the {@code generate_bill} table ahead of the bills.
+ * <p>
+ * On PostgreSQL the table is range-partitioned by billing period, one partition per month, see the
+ * {@code 20261018090600_added_billing_period} changelog. The partitions of the current and of the next month are
+ * created at startup and then daily, so that bills do not fall in the default partition. Other databases are not
+ * partitioned, and this service does nothing there.
+ */
+@Service
+public class GenerateBillPartitionService {
+
+    private final Logger log = LoggerFactory.getLogger(GenerateBillPartitionService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned;
+
+    public GenerateBillPartitionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the partitions of the current and of the next month, if the table is partitioned and they do not exist.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * ?", zone = "UTC")
+    public void createUpcomingPartitions() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        createPartition(currentMonth);
+        createPartition(currentMonth.plusMonths(1));
+    }
+
+    /**
+     * Creates the partition of a billing period, if the table is partitioned and it does not exist.
+     *
+     * @param period the billing period.
+     */
+    public void createPartition(YearMonth period) {
+        if (!isPartitioned()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute(partitionDdl(period));
+        } catch (DataAccessException e) {
+            // e.g. the default partition already holds bills of the period: they must be moved by hand
+            log.error("Could not create the generate_bill partition of {}", period, e);
+        }
+    }
+
+    static String partitionDdl(YearMonth period) {
+        return String.format(
+            "create table if not exists generate_bill_%04d%02d partition of generate_bill for values from ('%s') to ('%s')",
+            period.getYear(),
+            period.getMonthValue(),
+            period.atDay(1),
+            period.plusMonths(1).atDay(1)
+        );
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned =
+                "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName())) &&
+                Boolean.TRUE.equals(
+                    jdbcTemplate.queryForObject(
+                        "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass('generate_bill'))",
+                        Boolean.class
+                    )
+                );
+            log.debug("generate_bill partitioned: {}", partitioned);
+        }
+        return partitioned;
+    }
+}
@@ -0,0 +1,108 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.*; // for static metamodels
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.service.criteria.GenerateBillCriteria;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link GenerateBill} entities in the database.
+ * The main input is a {@link GenerateBillCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link GenerateBill} or a {@link Page} of {@link GenerateBill} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GenerateBillQueryService extends QueryService<GenerateBill> {
+
+    private final Logger log = LoggerFactory.getLogger(GenerateBillQueryService.class);
+
+    private final GenerateBillRepository generateBillRepository;
+
+    public GenerateBillQueryService(GenerateBillRepository generateBillRepository) {
+        this.generateBillRepository = generateBillRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link GenerateBill} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<GenerateBill> findByCriteria(GenerateBillCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<GenerateBill> specification = createSpecification(criteria);
+        return generateBillRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link GenerateBill} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<GenerateBill> findByCriteria(GenerateBillCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<GenerateBill> specification = createSpecification(criteria);
+        return generateBillRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(GenerateBillCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<GenerateBill> specification = createSpecification(criteria);
+        return generateBillRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link GenerateBillCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<GenerateBill> createSpecification(GenerateBillCriteria criteria) {
+        Specification<GenerateBill> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), GenerateBill_.id));
+            }
+            if (criteria.getAmountPending() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getAmountPending(), GenerateBill_.amountPending));
+            }
+            if (criteria.getSendNotification() != null) {
+                specification = specification.and(buildSpecification(criteria.getSendNotification(), GenerateBill_.sendNotification));
+            }
+            if (criteria.getElectricityUnit() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getElectricityUnit(), GenerateBill_.electricityUnit));
+            }
+            if (criteria.getBillingPeriod() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBillingPeriod(), GenerateBill_.billingPeriod));
+            }
+            if (criteria.getTenantId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getTenantId(), root -> root.get(GenerateBill_.tenant).get(Tenant_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+}
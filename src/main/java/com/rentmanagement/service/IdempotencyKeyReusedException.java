@@ -0,0 +1,10 @@
+package com.rentmanagement.service;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyKeyReusedException() {
+        super("The idempotency key was already sent with another request!");
+    }
+}
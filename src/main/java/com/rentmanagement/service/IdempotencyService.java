@@ -0,0 +1,186 @@
+package com.rentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.config.Constants;
+import com.rentmanagement.domain.IdempotencyKey;
+import com.rentmanagement.repository.IdempotencyKeyRepository;
+import com.rentmanagement.security.SecurityUtils;
+import com.rentmanagement.service.dto.IdempotentResponseDTO;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service running the requests sent with an idempotency key at most once, and replaying their response to the retries.
+ * <p>
+ * The keys are scoped by the current user and the operation: a key sent by another user is another key.
+ * <p>
+ * The key is saved first in the transaction of the request, with the response once the request completes, so a key is
+ * stored if and only if its request committed: a failed request can be retried with the same key. A concurrent request
+ * with the same key waits on the unique index of the keys until the first one ends, then fails with a
+ * {@link ConcurrencyFailureException} and can be retried. Committed responses are put in an in-memory front cache, so
+ * most retries are answered without reading the database.
+ */
+@Service
+@Transactional
+public class IdempotencyService {
+
+    private final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties applicationProperties;
+
+    public IdempotencyService(
+        IdempotencyKeyRepository idempotencyKeyRepository,
+        CacheManager cacheManager,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Runs a request once per idempotency key, or replays the response stored for the key.
+     *
+     * @param scope the operation the request is sent to, e.g. {@code generateBill}.
+     * @param requestKey the idempotency key sent with the request, the request is simply run if {@code null}.
+     * @param request the body of the request, hashed before the request runs.
+     * @param responseType the type of the body of the response.
+     * @param action the request.
+     * @param <T> the type of the body of the response.
+     * @return the response of the request, or the stored response flagged replayed.
+     * @throws IdempotencyKeyReusedException if the key was already sent with another request body.
+     * @throws ConcurrencyFailureException if a request with the same key committed while this one was running.
+     */
+    public <T> IdempotentResponseDTO<T> execute(
+        String scope,
+        String requestKey,
+        Object request,
+        Class<T> responseType,
+        Supplier<IdempotentResponseDTO<T>> action
+    ) {
+        if (requestKey == null) {
+            return action.get();
+        }
+        String login = SecurityUtils.getCurrentUserLogin().orElse(Constants.SYSTEM);
+        String requestHash = hash(request);
+        Optional<IdempotencyKey> stored = findStored(login, scope, requestKey);
+        if (stored.isPresent()) {
+            log.debug("Replaying the response of {} key {} of {}", scope, requestKey, login);
+            return replay(stored.get(), requestHash, responseType);
+        }
+        IdempotencyKey idempotencyKey;
+        try {
+            idempotencyKey =
+                idempotencyKeyRepository.saveAndFlush(
+                    new IdempotencyKey()
+                        .login(login)
+                        .scope(scope)
+                        .requestKey(requestKey)
+                        .requestHash(requestHash)
+                        .createdDate(Instant.now())
+                );
+        } catch (DataIntegrityViolationException e) {
+            throw new ConcurrencyFailureException("A request with the same idempotency key was running", e);
+        }
+        IdempotentResponseDTO<T> response = action.get();
+        idempotencyKey
+            .responseStatus(response.getStatus())
+            .responseLocation(response.getLocation())
+            .responseBody(write(response.getBody()));
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    frontCache().put(cacheKey(login, scope, requestKey), idempotencyKey);
+                }
+            }
+        );
+        return response;
+    }
+
+    /**
+     * Deletes the keys older than {@code application.idempotency.time-to-live}, every hour.
+     */
+    @Scheduled(cron = "0 30 * * * ?", zone = "UTC")
+    public void purgeExpiredKeys() {
+        Instant createdBefore = Instant.now().minus(applicationProperties.getIdempotency().getTimeToLive());
+        int purged = idempotencyKeyRepository.deleteByCreatedDateBefore(createdBefore);
+        log.debug("Purged {} idempotency keys created before {}", purged, createdBefore);
+    }
+
+    private Optional<IdempotencyKey> findStored(String login, String scope, String requestKey) {
+        IdempotencyKey cached = frontCache().get(cacheKey(login, scope, requestKey), IdempotencyKey.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return idempotencyKeyRepository.findOneByLoginAndScopeAndRequestKey(login, scope, requestKey);
+    }
+
+    private <T> IdempotentResponseDTO<T> replay(IdempotencyKey stored, String requestHash, Class<T> responseType) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        try {
+            T body = stored.getResponseBody() == null ? null : objectMapper.readValue(stored.getResponseBody(), responseType);
+            return new IdempotentResponseDTO<>(stored.getResponseStatus(), stored.getResponseLocation(), body, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(request == null ? new byte[0] : write(request));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Cache frontCache() {
+        return Objects.requireNonNull(cacheManager.getCache(IdempotencyKeyRepository.IDEMPOTENT_RESPONSES_CACHE));
+    }
+
+    private static String cacheKey(String login, String scope, String requestKey) {
+        return login + ":" + scope + ":" + requestKey;
+    }
+}
@@ -0,0 +1,202 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.TenantRepository;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service appending charges and payments to the {@link LedgerEntry ledger} of the tenants.
+ * <p>
+ * The outstanding amount of a tenant is maintained incrementally: each entry is applied to the balance stored on the
+ * tenant, in the same transaction, and the resulting balance is recorded on the entry. Entries appended by id add their
+ * amount to the balance in a single update, without locking the tenant beforehand, so that concurrent entries are
+ * neither lost nor blocked while the tenant is read. The entries are also added to the billing rollup of the building
+ * of the tenant.
+ * <p>
+ * The entries appended for a bill are linked to it: editing its amount pending appends the difference, and deleting it
+ * reverses them.
+ */
+@Service
+@Transactional
+public class LedgerService {
+
+    private final Logger log = LoggerFactory.getLogger(LedgerService.class);
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    private final TenantRepository tenantRepository;
+
+    private final BillingRollupService billingRollupService;
+
+    public LedgerService(
+        LedgerEntryRepository ledgerEntryRepository,
+        TenantRepository tenantRepository,
+        BillingRollupService billingRollupService
+    ) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.tenantRepository = tenantRepository;
+        this.billingRollupService = billingRollupService;
+    }
+
+    /**
+     * Appends an entry to the ledger of the "tenantId" tenant and updates its outstanding amount.
+     * <p>
+     * The tenant row stays locked by the update until the end of the transaction, so the balance read back is the one
+     * resulting from this entry. A copy of the tenant managed by the current transaction is not refreshed: writing it
+     * afterwards fails on its version.
+     *
+     * @param tenantId the id of the tenant.
+     * @param entryType the type of the entry.
+     * @param amount the amount of the entry, strictly positive.
+     * @param description the description of the entry.
+     * @return the appended entry, or empty if the tenant does not exist.
+     */
+    public Optional<LedgerEntry> append(Long tenantId, LedgerEntryType entryType, double amount, String description) {
+        return append(tenantId, null, entryType, amount, description);
+    }
+
+    private Optional<LedgerEntry> append(
+        Long tenantId,
+        Long generateBillId,
+        LedgerEntryType entryType,
+        double amount,
+        String description
+    ) {
+        if (tenantRepository.addToOutStandingAmount(tenantId, entryType == LedgerEntryType.PAYMENT ? -amount : amount) == 0) {
+            return Optional.empty();
+        }
+        double balance = tenantRepository.findOutStandingAmountById(tenantId).orElseThrow();
+        return Optional.of(save(tenantId, generateBillId, entryType, amount, balance, description));
+    }
+
+    /**
+     * Appends an entry to the ledger of a tenant and updates its outstanding amount.
+     * <p>
+     * The tenant must be managed and locked by the current transaction.
+     *
+     * @param tenant the tenant.
+     * @param entryType the type of the entry.
+     * @param amount the amount of the entry, strictly positive.
+     * @param description the description of the entry.
+     * @return the appended entry.
+     */
+    public LedgerEntry append(Tenant tenant, LedgerEntryType entryType, double amount, String description) {
+        double previous = tenant.getOutStandingAmount() == null ? 0D : tenant.getOutStandingAmount();
+        double balance = entryType == LedgerEntryType.PAYMENT ? previous - amount : previous + amount;
+        tenant.setOutStandingAmount(balance);
+        return save(tenant.getId(), null, entryType, amount, balance, description);
+    }
+
+    /**
+     * Appends the charge of a new bill to the ledger of its tenant and updates its outstanding amount.
+     * <p>
+     * The tenant must be managed and locked by the current transaction, and the bill saved.
+     *
+     * @param tenant the tenant of the bill.
+     * @param bill the bill.
+     * @param amount the amount of the charge, strictly positive.
+     * @param description the description of the entry.
+     * @return the appended entry.
+     */
+    public LedgerEntry charge(Tenant tenant, GenerateBill bill, double amount, String description) {
+        double balance = (tenant.getOutStandingAmount() == null ? 0D : tenant.getOutStandingAmount()) + amount;
+        tenant.setOutStandingAmount(balance);
+        return save(tenant.getId(), bill.getId(), LedgerEntryType.CHARGE, amount, balance, description);
+    }
+
+    /**
+     * Adjusts the ledger of the tenant of an updated bill by the change of its amount pending: a charge if it went up, a
+     * payment if it went down.
+     *
+     * @param bill the updated bill.
+     * @param previousAmountPending the amount pending of the bill before the update.
+     * @return the appended entry, or empty if the amount pending did not change.
+     */
+    public Optional<LedgerEntry> billUpdated(GenerateBill bill, Double previousAmountPending) {
+        double delta = valueOf(bill.getAmountPending()) - valueOf(previousAmountPending);
+        if (delta == 0D) {
+            return Optional.empty();
+        }
+        LedgerEntryType entryType = delta > 0D ? LedgerEntryType.CHARGE : LedgerEntryType.PAYMENT;
+        return append(bill.getTenant().getId(), bill.getId(), entryType, Math.abs(delta), "Bill adjustment");
+    }
+
+    /**
+     * Reverses the entries appended to the ledger of its tenant for a deleted bill, so that its outstanding amount no
+     * longer includes the bill.
+     *
+     * @param bill the deleted bill.
+     * @return the appended entry, or empty if nothing was appended for the bill.
+     */
+    public Optional<LedgerEntry> billDeleted(GenerateBill bill) {
+        double net = ledgerEntryRepository.sumByGenerateBillId(bill.getId());
+        if (net == 0D) {
+            return Optional.empty();
+        }
+        LedgerEntryType entryType = net > 0D ? LedgerEntryType.PAYMENT : LedgerEntryType.CHARGE;
+        return append(bill.getTenant().getId(), bill.getId(), entryType, Math.abs(net), "Bill deleted");
+    }
+
+    /**
+     * Opens the ledger of a new tenant with its initial outstanding amount, if any.
+     *
+     * @param tenant the new tenant, managed by the current transaction.
+     */
+    public void open(Tenant tenant) {
+        double opening = tenant.getOutStandingAmount() == null ? 0D : tenant.getOutStandingAmount();
+        tenant.setOutStandingAmount(0D);
+        if (opening > 0D) {
+            append(tenant, LedgerEntryType.CHARGE, opening, "Opening balance");
+        } else if (opening < 0D) {
+            append(tenant, LedgerEntryType.PAYMENT, -opening, "Opening balance");
+        }
+    }
+
+    /**
+     * Get a page of the ledger of a tenant, latest entries first.
+     *
+     * @param tenantId the id of the tenant.
+     * @param pageable the pagination information.
+     * @return the page of entries.
+     */
+    @Transactional(readOnly = true)
+    public Page<LedgerEntry> findByTenant(Long tenantId, Pageable pageable) {
+        return ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenantId, pageable);
+    }
+
+    private LedgerEntry save(
+        Long tenantId,
+        Long generateBillId,
+        LedgerEntryType entryType,
+        double amount,
+        double balance,
+        String description
+    ) {
+        LedgerEntry entry = new LedgerEntry()
+            .tenantId(tenantId)
+            .generateBillId(generateBillId)
+            .entryType(entryType)
+            .amount(amount)
+            .balance(balance)
+            .description(description)
+            .createdDate(Instant.now());
+        log.debug("Appending to the ledger of tenant {} : {}", tenantId, entry);
+        billingRollupService.ledgerEntryAppended(entry);
+        return ledgerEntryRepository.save(entry);
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0D : value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.MeterReadingBlock;
+import com.rentmanagement.service.dto.MeterReadingDTO;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta encoding of the readings of a {@link MeterReadingBlock}.
+ * <p>
+ * Each reading is written as two variable-length integers: the seconds elapsed since the previous reading, or since the
+ * start of the month for the first one, then the zigzag-encoded change of the index since the previous reading, or
+ * since zero, in hundredths of a unit. Daily readings of a household meter take about five bytes each.
+ */
+final class MeterReadingCodec {
+
+    private static final double HUNDREDTHS = 100D;
+
+    private MeterReadingCodec() {}
+
+    /**
+     * Encodes the readings of a month.
+     *
+     * @param month the first day of the month.
+     * @param readings the readings of the month, ordered by time.
+     * @return the encoded readings.
+     */
+    static byte[] encode(LocalDate month, List<MeterReadingDTO> readings) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(readings.size() * 5);
+        long previousReadAt = startOf(month);
+        long previousValue = 0L;
+        for (MeterReadingDTO reading : readings) {
+            long readAt = reading.getReadAt().getEpochSecond();
+            long value = toHundredths(reading.getValue());
+            write(out, readAt - previousReadAt, value - previousValue);
+            previousReadAt = readAt;
+            previousValue = value;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Appends a reading to encoded readings without decoding them.
+     *
+     * @param data the encoded readings.
+     * @param lastReadAt the time of the last of the encoded readings.
+     * @param lastValue the value of the last of the encoded readings.
+     * @param reading the reading to append, after the last one.
+     * @return the encoded readings, followed by the new reading.
+     */
+    static byte[] append(byte[] data, Instant lastReadAt, double lastValue, MeterReadingDTO reading) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 5);
+        out.writeBytes(data);
+        write(
+            out,
+            reading.getReadAt().getEpochSecond() - lastReadAt.getEpochSecond(),
+            toHundredths(reading.getValue()) - toHundredths(lastValue)
+        );
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the readings of a month.
+     *
+     * @param month the first day of the month.
+     * @param data the encoded readings.
+     * @return the readings, ordered by time.
+     */
+    static List<MeterReadingDTO> decode(LocalDate month, byte[] data) {
+        List<MeterReadingDTO> readings = new ArrayList<>();
+        long readAt = startOf(month);
+        long value = 0L;
+        int position = 0;
+        while (position < data.length) {
+            long elapsed = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                elapsed |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            long change = 0L;
+            shift = 0;
+            do {
+                b = data[position++];
+                change |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            readAt += elapsed;
+            value += (change >>> 1) ^ -(change & 1);
+            readings.add(new MeterReadingDTO(Instant.ofEpochSecond(readAt), value / HUNDREDTHS));
+        }
+        return readings;
+    }
+
+    private static void write(ByteArrayOutputStream out, long elapsed, long change) {
+        if (elapsed < 0) {
+            throw new IllegalArgumentException("Meter readings must be encoded in time order");
+        }
+        writeVarLong(out, elapsed);
+        writeVarLong(out, (change << 1) ^ (change >> 63));
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long toHundredths(double value) {
+        return Math.round(value * HUNDREDTHS);
+    }
+
+    private static long startOf(LocalDate month) {
+        return month.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+}
@@ -0,0 +1,211 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.domain.MeterReadingBlock;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.MeterReadingBlockRepository;
+import com.rentmanagement.repository.TenantMeterReading;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.dto.MeterReadingDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service recording and querying the electricity meter readings of the tenants.
+ * <p>
+ * The readings of a tenant are stored in one {@link MeterReadingBlock} per month. A reading later than the last one of
+ * its month, the usual case, is appended to the encoded block; an earlier one makes the block be decoded and encoded
+ * again. Writers of the readings of a tenant are serialized by a lock on the tenant row. Months are UTC months.
+ */
+@Service
+@Transactional
+public class MeterReadingService {
+
+    /**
+     * Consumption rates are not compared to the median rate of fewer readings.
+     */
+    private static final int MIN_RATES_FOR_ANOMALIES = 4;
+
+    private static final double SECONDS_PER_DAY = 86400D;
+
+    /**
+     * Readings closer than an hour are rated over an hour, so a correction a few seconds apart is not a spike.
+     */
+    private static final long MIN_RATE_SECONDS = 3600L;
+
+    private final Logger log = LoggerFactory.getLogger(MeterReadingService.class);
+
+    private final MeterReadingBlockRepository meterReadingBlockRepository;
+
+    private final TenantRepository tenantRepository;
+
+    private final ApplicationProperties applicationProperties;
+
+    public MeterReadingService(
+        MeterReadingBlockRepository meterReadingBlockRepository,
+        TenantRepository tenantRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.meterReadingBlockRepository = meterReadingBlockRepository;
+        this.tenantRepository = tenantRepository;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Records a meter reading of the "tenantId" tenant. A reading at the same second as a recorded one replaces it.
+     *
+     * @param tenantId the id of the tenant.
+     * @param readAt the time of the reading, now if {@code null}.
+     * @param value the index of the meter.
+     * @return the recorded reading, with the consumption since the previous reading, or empty if the tenant does not
+     * exist.
+     */
+    public Optional<MeterReadingDTO> record(Long tenantId, Instant readAt, double value) {
+        return tenantRepository.findOneForUpdate(tenantId).map(tenant -> record(tenant, readAt, value));
+    }
+
+    private MeterReadingDTO record(Tenant tenant, Instant readAt, double value) {
+        Long tenantId = tenant.getId();
+        MeterReadingDTO reading = new MeterReadingDTO(
+            (readAt == null ? Instant.now() : readAt).truncatedTo(ChronoUnit.SECONDS),
+            Math.round(value * 100D) / 100D
+        );
+        LocalDate month = monthOf(reading.getReadAt());
+        Optional<MeterReadingBlock> existing = meterReadingBlockRepository.findByTenantIdAndMonth(tenantId, month);
+        MeterReadingDTO previous;
+        MeterReadingBlock block;
+        if (existing.isEmpty()) {
+            previous = findPreviousReading(tenantId, month);
+            block = new MeterReadingBlock().tenantId(tenantId).month(month).readingCount(1);
+            block.setReadings(MeterReadingCodec.encode(month, List.of(reading)));
+            block.lastReadAt(reading.getReadAt()).lastValue(reading.getValue());
+        } else if (reading.getReadAt().isAfter(existing.get().getLastReadAt())) {
+            block = existing.get();
+            previous = new MeterReadingDTO(block.getLastReadAt(), block.getLastValue());
+            block.setReadings(MeterReadingCodec.append(block.getReadings(), block.getLastReadAt(), block.getLastValue(), reading));
+            block.setReadingCount(block.getReadingCount() + 1);
+            block.lastReadAt(reading.getReadAt()).lastValue(reading.getValue());
+        } else {
+            block = existing.get();
+            List<MeterReadingDTO> readings = MeterReadingCodec.decode(month, block.getReadings());
+            readings.removeIf(recorded -> recorded.getReadAt().equals(reading.getReadAt()));
+            readings.add(reading);
+            readings.sort(Comparator.comparing(MeterReadingDTO::getReadAt));
+            int index = readings.indexOf(reading);
+            previous = index > 0 ? readings.get(index - 1) : findPreviousReading(tenantId, month);
+            MeterReadingDTO last = readings.get(readings.size() - 1);
+            block.setReadings(MeterReadingCodec.encode(month, readings));
+            block.setReadingCount(readings.size());
+            block.lastReadAt(last.getReadAt()).lastValue(last.getValue());
+        }
+        if (previous != null) {
+            reading.setConsumption(reading.getValue() - previous.getValue());
+            reading.setAnomaly(reading.getConsumption() < 0D);
+        }
+        log.debug("Recording a meter reading of tenant {} : {}", tenantId, reading);
+        meterReadingBlockRepository.save(block);
+        return reading;
+    }
+
+    /**
+     * Get the meter readings of a tenant from the {@code from} day to the {@code to} day, both included, with the
+     * consumption since the previous reading and the anomalies flagged.
+     *
+     * @param tenantId the id of the tenant.
+     * @param from the first day.
+     * @param to the last day.
+     * @return the readings, ordered by time.
+     */
+    @Transactional(readOnly = true)
+    public List<MeterReadingDTO> findReadings(Long tenantId, LocalDate from, LocalDate to) {
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        LocalDate fromMonth = from.withDayOfMonth(1);
+        MeterReadingDTO previous = findPreviousReading(tenantId, fromMonth);
+        List<MeterReadingDTO> readings = new ArrayList<>();
+        List<Double> rates = new ArrayList<>();
+        List<MeterReadingBlock> blocks = meterReadingBlockRepository.findByTenantIdAndMonthBetweenOrderByMonth(
+            tenantId,
+            fromMonth,
+            to.withDayOfMonth(1)
+        );
+        for (MeterReadingBlock block : blocks) {
+            for (MeterReadingDTO reading : MeterReadingCodec.decode(block.getMonth(), block.getReadings())) {
+                if (!reading.getReadAt().isBefore(end)) {
+                    break;
+                }
+                if (!reading.getReadAt().isBefore(start)) {
+                    Double rate = null;
+                    if (previous != null) {
+                        reading.setConsumption(reading.getValue() - previous.getValue());
+                        long seconds = Math.max(previous.getReadAt().until(reading.getReadAt(), ChronoUnit.SECONDS), MIN_RATE_SECONDS);
+                        rate = reading.getConsumption() * SECONDS_PER_DAY / seconds;
+                    }
+                    readings.add(reading);
+                    rates.add(rate);
+                }
+                previous = reading;
+            }
+        }
+        flagAnomalies(readings, rates);
+        return readings;
+    }
+
+    /**
+     * Get the latest meter reading of each of the tenants, in one query.
+     *
+     * @param tenantIds the ids of the tenants.
+     * @return the latest reading by tenant id, for the tenants that have one.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> findLatestReadings(Collection<Long> tenantIds) {
+        if (tenantIds.isEmpty()) {
+            return Map.of();
+        }
+        return meterReadingBlockRepository
+            .findLatestOfTenants(tenantIds)
+            .stream()
+            .collect(Collectors.toMap(TenantMeterReading::getTenantId, TenantMeterReading::getLastValue));
+    }
+
+    private MeterReadingDTO findPreviousReading(Long tenantId, LocalDate month) {
+        return meterReadingBlockRepository
+            .findFirstByTenantIdAndMonthLessThanOrderByMonthDesc(tenantId, month)
+            .map(block -> new MeterReadingDTO(block.getLastReadAt(), block.getLastValue()))
+            .orElse(null);
+    }
+
+    /**
+     * Flags the readings where the meter went backwards, and those consuming more than {@code anomalyFactor} times the
+     * median daily rate of the readings.
+     */
+    private void flagAnomalies(List<MeterReadingDTO> readings, List<Double> rates) {
+        List<Double> sortedRates = rates.stream().filter(rate -> rate != null && rate >= 0D).sorted().collect(Collectors.toList());
+        double threshold = sortedRates.size() < MIN_RATES_FOR_ANOMALIES
+            ? Double.POSITIVE_INFINITY
+            : sortedRates.get(sortedRates.size() / 2) * applicationProperties.getMeterReading().getAnomalyFactor();
+        for (int i = 0; i < readings.size(); i++) {
+            Double rate = rates.get(i);
+            if (rate != null && (rate < 0D || (threshold > 0D && rate > threshold))) {
+                readings.get(i).setAnomaly(true);
+            }
+        }
+    }
+
+    private static LocalDate monthOf(Instant instant) {
+        return instant.atZone(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1);
+    }
+}
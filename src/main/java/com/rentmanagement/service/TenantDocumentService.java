@@ -0,0 +1,128 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.TenantDocumentChunk;
+import com.rentmanagement.repository.TenantDocumentChunkRepository;
+import com.rentmanagement.repository.TenantRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service storing the addressProff documents of the tenants as {@link TenantDocumentChunk}s.
+ * <p>
+ * Documents are written and read back one chunk at a time, so neither an upload nor a download holds more than a chunk
+ * in memory, and the {@link Tenant} row only keeps the content type and size of its document.
+ */
+@Service
+public class TenantDocumentService {
+
+    public static final int CHUNK_SIZE = 256 * 1024;
+
+    private final Logger log = LoggerFactory.getLogger(TenantDocumentService.class);
+
+    private final TenantRepository tenantRepository;
+
+    private final TenantDocumentChunkRepository tenantDocumentChunkRepository;
+
+    private final EntityManager entityManager;
+
+    public TenantDocumentService(
+        TenantRepository tenantRepository,
+        TenantDocumentChunkRepository tenantDocumentChunkRepository,
+        EntityManager entityManager
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.tenantDocumentChunkRepository = tenantDocumentChunkRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Replace the addressProff document of a tenant.
+     *
+     * @param tenantId the id of the tenant.
+     * @param contentType the content type of the document.
+     * @param content the content of the document, read until its end.
+     * @return the updated tenant, or empty if the tenant does not exist.
+     * @throws IOException if the content could not be read.
+     */
+    @Transactional
+    public Optional<Tenant> store(Long tenantId, String contentType, InputStream content) throws IOException {
+        Optional<Tenant> tenant = tenantRepository.findById(tenantId);
+        if (tenant.isEmpty()) {
+            return tenant;
+        }
+        tenantDocumentChunkRepository.deleteByTenantId(tenantId);
+        long size = 0L;
+        byte[] data;
+        while ((data = content.readNBytes(CHUNK_SIZE)).length > 0) {
+            TenantDocumentChunk chunk = new TenantDocumentChunk().tenantId(tenantId).startOffset(size).data(data);
+            tenantDocumentChunkRepository.saveAndFlush(chunk);
+            // Written chunks are not needed anymore, don't keep them in the persistence context
+            entityManager.detach(chunk);
+            size += data.length;
+        }
+        log.debug("Stored addressProff of Tenant {}: {} bytes", tenantId, size);
+        tenant.get().setAddressProffContentType(contentType);
+        tenant.get().setAddressProffSize(size);
+        return tenant;
+    }
+
+    /**
+     * Delete the addressProff document of a tenant.
+     *
+     * @param tenantId the id of the tenant.
+     * @return the updated tenant, or empty if the tenant does not exist.
+     */
+    @Transactional
+    public Optional<Tenant> delete(Long tenantId) {
+        Optional<Tenant> tenant = tenantRepository.findById(tenantId);
+        tenant.ifPresent(existingTenant -> {
+            tenantDocumentChunkRepository.deleteByTenantId(tenantId);
+            existingTenant.setAddressProffContentType(null);
+            existingTenant.setAddressProffSize(null);
+        });
+        return tenant;
+    }
+
+    /**
+     * Write a range of the addressProff document of a tenant.
+     * <p>
+     * Each chunk is read in its own short transaction, so a slow client never holds a database connection for the whole
+     * download.
+     *
+     * @param tenantId the id of the tenant.
+     * @param start the offset of the first byte to write.
+     * @param end the offset of the last byte to write, inclusive.
+     * @param out where to write the range.
+     * @throws IOException if the range could not be written.
+     */
+    public void copyRange(Long tenantId, long start, long end, OutputStream out) throws IOException {
+        long position = start;
+        Optional<TenantDocumentChunk> chunk = tenantDocumentChunkRepository.findFirstByTenantIdAndStartOffsetLessThanEqualOrderByStartOffsetDesc(
+            tenantId,
+            start
+        );
+        while (chunk.isPresent() && position <= end) {
+            TenantDocumentChunk current = chunk.get();
+            byte[] data = current.getData();
+            int from = (int) (position - current.getStartOffset());
+            int to = (int) Math.min(data.length, end + 1 - current.getStartOffset());
+            if (from < to) {
+                out.write(data, from, to - from);
+                position += to - from;
+            }
+            chunk =
+                tenantDocumentChunkRepository.findFirstByTenantIdAndStartOffsetGreaterThanOrderByStartOffsetAsc(
+                    tenantId,
+                    current.getStartOffset()
+                );
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.rentmanagement.service;
+
+import com.rentmanagement.domain.*; // for static metamodels
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.criteria.RoomCriteria;
+import com.rentmanagement.service.criteria.TenantCriteria;
+import java.util.List;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Tenant} entities in the database.
+ * The main input is a {@link TenantCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Tenant} or a {@link Page} of {@link Tenant} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TenantQueryService extends QueryService<Tenant> {
+
+    private final Logger log = LoggerFactory.getLogger(TenantQueryService.class);
+
+    private final TenantRepository tenantRepository;
+
+    private final RoomQueryService roomQueryService;
+
+    public TenantQueryService(TenantRepository tenantRepository, RoomQueryService roomQueryService) {
+        this.tenantRepository = tenantRepository;
+        this.roomQueryService = roomQueryService;
+    }
+
+    /**
+     * Return a {@link List} of {@link Tenant} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Tenant> findByCriteria(TenantCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Tenant> specification = createSpecification(criteria);
+        return tenantRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Tenant} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Tenant> findByCriteria(TenantCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Tenant> specification = createSpecification(criteria);
+        return tenantRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(TenantCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Tenant> specification = createSpecification(criteria);
+        return tenantRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link TenantCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Tenant> createSpecification(TenantCriteria criteria) {
+        Specification<Tenant> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Tenant_.id));
+            }
+            if (criteria.getTenantName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getTenantName(), Tenant_.tenantName));
+            }
+            if (criteria.getNumberofFamilyMembers() != null) {
+                specification =
+                    specification.and(
+                        buildRangeSpecification(criteria.getNumberofFamilyMembers(), Tenant_.numberofFamilyMembers)
+                    );
+            }
+            if (criteria.getPhoneNumber() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getPhoneNumber(), Tenant_.phoneNumber));
+            }
+            if (criteria.getRentStartDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getRentStartDate(), Tenant_.rentStartDate));
+            }
+            if (criteria.getRentAmount() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getRentAmount(), Tenant_.rentAmount));
+            }
+            if (criteria.getElectricityUnitRate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getElectricityUnitRate(), Tenant_.electricityUnitRate));
+            }
+            if (criteria.getStartingElectricityUnit() != null) {
+                specification =
+                    specification.and(
+                        buildRangeSpecification(criteria.getStartingElectricityUnit(), Tenant_.startingElectricityUnit)
+                    );
+            }
+            if (criteria.getAnyOtherDetails() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getAnyOtherDetails(), Tenant_.anyOtherDetails));
+            }
+            if (criteria.getSendNotification() != null) {
+                specification = specification.and(buildSpecification(criteria.getSendNotification(), Tenant_.sendNotification));
+            }
+            if (criteria.getEmailAddress() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getEmailAddress(), Tenant_.emailAddress));
+            }
+            if (criteria.getEmergencyContactNumber() != null) {
+                specification =
+                    specification.and(
+                        buildStringSpecification(criteria.getEmergencyContactNumber(), Tenant_.emergencyContactNumber)
+                    );
+            }
+            if (criteria.getOutStandingAmount() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getOutStandingAmount(), Tenant_.outStandingAmount));
+            }
+            if (criteria.getMonthEndCalculation() != null) {
+                specification = specification.and(buildSpecification(criteria.getMonthEndCalculation(), Tenant_.monthEndCalculation));
+            }
+            if (criteria.getCalculateOnDate() != null) {
+                specification = specification.and(buildSpecification(criteria.getCalculateOnDate(), Tenant_.calculateOnDate));
+            }
+            if (criteria.getCalculatedForCurrentMonth() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getCalculatedForCurrentMonth(), Tenant_.calculatedForCurrentMonth)
+                    );
+            }
+            if (criteria.getLocationId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getLocationId(), root -> root.get(Tenant_.location).get(Location_.id))
+                    );
+            }
+            if (criteria.getRoomsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getRoomsId(), root -> root.join(Tenant_.rooms, JoinType.LEFT).get(Room_.id))
+                    );
+            }
+            if (criteria.getGenerateBillsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getGenerateBillsId(),
+                            root -> root.join(Tenant_.generateBills, JoinType.LEFT).get(GenerateBill_.id)
+                        )
+                    );
+            }
+            if (criteria.getBuildingId() != null) {
+                RoomCriteria roomCriteria = new RoomCriteria();
+                roomCriteria.setBuildingId(criteria.getBuildingId());
+                specification = specification.and(rentsRoom(roomQueryService.createSpecification(roomCriteria)));
+            }
+        }
+        return specification;
+    }
+
+    /**
+     * Tenants renting a room matching the specification, as an in subquery: unlike a join, it does not return a tenant
+     * once per room, and the matching rooms are read first, from their index, rather than once per tenant.
+     */
+    private static Specification<Tenant> rentsRoom(Specification<Room> roomSpecification) {
+        return (root, query, builder) -> {
+            Subquery<Long> rooms = query.subquery(Long.class);
+            Root<Room> room = rooms.from(Room.class);
+            rooms.select(room.get(Room_.tenants).get(Tenant_.id)).where(roomSpecification.toPredicate(room, query, builder));
+            return root.get(Tenant_.id).in(rooms);
+        };
+    }
+}
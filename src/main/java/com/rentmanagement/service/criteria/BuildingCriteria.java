@@ -0,0 +1,152 @@
+package com.rentmanagement.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.Building} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.BuildingResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /buildings?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class BuildingCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter buildingName;
+
+    private LongFilter addressId;
+
+    private LongFilter buildingsId;
+
+    private Boolean distinct;
+
+    public BuildingCriteria() {}
+
+    public BuildingCriteria(BuildingCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.buildingName = other.buildingName == null ? null : other.buildingName.copy();
+        this.addressId = other.addressId == null ? null : other.addressId.copy();
+        this.buildingsId = other.buildingsId == null ? null : other.buildingsId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public BuildingCriteria copy() {
+        return new BuildingCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getBuildingName() {
+        return buildingName;
+    }
+
+    public StringFilter buildingName() {
+        if (buildingName == null) {
+            buildingName = new StringFilter();
+        }
+        return buildingName;
+    }
+
+    public void setBuildingName(StringFilter buildingName) {
+        this.buildingName = buildingName;
+    }
+
+    public LongFilter getAddressId() {
+        return addressId;
+    }
+
+    public LongFilter addressId() {
+        if (addressId == null) {
+            addressId = new LongFilter();
+        }
+        return addressId;
+    }
+
+    public void setAddressId(LongFilter addressId) {
+        this.addressId = addressId;
+    }
+
+    public LongFilter getBuildingsId() {
+        return buildingsId;
+    }
+
+    public LongFilter buildingsId() {
+        if (buildingsId == null) {
+            buildingsId = new LongFilter();
+        }
+        return buildingsId;
+    }
+
+    public void setBuildingsId(LongFilter buildingsId) {
+        this.buildingsId = buildingsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BuildingCriteria that = (BuildingCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(buildingName, that.buildingName) &&
+            Objects.equals(addressId, that.addressId) &&
+            Objects.equals(buildingsId, that.buildingsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, buildingName, addressId, buildingsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BuildingCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (buildingName != null ? "buildingName=" + buildingName + ", " : "") +
+            (addressId != null ? "addressId=" + addressId + ", " : "") +
+            (buildingsId != null ? "buildingsId=" + buildingsId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
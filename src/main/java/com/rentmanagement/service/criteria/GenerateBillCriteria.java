@@ -0,0 +1,194 @@
+package com.rentmanagement.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.BooleanFilter;
+import tech.jhipster.service.filter.DoubleFilter;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.GenerateBill} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.GenerateBillResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /generate-bills?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class GenerateBillCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private DoubleFilter amountPending;
+
+    private BooleanFilter sendNotification;
+
+    private DoubleFilter electricityUnit;
+
+    private LocalDateFilter billingPeriod;
+
+    private LongFilter tenantId;
+
+    private Boolean distinct;
+
+    public GenerateBillCriteria() {}
+
+    public GenerateBillCriteria(GenerateBillCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.amountPending = other.amountPending == null ? null : other.amountPending.copy();
+        this.sendNotification = other.sendNotification == null ? null : other.sendNotification.copy();
+        this.electricityUnit = other.electricityUnit == null ? null : other.electricityUnit.copy();
+        this.billingPeriod = other.billingPeriod == null ? null : other.billingPeriod.copy();
+        this.tenantId = other.tenantId == null ? null : other.tenantId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public GenerateBillCriteria copy() {
+        return new GenerateBillCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public DoubleFilter getAmountPending() {
+        return amountPending;
+    }
+
+    public DoubleFilter amountPending() {
+        if (amountPending == null) {
+            amountPending = new DoubleFilter();
+        }
+        return amountPending;
+    }
+
+    public void setAmountPending(DoubleFilter amountPending) {
+        this.amountPending = amountPending;
+    }
+
+    public BooleanFilter getSendNotification() {
+        return sendNotification;
+    }
+
+    public BooleanFilter sendNotification() {
+        if (sendNotification == null) {
+            sendNotification = new BooleanFilter();
+        }
+        return sendNotification;
+    }
+
+    public void setSendNotification(BooleanFilter sendNotification) {
+        this.sendNotification = sendNotification;
+    }
+
+    public DoubleFilter getElectricityUnit() {
+        return electricityUnit;
+    }
+
+    public DoubleFilter electricityUnit() {
+        if (electricityUnit == null) {
+            electricityUnit = new DoubleFilter();
+        }
+        return electricityUnit;
+    }
+
+    public void setElectricityUnit(DoubleFilter electricityUnit) {
+        this.electricityUnit = electricityUnit;
+    }
+
+    public LocalDateFilter getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public LocalDateFilter billingPeriod() {
+        if (billingPeriod == null) {
+            billingPeriod = new LocalDateFilter();
+        }
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(LocalDateFilter billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public LongFilter getTenantId() {
+        return tenantId;
+    }
+
+    public LongFilter tenantId() {
+        if (tenantId == null) {
+            tenantId = new LongFilter();
+        }
+        return tenantId;
+    }
+
+    public void setTenantId(LongFilter tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final GenerateBillCriteria that = (GenerateBillCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(amountPending, that.amountPending) &&
+            Objects.equals(sendNotification, that.sendNotification) &&
+            Objects.equals(electricityUnit, that.electricityUnit) &&
+            Objects.equals(billingPeriod, that.billingPeriod) &&
+            Objects.equals(tenantId, that.tenantId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, amountPending, sendNotification, electricityUnit, billingPeriod, tenantId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "GenerateBillCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (amountPending != null ? "amountPending=" + amountPending + ", " : "") +
+            (sendNotification != null ? "sendNotification=" + sendNotification + ", " : "") +
+            (electricityUnit != null ? "electricityUnit=" + electricityUnit + ", " : "") +
+            (billingPeriod != null ? "billingPeriod=" + billingPeriod + ", " : "") +
+            (tenantId != null ? "tenantId=" + tenantId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
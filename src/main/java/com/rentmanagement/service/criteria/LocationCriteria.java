@@ -0,0 +1,212 @@
+package com.rentmanagement.service.criteria;
+
+import com.rentmanagement.domain.enumeration.Country;
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.Location} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.LocationResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /locations?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class LocationCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Country
+     */
+    public static class CountryFilter extends Filter<Country> {
+
+        private static final long serialVersionUID = 1L;
+
+        public CountryFilter() {}
+
+        public CountryFilter(CountryFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public CountryFilter copy() {
+            return new CountryFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter streetAddress;
+
+    private StringFilter postalCode;
+
+    private StringFilter city;
+
+    private StringFilter stateProvince;
+
+    private CountryFilter country;
+
+    private Boolean distinct;
+
+    public LocationCriteria() {}
+
+    public LocationCriteria(LocationCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.streetAddress = other.streetAddress == null ? null : other.streetAddress.copy();
+        this.postalCode = other.postalCode == null ? null : other.postalCode.copy();
+        this.city = other.city == null ? null : other.city.copy();
+        this.stateProvince = other.stateProvince == null ? null : other.stateProvince.copy();
+        this.country = other.country == null ? null : other.country.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public LocationCriteria copy() {
+        return new LocationCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getStreetAddress() {
+        return streetAddress;
+    }
+
+    public StringFilter streetAddress() {
+        if (streetAddress == null) {
+            streetAddress = new StringFilter();
+        }
+        return streetAddress;
+    }
+
+    public void setStreetAddress(StringFilter streetAddress) {
+        this.streetAddress = streetAddress;
+    }
+
+    public StringFilter getPostalCode() {
+        return postalCode;
+    }
+
+    public StringFilter postalCode() {
+        if (postalCode == null) {
+            postalCode = new StringFilter();
+        }
+        return postalCode;
+    }
+
+    public void setPostalCode(StringFilter postalCode) {
+        this.postalCode = postalCode;
+    }
+
+    public StringFilter getCity() {
+        return city;
+    }
+
+    public StringFilter city() {
+        if (city == null) {
+            city = new StringFilter();
+        }
+        return city;
+    }
+
+    public void setCity(StringFilter city) {
+        this.city = city;
+    }
+
+    public StringFilter getStateProvince() {
+        return stateProvince;
+    }
+
+    public StringFilter stateProvince() {
+        if (stateProvince == null) {
+            stateProvince = new StringFilter();
+        }
+        return stateProvince;
+    }
+
+    public void setStateProvince(StringFilter stateProvince) {
+        this.stateProvince = stateProvince;
+    }
+
+    public CountryFilter getCountry() {
+        return country;
+    }
+
+    public CountryFilter country() {
+        if (country == null) {
+            country = new CountryFilter();
+        }
+        return country;
+    }
+
+    public void setCountry(CountryFilter country) {
+        this.country = country;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LocationCriteria that = (LocationCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(streetAddress, that.streetAddress) &&
+            Objects.equals(postalCode, that.postalCode) &&
+            Objects.equals(city, that.city) &&
+            Objects.equals(stateProvince, that.stateProvince) &&
+            Objects.equals(country, that.country) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, streetAddress, postalCode, city, stateProvince, country, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LocationCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (streetAddress != null ? "streetAddress=" + streetAddress + ", " : "") +
+            (postalCode != null ? "postalCode=" + postalCode + ", " : "") +
+            (city != null ? "city=" + city + ", " : "") +
+            (stateProvince != null ? "stateProvince=" + stateProvince + ", " : "") +
+            (country != null ? "country=" + country + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
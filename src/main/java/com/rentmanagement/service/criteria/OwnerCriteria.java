@@ -0,0 +1,132 @@
+package com.rentmanagement.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.Owner} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.OwnerResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /owners?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class OwnerCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter phoneNumber;
+
+    private StringFilter emailAddress;
+
+    private Boolean distinct;
+
+    public OwnerCriteria() {}
+
+    public OwnerCriteria(OwnerCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.phoneNumber = other.phoneNumber == null ? null : other.phoneNumber.copy();
+        this.emailAddress = other.emailAddress == null ? null : other.emailAddress.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public OwnerCriteria copy() {
+        return new OwnerCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public StringFilter phoneNumber() {
+        if (phoneNumber == null) {
+            phoneNumber = new StringFilter();
+        }
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(StringFilter phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public StringFilter getEmailAddress() {
+        return emailAddress;
+    }
+
+    public StringFilter emailAddress() {
+        if (emailAddress == null) {
+            emailAddress = new StringFilter();
+        }
+        return emailAddress;
+    }
+
+    public void setEmailAddress(StringFilter emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OwnerCriteria that = (OwnerCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(phoneNumber, that.phoneNumber) &&
+            Objects.equals(emailAddress, that.emailAddress) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, phoneNumber, emailAddress, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OwnerCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (phoneNumber != null ? "phoneNumber=" + phoneNumber + ", " : "") +
+            (emailAddress != null ? "emailAddress=" + emailAddress + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,172 @@
+package com.rentmanagement.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.Room} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.RoomResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /rooms?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class RoomCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter roomName;
+
+    private StringFilter floor;
+
+    private LongFilter buildingId;
+
+    private LongFilter tenantsId;
+
+    private Boolean distinct;
+
+    public RoomCriteria() {}
+
+    public RoomCriteria(RoomCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.roomName = other.roomName == null ? null : other.roomName.copy();
+        this.floor = other.floor == null ? null : other.floor.copy();
+        this.buildingId = other.buildingId == null ? null : other.buildingId.copy();
+        this.tenantsId = other.tenantsId == null ? null : other.tenantsId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public RoomCriteria copy() {
+        return new RoomCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getRoomName() {
+        return roomName;
+    }
+
+    public StringFilter roomName() {
+        if (roomName == null) {
+            roomName = new StringFilter();
+        }
+        return roomName;
+    }
+
+    public void setRoomName(StringFilter roomName) {
+        this.roomName = roomName;
+    }
+
+    public StringFilter getFloor() {
+        return floor;
+    }
+
+    public StringFilter floor() {
+        if (floor == null) {
+            floor = new StringFilter();
+        }
+        return floor;
+    }
+
+    public void setFloor(StringFilter floor) {
+        this.floor = floor;
+    }
+
+    public LongFilter getBuildingId() {
+        return buildingId;
+    }
+
+    public LongFilter buildingId() {
+        if (buildingId == null) {
+            buildingId = new LongFilter();
+        }
+        return buildingId;
+    }
+
+    public void setBuildingId(LongFilter buildingId) {
+        this.buildingId = buildingId;
+    }
+
+    public LongFilter getTenantsId() {
+        return tenantsId;
+    }
+
+    public LongFilter tenantsId() {
+        if (tenantsId == null) {
+            tenantsId = new LongFilter();
+        }
+        return tenantsId;
+    }
+
+    public void setTenantsId(LongFilter tenantsId) {
+        this.tenantsId = tenantsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RoomCriteria that = (RoomCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(roomName, that.roomName) &&
+            Objects.equals(floor, that.floor) &&
+            Objects.equals(buildingId, that.buildingId) &&
+            Objects.equals(tenantsId, that.tenantsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, roomName, floor, buildingId, tenantsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RoomCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (roomName != null ? "roomName=" + roomName + ", " : "") +
+            (floor != null ? "floor=" + floor + ", " : "") +
+            (buildingId != null ? "buildingId=" + buildingId + ", " : "") +
+            (tenantsId != null ? "tenantsId=" + tenantsId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
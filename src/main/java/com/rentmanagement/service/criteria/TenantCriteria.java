@@ -0,0 +1,498 @@
+package com.rentmanagement.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.BooleanFilter;
+import tech.jhipster.service.filter.DoubleFilter;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.IntegerFilter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.rentmanagement.domain.Tenant} entity. This class is used
+ * in {@link com.rentmanagement.web.rest.TenantResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /tenants?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class TenantCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter tenantName;
+
+    private IntegerFilter numberofFamilyMembers;
+
+    private StringFilter phoneNumber;
+
+    private LocalDateFilter rentStartDate;
+
+    private DoubleFilter rentAmount;
+
+    private IntegerFilter electricityUnitRate;
+
+    private DoubleFilter startingElectricityUnit;
+
+    private StringFilter anyOtherDetails;
+
+    private BooleanFilter sendNotification;
+
+    private StringFilter emailAddress;
+
+    private StringFilter emergencyContactNumber;
+
+    private DoubleFilter outStandingAmount;
+
+    private BooleanFilter monthEndCalculation;
+
+    private BooleanFilter calculateOnDate;
+
+    private BooleanFilter calculatedForCurrentMonth;
+
+    private LongFilter locationId;
+
+    private LongFilter roomsId;
+
+    private LongFilter generateBillsId;
+
+    private LongFilter buildingId;
+
+    private Boolean distinct;
+
+    public TenantCriteria() {}
+
+    public TenantCriteria(TenantCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.tenantName = other.tenantName == null ? null : other.tenantName.copy();
+        this.numberofFamilyMembers = other.numberofFamilyMembers == null ? null : other.numberofFamilyMembers.copy();
+        this.phoneNumber = other.phoneNumber == null ? null : other.phoneNumber.copy();
+        this.rentStartDate = other.rentStartDate == null ? null : other.rentStartDate.copy();
+        this.rentAmount = other.rentAmount == null ? null : other.rentAmount.copy();
+        this.electricityUnitRate = other.electricityUnitRate == null ? null : other.electricityUnitRate.copy();
+        this.startingElectricityUnit = other.startingElectricityUnit == null ? null : other.startingElectricityUnit.copy();
+        this.anyOtherDetails = other.anyOtherDetails == null ? null : other.anyOtherDetails.copy();
+        this.sendNotification = other.sendNotification == null ? null : other.sendNotification.copy();
+        this.emailAddress = other.emailAddress == null ? null : other.emailAddress.copy();
+        this.emergencyContactNumber = other.emergencyContactNumber == null ? null : other.emergencyContactNumber.copy();
+        this.outStandingAmount = other.outStandingAmount == null ? null : other.outStandingAmount.copy();
+        this.monthEndCalculation = other.monthEndCalculation == null ? null : other.monthEndCalculation.copy();
+        this.calculateOnDate = other.calculateOnDate == null ? null : other.calculateOnDate.copy();
+        this.calculatedForCurrentMonth = other.calculatedForCurrentMonth == null ? null : other.calculatedForCurrentMonth.copy();
+        this.locationId = other.locationId == null ? null : other.locationId.copy();
+        this.roomsId = other.roomsId == null ? null : other.roomsId.copy();
+        this.generateBillsId = other.generateBillsId == null ? null : other.generateBillsId.copy();
+        this.buildingId = other.buildingId == null ? null : other.buildingId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public TenantCriteria copy() {
+        return new TenantCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getTenantName() {
+        return tenantName;
+    }
+
+    public StringFilter tenantName() {
+        if (tenantName == null) {
+            tenantName = new StringFilter();
+        }
+        return tenantName;
+    }
+
+    public void setTenantName(StringFilter tenantName) {
+        this.tenantName = tenantName;
+    }
+
+    public IntegerFilter getNumberofFamilyMembers() {
+        return numberofFamilyMembers;
+    }
+
+    public IntegerFilter numberofFamilyMembers() {
+        if (numberofFamilyMembers == null) {
+            numberofFamilyMembers = new IntegerFilter();
+        }
+        return numberofFamilyMembers;
+    }
+
+    public void setNumberofFamilyMembers(IntegerFilter numberofFamilyMembers) {
+        this.numberofFamilyMembers = numberofFamilyMembers;
+    }
+
+    public StringFilter getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public StringFilter phoneNumber() {
+        if (phoneNumber == null) {
+            phoneNumber = new StringFilter();
+        }
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(StringFilter phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public LocalDateFilter getRentStartDate() {
+        return rentStartDate;
+    }
+
+    public LocalDateFilter rentStartDate() {
+        if (rentStartDate == null) {
+            rentStartDate = new LocalDateFilter();
+        }
+        return rentStartDate;
+    }
+
+    public void setRentStartDate(LocalDateFilter rentStartDate) {
+        this.rentStartDate = rentStartDate;
+    }
+
+    public DoubleFilter getRentAmount() {
+        return rentAmount;
+    }
+
+    public DoubleFilter rentAmount() {
+        if (rentAmount == null) {
+            rentAmount = new DoubleFilter();
+        }
+        return rentAmount;
+    }
+
+    public void setRentAmount(DoubleFilter rentAmount) {
+        this.rentAmount = rentAmount;
+    }
+
+    public IntegerFilter getElectricityUnitRate() {
+        return electricityUnitRate;
+    }
+
+    public IntegerFilter electricityUnitRate() {
+        if (electricityUnitRate == null) {
+            electricityUnitRate = new IntegerFilter();
+        }
+        return electricityUnitRate;
+    }
+
+    public void setElectricityUnitRate(IntegerFilter electricityUnitRate) {
+        this.electricityUnitRate = electricityUnitRate;
+    }
+
+    public DoubleFilter getStartingElectricityUnit() {
+        return startingElectricityUnit;
+    }
+
+    public DoubleFilter startingElectricityUnit() {
+        if (startingElectricityUnit == null) {
+            startingElectricityUnit = new DoubleFilter();
+        }
+        return startingElectricityUnit;
+    }
+
+    public void setStartingElectricityUnit(DoubleFilter startingElectricityUnit) {
+        this.startingElectricityUnit = startingElectricityUnit;
+    }
+
+    public StringFilter getAnyOtherDetails() {
+        return anyOtherDetails;
+    }
+
+    public StringFilter anyOtherDetails() {
+        if (anyOtherDetails == null) {
+            anyOtherDetails = new StringFilter();
+        }
+        return anyOtherDetails;
+    }
+
+    public void setAnyOtherDetails(StringFilter anyOtherDetails) {
+        this.anyOtherDetails = anyOtherDetails;
+    }
+
+    public BooleanFilter getSendNotification() {
+        return sendNotification;
+    }
+
+    public BooleanFilter sendNotification() {
+        if (sendNotification == null) {
+            sendNotification = new BooleanFilter();
+        }
+        return sendNotification;
+    }
+
+    public void setSendNotification(BooleanFilter sendNotification) {
+        this.sendNotification = sendNotification;
+    }
+
+    public StringFilter getEmailAddress() {
+        return emailAddress;
+    }
+
+    public StringFilter emailAddress() {
+        if (emailAddress == null) {
+            emailAddress = new StringFilter();
+        }
+        return emailAddress;
+    }
+
+    public void setEmailAddress(StringFilter emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public StringFilter getEmergencyContactNumber() {
+        return emergencyContactNumber;
+    }
+
+    public StringFilter emergencyContactNumber() {
+        if (emergencyContactNumber == null) {
+            emergencyContactNumber = new StringFilter();
+        }
+        return emergencyContactNumber;
+    }
+
+    public void setEmergencyContactNumber(StringFilter emergencyContactNumber) {
+        this.emergencyContactNumber = emergencyContactNumber;
+    }
+
+    public DoubleFilter getOutStandingAmount() {
+        return outStandingAmount;
+    }
+
+    public DoubleFilter outStandingAmount() {
+        if (outStandingAmount == null) {
+            outStandingAmount = new DoubleFilter();
+        }
+        return outStandingAmount;
+    }
+
+    public void setOutStandingAmount(DoubleFilter outStandingAmount) {
+        this.outStandingAmount = outStandingAmount;
+    }
+
+    public BooleanFilter getMonthEndCalculation() {
+        return monthEndCalculation;
+    }
+
+    public BooleanFilter monthEndCalculation() {
+        if (monthEndCalculation == null) {
+            monthEndCalculation = new BooleanFilter();
+        }
+        return monthEndCalculation;
+    }
+
+    public void setMonthEndCalculation(BooleanFilter monthEndCalculation) {
+        this.monthEndCalculation = monthEndCalculation;
+    }
+
+    public BooleanFilter getCalculateOnDate() {
+        return calculateOnDate;
+    }
+
+    public BooleanFilter calculateOnDate() {
+        if (calculateOnDate == null) {
+            calculateOnDate = new BooleanFilter();
+        }
+        return calculateOnDate;
+    }
+
+    public void setCalculateOnDate(BooleanFilter calculateOnDate) {
+        this.calculateOnDate = calculateOnDate;
+    }
+
+    public BooleanFilter getCalculatedForCurrentMonth() {
+        return calculatedForCurrentMonth;
+    }
+
+    public BooleanFilter calculatedForCurrentMonth() {
+        if (calculatedForCurrentMonth == null) {
+            calculatedForCurrentMonth = new BooleanFilter();
+        }
+        return calculatedForCurrentMonth;
+    }
+
+    public void setCalculatedForCurrentMonth(BooleanFilter calculatedForCurrentMonth) {
+        this.calculatedForCurrentMonth = calculatedForCurrentMonth;
+    }
+
+    public LongFilter getLocationId() {
+        return locationId;
+    }
+
+    public LongFilter locationId() {
+        if (locationId == null) {
+            locationId = new LongFilter();
+        }
+        return locationId;
+    }
+
+    public void setLocationId(LongFilter locationId) {
+        this.locationId = locationId;
+    }
+
+    public LongFilter getRoomsId() {
+        return roomsId;
+    }
+
+    public LongFilter roomsId() {
+        if (roomsId == null) {
+            roomsId = new LongFilter();
+        }
+        return roomsId;
+    }
+
+    public void setRoomsId(LongFilter roomsId) {
+        this.roomsId = roomsId;
+    }
+
+    public LongFilter getGenerateBillsId() {
+        return generateBillsId;
+    }
+
+    public LongFilter generateBillsId() {
+        if (generateBillsId == null) {
+            generateBillsId = new LongFilter();
+        }
+        return generateBillsId;
+    }
+
+    public void setGenerateBillsId(LongFilter generateBillsId) {
+        this.generateBillsId = generateBillsId;
+    }
+
+    public LongFilter getBuildingId() {
+        return buildingId;
+    }
+
+    public LongFilter buildingId() {
+        if (buildingId == null) {
+            buildingId = new LongFilter();
+        }
+        return buildingId;
+    }
+
+    public void setBuildingId(LongFilter buildingId) {
+        this.buildingId = buildingId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TenantCriteria that = (TenantCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(tenantName, that.tenantName) &&
+            Objects.equals(numberofFamilyMembers, that.numberofFamilyMembers) &&
+            Objects.equals(phoneNumber, that.phoneNumber) &&
+            Objects.equals(rentStartDate, that.rentStartDate) &&
+            Objects.equals(rentAmount, that.rentAmount) &&
+            Objects.equals(electricityUnitRate, that.electricityUnitRate) &&
+            Objects.equals(startingElectricityUnit, that.startingElectricityUnit) &&
+            Objects.equals(anyOtherDetails, that.anyOtherDetails) &&
+            Objects.equals(sendNotification, that.sendNotification) &&
+            Objects.equals(emailAddress, that.emailAddress) &&
+            Objects.equals(emergencyContactNumber, that.emergencyContactNumber) &&
+            Objects.equals(outStandingAmount, that.outStandingAmount) &&
+            Objects.equals(monthEndCalculation, that.monthEndCalculation) &&
+            Objects.equals(calculateOnDate, that.calculateOnDate) &&
+            Objects.equals(calculatedForCurrentMonth, that.calculatedForCurrentMonth) &&
+            Objects.equals(locationId, that.locationId) &&
+            Objects.equals(roomsId, that.roomsId) &&
+            Objects.equals(generateBillsId, that.generateBillsId) &&
+            Objects.equals(buildingId, that.buildingId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id,
+            tenantName,
+            numberofFamilyMembers,
+            phoneNumber,
+            rentStartDate,
+            rentAmount,
+            electricityUnitRate,
+            startingElectricityUnit,
+            anyOtherDetails,
+            sendNotification,
+            emailAddress,
+            emergencyContactNumber,
+            outStandingAmount,
+            monthEndCalculation,
+            calculateOnDate,
+            calculatedForCurrentMonth,
+            locationId,
+            roomsId,
+            generateBillsId,
+            buildingId,
+            distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TenantCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (tenantName != null ? "tenantName=" + tenantName + ", " : "") +
+            (numberofFamilyMembers != null ? "numberofFamilyMembers=" + numberofFamilyMembers + ", " : "") +
+            (phoneNumber != null ? "phoneNumber=" + phoneNumber + ", " : "") +
+            (rentStartDate != null ? "rentStartDate=" + rentStartDate + ", " : "") +
+            (rentAmount != null ? "rentAmount=" + rentAmount + ", " : "") +
+            (electricityUnitRate != null ? "electricityUnitRate=" + electricityUnitRate + ", " : "") +
+            (startingElectricityUnit != null ? "startingElectricityUnit=" + startingElectricityUnit + ", " : "") +
+            (anyOtherDetails != null ? "anyOtherDetails=" + anyOtherDetails + ", " : "") +
+            (sendNotification != null ? "sendNotification=" + sendNotification + ", " : "") +
+            (emailAddress != null ? "emailAddress=" + emailAddress + ", " : "") +
+            (emergencyContactNumber != null ? "emergencyContactNumber=" + emergencyContactNumber + ", " : "") +
+            (outStandingAmount != null ? "outStandingAmount=" + outStandingAmount + ", " : "") +
+            (monthEndCalculation != null ? "monthEndCalculation=" + monthEndCalculation + ", " : "") +
+            (calculateOnDate != null ? "calculateOnDate=" + calculateOnDate + ", " : "") +
+            (calculatedForCurrentMonth != null ? "calculatedForCurrentMonth=" + calculatedForCurrentMonth + ", " : "") +
+            (locationId != null ? "locationId=" + locationId + ", " : "") +
+            (roomsId != null ? "roomsId=" + roomsId + ", " : "") +
+            (generateBillsId != null ? "generateBillsId=" + generateBillsId + ", " : "") +
+            (buildingId != null ? "buildingId=" + buildingId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
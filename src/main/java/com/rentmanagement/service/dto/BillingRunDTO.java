@@ -0,0 +1,64 @@
+package com.rentmanagement.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A DTO summarizing a monthly bill run.
+ */
+public class BillingRunDTO {
+
+    private LocalDate billingPeriod;
+
+    private long billsGenerated;
+
+    private int chunks;
+
+    private Long lastTenantId;
+
+    public BillingRunDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public LocalDate getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(LocalDate billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public long getBillsGenerated() {
+        return billsGenerated;
+    }
+
+    public void setBillsGenerated(long billsGenerated) {
+        this.billsGenerated = billsGenerated;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public Long getLastTenantId() {
+        return lastTenantId;
+    }
+
+    public void setLastTenantId(Long lastTenantId) {
+        this.lastTenantId = lastTenantId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BillingRunDTO{" +
+            "billingPeriod=" + billingPeriod +
+            ", billsGenerated=" + billsGenerated +
+            ", chunks=" + chunks +
+            ", lastTenantId=" + lastTenantId +
+            "}";
+    }
+}
@@ -0,0 +1,38 @@
+package com.rentmanagement.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A DTO for the fields patched on all the bills matching a criteria, the {@code null} fields being left unchanged.
+ * <p>
+ * The amounts are not patchable: the monthly rollups are maintained from each bill created, updated or deleted.
+ */
+public class GenerateBillPatchDTO {
+
+    private Boolean sendNotification;
+
+    public GenerateBillPatchDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public Boolean getSendNotification() {
+        return sendNotification;
+    }
+
+    public void setSendNotification(Boolean sendNotification) {
+        this.sendNotification = sendNotification;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return sendNotification == null;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "GenerateBillPatchDTO{" +
+            "sendNotification=" + sendNotification +
+            "}";
+    }
+}
@@ -0,0 +1,64 @@
+package com.rentmanagement.service.dto;
+
+/**
+ * A DTO representing the response of a request sent with an idempotency key, either produced by the request or
+ * replayed from the response stored for the key.
+ *
+ * @param <T> the type of the body.
+ */
+public class IdempotentResponseDTO<T> {
+
+    private final int status;
+
+    private final String location;
+
+    private final T body;
+
+    private final boolean replayed;
+
+    public IdempotentResponseDTO(int status, String location, T body) {
+        this(status, location, body, false);
+    }
+
+    public IdempotentResponseDTO(int status, String location, T body, boolean replayed) {
+        this.status = status;
+        this.location = location;
+        this.body = body;
+        this.replayed = replayed;
+    }
+
+    /**
+     * The HTTP status of the response.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * The location of the created resource, if any.
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * Whether the response was stored by a previous request with the same key.
+     */
+    public boolean isReplayed() {
+        return replayed;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "IdempotentResponseDTO{" +
+            "status=" + status +
+            ", location='" + location + "'" +
+            ", replayed=" + replayed +
+            "}";
+    }
+}
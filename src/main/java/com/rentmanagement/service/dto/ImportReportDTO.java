@@ -0,0 +1,119 @@
+package com.rentmanagement.service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO reporting the outcome of a bulk import.
+ */
+public class ImportReportDTO {
+
+    private long rows;
+
+    private long imported;
+
+    private long failed;
+
+    private boolean aborted;
+
+    private List<RowErrorDTO> errors = new ArrayList<>();
+
+    public ImportReportDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public void setAborted(boolean aborted) {
+        this.aborted = aborted;
+    }
+
+    public List<RowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ImportReportDTO{" +
+            "rows=" + rows +
+            ", imported=" + imported +
+            ", failed=" + failed +
+            ", aborted=" + aborted +
+            "}";
+    }
+
+    /**
+     * The errors of one row of a bulk import.
+     */
+    public static class RowErrorDTO {
+
+        private long row;
+
+        private List<String> messages;
+
+        public RowErrorDTO() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public RowErrorDTO(long row, List<String> messages) {
+            this.row = row;
+            this.messages = messages;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public void setRow(long row) {
+            this.row = row;
+        }
+
+        public List<String> getMessages() {
+            return messages;
+        }
+
+        public void setMessages(List<String> messages) {
+            this.messages = messages;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "RowErrorDTO{" +
+                "row=" + row +
+                ", messages=" + messages +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.rentmanagement.service.dto;
+
+import java.time.Instant;
+import javax.validation.constraints.*;
+
+/**
+ * A DTO representing an electricity meter reading of a tenant.
+ */
+public class MeterReadingDTO {
+
+    private Instant readAt;
+
+    @NotNull
+    @DecimalMin(value = "0")
+    private Double value;
+
+    private Double consumption;
+
+    private boolean anomaly;
+
+    public MeterReadingDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public MeterReadingDTO(Instant readAt, Double value) {
+        this.readAt = readAt;
+        this.value = value;
+    }
+
+    /**
+     * The time of the reading, now if absent when recording it.
+     */
+    public Instant getReadAt() {
+        return readAt;
+    }
+
+    public void setReadAt(Instant readAt) {
+        this.readAt = readAt;
+    }
+
+    /**
+     * The index of the meter, in units, kept to the hundredth of a unit.
+     */
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+
+    /**
+     * The units consumed since the previous reading, {@code null} for the first reading of the tenant.
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
+    /**
+     * Whether the meter went backwards since the previous reading, or the consumption rate is far above the usual one.
+     */
+    public boolean isAnomaly() {
+        return anomaly;
+    }
+
+    public void setAnomaly(boolean anomaly) {
+        this.anomaly = anomaly;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MeterReadingDTO{" +
+            "readAt='" + readAt + "'" +
+            ", value=" + value +
+            ", consumption=" + consumption +
+            ", anomaly=" + anomaly +
+            "}";
+    }
+}
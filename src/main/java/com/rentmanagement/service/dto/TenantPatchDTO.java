@@ -0,0 +1,100 @@
+package com.rentmanagement.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A DTO for the fields patched on all the tenants matching a criteria, the {@code null} fields being left unchanged.
+ * <p>
+ * The outstanding amount is not patchable: it only changes through the ledger of each tenant.
+ */
+public class TenantPatchDTO {
+
+    private Double rentAmount;
+
+    private Integer electricityUnitRate;
+
+    private Boolean sendNotification;
+
+    private Boolean monthEndCalculation;
+
+    private Boolean calculateOnDate;
+
+    private Boolean calculatedForCurrentMonth;
+
+    public TenantPatchDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public Double getRentAmount() {
+        return rentAmount;
+    }
+
+    public void setRentAmount(Double rentAmount) {
+        this.rentAmount = rentAmount;
+    }
+
+    public Integer getElectricityUnitRate() {
+        return electricityUnitRate;
+    }
+
+    public void setElectricityUnitRate(Integer electricityUnitRate) {
+        this.electricityUnitRate = electricityUnitRate;
+    }
+
+    public Boolean getSendNotification() {
+        return sendNotification;
+    }
+
+    public void setSendNotification(Boolean sendNotification) {
+        this.sendNotification = sendNotification;
+    }
+
+    public Boolean getMonthEndCalculation() {
+        return monthEndCalculation;
+    }
+
+    public void setMonthEndCalculation(Boolean monthEndCalculation) {
+        this.monthEndCalculation = monthEndCalculation;
+    }
+
+    public Boolean getCalculateOnDate() {
+        return calculateOnDate;
+    }
+
+    public void setCalculateOnDate(Boolean calculateOnDate) {
+        this.calculateOnDate = calculateOnDate;
+    }
+
+    public Boolean getCalculatedForCurrentMonth() {
+        return calculatedForCurrentMonth;
+    }
+
+    public void setCalculatedForCurrentMonth(Boolean calculatedForCurrentMonth) {
+        this.calculatedForCurrentMonth = calculatedForCurrentMonth;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return (
+            rentAmount == null &&
+            electricityUnitRate == null &&
+            sendNotification == null &&
+            monthEndCalculation == null &&
+            calculateOnDate == null &&
+            calculatedForCurrentMonth == null
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TenantPatchDTO{" +
+            "rentAmount=" + rentAmount +
+            ", electricityUnitRate=" + electricityUnitRate +
+            ", sendNotification=" + sendNotification +
+            ", monthEndCalculation=" + monthEndCalculation +
+            ", calculateOnDate=" + calculateOnDate +
+            ", calculatedForCurrentMonth=" + calculatedForCurrentMonth +
+            "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.domain.BillingRollup;
+import com.rentmanagement.service.BillingRollupService;
+import com.rentmanagement.web.rest.errors.BadRequestAlertException;
+import java.time.YearMonth;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for reading the {@link BillingRollup}s, the monthly billing totals of the buildings.
+ */
+@RestController
+@RequestMapping("/api")
+public class BillingRollupResource {
+
+    private final Logger log = LoggerFactory.getLogger(BillingRollupResource.class);
+
+    private static final String ENTITY_NAME = "billingRollup";
+
+    private final BillingRollupService billingRollupService;
+
+    public BillingRollupResource(BillingRollupService billingRollupService) {
+        this.billingRollupService = billingRollupService;
+    }
+
+    /**
+     * {@code GET  /billing-rollups} : get the billing totals of the buildings per month, e.g. {@code ?from=2022-01&to=2022-06}.
+     *
+     * @param buildingId the id of the building, all the buildings if absent.
+     * @param from the first month, the current month if absent.
+     * @param to the last month, the current month if absent.
+     * @return the list of rollups in body, ordered by month and building, or with status {@code 400 (Bad Request)} if
+     * {@code from} is after {@code to}.
+     */
+    @GetMapping("/billing-rollups")
+    public List<BillingRollup> getBillingRollups(
+        @RequestParam(required = false) Long buildingId,
+        @RequestParam(required = false) YearMonth from,
+        @RequestParam(required = false) YearMonth to
+    ) {
+        log.debug("REST request to get the BillingRollups of Building {} from {} to {}", buildingId, from, to);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestAlertException("The first month is after the last month", ENTITY_NAME, "invalidrange");
+        }
+        return billingRollupService.findSummary(buildingId, from, to);
+    }
+}
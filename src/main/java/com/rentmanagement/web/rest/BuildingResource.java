@@ -2,6 +2,8 @@ package com.rentmanagement.web.rest;
 
 import com.rentmanagement.domain.Building;
 import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.service.BuildingQueryService;
+import com.rentmanagement.service.criteria.BuildingCriteria;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -13,10 +15,15 @@ import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -36,8 +43,11 @@ public class BuildingResource {
 
     private final BuildingRepository buildingRepository;
 
-    public BuildingResource(BuildingRepository buildingRepository) {
+    private final BuildingQueryService buildingQueryService;
+
+    public BuildingResource(BuildingRepository buildingRepository, BuildingQueryService buildingQueryService) {
         this.buildingRepository = buildingRepository;
+        this.buildingQueryService = buildingQueryService;
     }
 
     /**
@@ -140,14 +150,46 @@ public class BuildingResource {
     }
 
     /**
-     * {@code GET  /buildings} : get all the buildings.
+     * {@code GET  /buildings} : get all the buildings matching the criteria.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of buildings in body.
      */
     @GetMapping("/buildings")
-    public List<Building> getAllBuildings() {
-        log.debug("REST request to get all Buildings");
-        return buildingRepository.findAll();
+    public ResponseEntity<List<Building>> getAllBuildings(BuildingCriteria criteria) {
+        log.debug("REST request to get Buildings by criteria: {}", criteria);
+        List<Building> entityList = buildingQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /buildings?page=:page} : get a page of the buildings matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of buildings in body.
+     */
+    @GetMapping(value = "/buildings", params = "page")
+    public ResponseEntity<List<Building>> getAllBuildings(
+        BuildingCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of Buildings by criteria: {}", criteria);
+        Page<Building> page = buildingQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /buildings/count} : count all the buildings matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/buildings/count")
+    public ResponseEntity<Long> countBuildings(BuildingCriteria criteria) {
+        log.debug("REST request to count Buildings by criteria: {}", criteria);
+        return ResponseEntity.ok().body(buildingQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.service.BulkImportService;
+import com.rentmanagement.service.DataFormat;
+import com.rentmanagement.service.dto.ImportReportDTO;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller importing {@link com.rentmanagement.domain.Tenant}s and {@link com.rentmanagement.domain.Room}s in bulk.
+ * <p>
+ * The upload is the raw request body, as {@code text/csv} with a header row or as {@code application/x-ndjson}, and is
+ * streamed to the import rather than read in memory.
+ */
+@RestController
+@RequestMapping("/api")
+public class BulkImportResource {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final Logger log = LoggerFactory.getLogger(BulkImportResource.class);
+
+    private final BulkImportService bulkImportService;
+
+    public BulkImportResource(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    /**
+     * {@code POST  /tenants/import} : Import tenants in bulk.
+     *
+     * @param request the request holding the tenants to import.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the report of the import, listing the rejected rows.
+     * @throws IOException if the upload cannot be read.
+     */
+    @PostMapping(value = "/tenants/import", consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<ImportReportDTO> importTenants(HttpServletRequest request) throws IOException {
+        log.debug("REST request to import Tenants");
+        return ResponseEntity.ok(bulkImportService.importTenants(request.getInputStream(), format(request)));
+    }
+
+    /**
+     * {@code POST  /rooms/import} : Import rooms in bulk.
+     *
+     * @param request the request holding the rooms to import.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the report of the import, listing the rejected rows.
+     * @throws IOException if the upload cannot be read.
+     */
+    @PostMapping(value = "/rooms/import", consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<ImportReportDTO> importRooms(HttpServletRequest request) throws IOException {
+        log.debug("REST request to import Rooms");
+        return ResponseEntity.ok(bulkImportService.importRooms(request.getInputStream(), format(request)));
+    }
+
+    private static DataFormat format(HttpServletRequest request) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+            ? DataFormat.NDJSON
+            : DataFormat.CSV;
+    }
+}
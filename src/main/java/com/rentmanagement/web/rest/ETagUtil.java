@@ -0,0 +1,64 @@
+package com.rentmanagement.web.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for the {@code ETag} of the versioned entities and the {@code If-Match} preconditions of their updates.
+ * <p>
+ * The entity tag of an entity is its version, a strong validator. A {@code GET} with a matching {@code If-None-Match}
+ * header is answered {@code 304 (Not Modified)} by Spring from the {@code ETag} of the response.
+ */
+final class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * The entity tag of the given version.
+     *
+     * @param version the version of the entity.
+     * @return the quoted entity tag.
+     */
+    static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Headers holding the entity tag of the given version, added to the given headers if any.
+     *
+     * @param headers the headers of the response, may be {@code null}.
+     * @param version the version of the entity.
+     * @return the headers.
+     */
+    static HttpHeaders withETag(HttpHeaders headers, long version) {
+        HttpHeaders result = headers == null ? new HttpHeaders() : headers;
+        result.setETag(eTag(version));
+        return result;
+    }
+
+    /**
+     * Checks the {@code If-Match} header of an update against the current version of the entity.
+     *
+     * @param ifMatch the {@code If-Match} header, the update is unconditional if {@code null}.
+     * @param version the current version of the entity.
+     * @throws ResponseStatusException with status {@code 412 (Precondition Failed)} if no entity tag matches the version.
+     */
+    static void checkIfMatch(String ifMatch, long version) {
+        if (ifMatch == null) {
+            return;
+        }
+        String current = eTag(version);
+        for (String tag : ifMatch.split(",")) {
+            // Weak tags never match, If-Match uses the strong comparison
+            String trimmed = tag.trim();
+            if ("*".equals(trimmed) || current.equals(trimmed)) {
+                return;
+            }
+        }
+        throw new ResponseStatusException(
+            HttpStatus.PRECONDITION_FAILED,
+            "The entity does not match If-Match, its current version is " + current
+        );
+    }
+}
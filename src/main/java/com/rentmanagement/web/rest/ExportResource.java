@@ -0,0 +1,118 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.service.DataFormat;
+import com.rentmanagement.service.ExportService;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller exporting {@link com.rentmanagement.domain.GenerateBill}s, {@link com.rentmanagement.domain.Tenant}s
+ * and {@link com.rentmanagement.domain.Room}s.
+ * <p>
+ * Exports are {@code text/csv} with a header row, or {@code application/x-ndjson} when it is the accepted media type,
+ * and are streamed to the response as they are read.
+ */
+@RestController
+@RequestMapping("/api")
+public class ExportResource {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final Logger log = LoggerFactory.getLogger(ExportResource.class);
+
+    private final ExportService exportService;
+
+    public ExportResource(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * {@code GET  /generate-bills/export} : export the generateBills, ordered by id.
+     *
+     * @param tenantId only the generateBills of this tenant, if any.
+     * @param buildingId only the generateBills of the tenants of this building, if any.
+     * @param accept the accepted media types.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the generateBills streamed in body.
+     */
+    @GetMapping("/generate-bills/export")
+    public ResponseEntity<StreamingResponseBody> exportGenerateBills(
+        @RequestParam(required = false) Long tenantId,
+        @RequestParam(required = false) Long buildingId,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.debug("REST request to export GenerateBills of tenant {} and building {}", tenantId, buildingId);
+        DataFormat format = format(accept);
+        return export("generate-bills", format, out -> exportService.exportBills(tenantId, buildingId, format, out));
+    }
+
+    /**
+     * {@code GET  /tenants/export} : export the tenants, ordered by id.
+     *
+     * @param buildingId only the tenants of this building, if any.
+     * @param rentStartFrom only the tenants starting their rent on or after this date, if any.
+     * @param rentStartTo only the tenants starting their rent on or before this date, if any.
+     * @param accept the accepted media types.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the tenants streamed in body.
+     */
+    @GetMapping("/tenants/export")
+    public ResponseEntity<StreamingResponseBody> exportTenants(
+        @RequestParam(required = false) Long buildingId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rentStartFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rentStartTo,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.debug("REST request to export Tenants of building {} starting from {} to {}", buildingId, rentStartFrom, rentStartTo);
+        DataFormat format = format(accept);
+        return export("tenants", format, out -> exportService.exportTenants(buildingId, rentStartFrom, rentStartTo, format, out));
+    }
+
+    /**
+     * {@code GET  /rooms/export} : export the rooms, ordered by id.
+     *
+     * @param buildingId only the rooms of this building, if any.
+     * @param tenantId only the rooms of this tenant, if any.
+     * @param accept the accepted media types.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the rooms streamed in body.
+     */
+    @GetMapping("/rooms/export")
+    public ResponseEntity<StreamingResponseBody> exportRooms(
+        @RequestParam(required = false) Long buildingId,
+        @RequestParam(required = false) Long tenantId,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.debug("REST request to export Rooms of building {} and tenant {}", buildingId, tenantId);
+        DataFormat format = format(accept);
+        return export("rooms", format, out -> exportService.exportRooms(buildingId, tenantId, format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(String name, DataFormat format, StreamingResponseBody body) {
+        boolean csv = format == DataFormat.CSV;
+        return ResponseEntity
+            .ok()
+            .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + (csv ? ".csv" : ".ndjson")).build().toString()
+            )
+            .body(body);
+    }
+
+    private static DataFormat format(String accept) {
+        if (accept != null) {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+                    return DataFormat.NDJSON;
+                }
+            }
+        }
+        return DataFormat.CSV;
+    }
+}
@@ -1,10 +1,27 @@
 package com.rentmanagement.web.rest;
 
 import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.repository.BillNotificationRepository;
 import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.security.AuthoritiesConstants;
+import com.rentmanagement.service.BillingRollupService;
+import com.rentmanagement.service.BillingRunInProgressException;
+import com.rentmanagement.service.BillingService;
+import com.rentmanagement.service.BulkUpdateService;
+import com.rentmanagement.service.GenerateBillQueryService;
+import com.rentmanagement.service.IdempotencyKeyReusedException;
+import com.rentmanagement.service.IdempotencyService;
+import com.rentmanagement.service.LedgerService;
+import com.rentmanagement.service.criteria.GenerateBillCriteria;
+import com.rentmanagement.service.dto.BillingRunDTO;
+import com.rentmanagement.service.dto.GenerateBillPatchDTO;
+import com.rentmanagement.service.dto.IdempotentResponseDTO;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -13,10 +30,18 @@ import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -31,48 +56,148 @@ public class GenerateBillResource {
 
     private static final String ENTITY_NAME = "generateBill";
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final GenerateBillRepository generateBillRepository;
 
-    public GenerateBillResource(GenerateBillRepository generateBillRepository) {
+    private final GenerateBillQueryService generateBillQueryService;
+
+    private final BillingService billingService;
+
+    private final BillNotificationRepository billNotificationRepository;
+
+    private final BillingRollupService billingRollupService;
+
+    private final IdempotencyService idempotencyService;
+
+    private final BulkUpdateService bulkUpdateService;
+
+    private final LedgerService ledgerService;
+
+    public GenerateBillResource(
+        GenerateBillRepository generateBillRepository,
+        GenerateBillQueryService generateBillQueryService,
+        BillingService billingService,
+        BillNotificationRepository billNotificationRepository,
+        BillingRollupService billingRollupService,
+        IdempotencyService idempotencyService,
+        BulkUpdateService bulkUpdateService,
+        LedgerService ledgerService
+    ) {
         this.generateBillRepository = generateBillRepository;
+        this.generateBillQueryService = generateBillQueryService;
+        this.billingService = billingService;
+        this.billNotificationRepository = billNotificationRepository;
+        this.billingRollupService = billingRollupService;
+        this.idempotencyService = idempotencyService;
+        this.bulkUpdateService = bulkUpdateService;
+        this.ledgerService = ledgerService;
     }
 
     /**
      * {@code POST  /generate-bills} : Create a new generateBill.
+     * <p>
+     * The charge of the bill, its amount pending less the outstanding amount of the tenant, is appended to the ledger of
+     * the tenant, as for the bills of the monthly run.
+     * <p>
+     * A client may send an {@code Idempotency-Key} header, e.g. a UUID, to retry the request safely: a retry with the
+     * same key and body gets the response of the first request, flagged by an {@code Idempotent-Replayed} header, and no
+     * other bill is created.
      *
-     * @param generateBill the generateBill to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new generateBill, or with status {@code 400 (Bad Request)} if the generateBill has already an ID.
+     * @param idempotencyKey the idempotency key of the request, if any.
+     * @param generateBill the generateBill to create, for the current month if its billing period is absent.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new generateBill, or with status {@code 400 (Bad Request)} if the generateBill has already an ID,
+     * or if the tenant does not exist or already has a bill for the period, or if the idempotency key was sent with another body,
+     * or with status {@code 409 (Conflict)} if a request with the same idempotency key was running.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/generate-bills")
-    public ResponseEntity<GenerateBill> createGenerateBill(@Valid @RequestBody GenerateBill generateBill) throws URISyntaxException {
+    public ResponseEntity<GenerateBill> createGenerateBill(
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+        @Valid @RequestBody GenerateBill generateBill
+    ) throws URISyntaxException {
         log.debug("REST request to save GenerateBill : {}", generateBill);
         if (generateBill.getId() != null) {
             throw new BadRequestAlertException("A new generateBill cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        GenerateBill result = generateBillRepository.save(generateBill);
-        return ResponseEntity
-            .created(new URI("/api/generate-bills/" + result.getId()))
-            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
-            .body(result);
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new BadRequestAlertException("Invalid idempotency key", ENTITY_NAME, "idempotencykeyinvalid");
+        }
+        IdempotentResponseDTO<GenerateBill> response;
+        try {
+            response =
+                idempotencyService.execute(ENTITY_NAME, idempotencyKey, generateBill, GenerateBill.class, () -> create(generateBill));
+        } catch (IdempotencyKeyReusedException e) {
+            throw new BadRequestAlertException("The idempotency key was sent with another bill", ENTITY_NAME, "idempotencykeyreused");
+        }
+        GenerateBill result = response.getBody();
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+            .created(new URI(response.getLocation()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()));
+        if (response.isReplayed()) {
+            builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return builder.body(result);
+    }
+
+    private IdempotentResponseDTO<GenerateBill> create(GenerateBill generateBill) {
+        LocalDate billingPeriod = generateBill.getBillingPeriod() == null
+            ? YearMonth.now(ZoneOffset.UTC).atDay(1)
+            : generateBill.getBillingPeriod().withDayOfMonth(1);
+        generateBill.setBillingPeriod(billingPeriod);
+        if (generateBillRepository.existsByTenantIdAndBillingPeriod(generateBill.getTenant().getId(), billingPeriod)) {
+            throw new BadRequestAlertException("The tenant already has a bill for this period", ENTITY_NAME, "periodexists");
+        }
+        GenerateBill result = billingService
+            .createBill(generateBill)
+            .orElseThrow(() -> new BadRequestAlertException("Tenant not found", ENTITY_NAME, "tenantnotfound"));
+        return new IdempotentResponseDTO<>(HttpStatus.CREATED.value(), "/api/generate-bills/" + result.getId(), result);
+    }
+
+    /**
+     * {@code POST  /generate-bills/run} : Generate the monthly bills of all the tenants not billed for the current month yet.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the summary of the run,
+     * or with status {@code 400 (Bad Request)} if a run is already in progress.
+     */
+    @PostMapping("/generate-bills/run")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<BillingRunDTO> runMonthlyBilling() {
+        log.debug("REST request to run the monthly billing");
+        try {
+            return ResponseEntity.ok(billingService.runMonthlyBilling());
+        } catch (BillingRunInProgressException e) {
+            throw new BadRequestAlertException("A bill run is already in progress", ENTITY_NAME, "billingrunning");
+        }
     }
 
     /**
      * {@code PUT  /generate-bills/:id} : Updates an existing generateBill.
+     * <p>
+     * The bill stays with its tenant. A change of its amount pending is appended to the ledger of the tenant.
      *
      * @param id the id of the generateBill to save.
+     * @param ifMatch the {@code ETag} of the generateBill the update was made from, if any.
      * @param generateBill the generateBill to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated generateBill,
      * or with status {@code 400 (Bad Request)} if the generateBill is not valid,
+     * or with status {@code 409 (Conflict)} if the generateBill was updated concurrently,
+     * or with status {@code 412 (Precondition Failed)} if the generateBill was updated since its {@code ETag} was read,
      * or with status {@code 500 (Internal Server Error)} if the generateBill couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/generate-bills/{id}")
     public ResponseEntity<GenerateBill> updateGenerateBill(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody GenerateBill generateBill
     ) throws URISyntaxException {
         log.debug("REST request to update GenerateBill : {}, {}", id, generateBill);
@@ -83,31 +208,51 @@ public class GenerateBillResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!generateBillRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        GenerateBill existingGenerateBill = generateBillRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, existingGenerateBill.getVersion());
+        generateBill.setVersion(existingGenerateBill.getVersion());
+        Double previousAmountPending = existingGenerateBill.getAmountPending();
+        Double previousElectricityUnit = existingGenerateBill.getElectricityUnit();
+        generateBill.setCreatedDate(existingGenerateBill.getCreatedDate());
+        generateBill.setBuildingId(existingGenerateBill.getBuildingId());
+        generateBill.setBillingPeriod(existingGenerateBill.getBillingPeriod());
+        generateBill.setTenant(existingGenerateBill.getTenant());
 
-        GenerateBill result = generateBillRepository.save(generateBill);
+        GenerateBill result = generateBillRepository.saveAndFlush(generateBill);
+        billingRollupService.billUpdated(result, previousAmountPending, previousElectricityUnit);
+        ledgerService.billUpdated(result, previousAmountPending);
         return ResponseEntity
             .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, generateBill.getId().toString()))
+            .headers(
+                ETagUtil.withETag(
+                    HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, generateBill.getId().toString()),
+                    result.getVersion()
+                )
+            )
             .body(result);
     }
 
     /**
      * {@code PATCH  /generate-bills/:id} : Partial updates given fields of an existing generateBill, field will ignore if it is null
+     * <p>
+     * A change of its amount pending is appended to the ledger of the tenant.
      *
      * @param id the id of the generateBill to save.
+     * @param ifMatch the {@code ETag} of the generateBill the update was made from, if any.
      * @param generateBill the generateBill to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated generateBill,
-     * or with status {@code 400 (Bad Request)} if the generateBill is not valid,
-     * or with status {@code 404 (Not Found)} if the generateBill is not found,
+     * or with status {@code 400 (Bad Request)} if the generateBill is not valid or not found,
+     * or with status {@code 409 (Conflict)} if the generateBill was updated concurrently,
+     * or with status {@code 412 (Precondition Failed)} if the generateBill was updated since its {@code ETag} was read,
      * or with status {@code 500 (Internal Server Error)} if the generateBill couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/generate-bills/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<GenerateBill> partialUpdateGenerateBill(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @NotNull @RequestBody GenerateBill generateBill
     ) throws URISyntaxException {
         log.debug("REST request to partial update GenerateBill partially : {}, {}", id, generateBill);
@@ -118,59 +263,142 @@ public class GenerateBillResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!generateBillRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        GenerateBill existingGenerateBill = generateBillRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, existingGenerateBill.getVersion());
+        Double previousAmountPending = existingGenerateBill.getAmountPending();
+        Double previousElectricityUnit = existingGenerateBill.getElectricityUnit();
+        if (generateBill.getAmountPending() != null) {
+            existingGenerateBill.setAmountPending(generateBill.getAmountPending());
+        }
+        if (generateBill.getSendNotification() != null) {
+            existingGenerateBill.setSendNotification(generateBill.getSendNotification());
         }
+        if (generateBill.getElectricityUnit() != null) {
+            existingGenerateBill.setElectricityUnit(generateBill.getElectricityUnit());
+        }
+        billingRollupService.billUpdated(existingGenerateBill, previousAmountPending, previousElectricityUnit);
+        ledgerService.billUpdated(existingGenerateBill, previousAmountPending);
 
-        Optional<GenerateBill> result = generateBillRepository
-            .findById(generateBill.getId())
-            .map(existingGenerateBill -> {
-                if (generateBill.getAmountPending() != null) {
-                    existingGenerateBill.setAmountPending(generateBill.getAmountPending());
-                }
-                if (generateBill.getSendNotification() != null) {
-                    existingGenerateBill.setSendNotification(generateBill.getSendNotification());
-                }
-                if (generateBill.getElectricityUnit() != null) {
-                    existingGenerateBill.setElectricityUnit(generateBill.getElectricityUnit());
-                }
-
-                return existingGenerateBill;
-            })
-            .map(generateBillRepository::save);
+        GenerateBill result = generateBillRepository.saveAndFlush(existingGenerateBill);
+        return ResponseEntity
+            .ok()
+            .headers(
+                ETagUtil.withETag(
+                    HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, generateBill.getId().toString()),
+                    result.getVersion()
+                )
+            )
+            .body(result);
+    }
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, generateBill.getId().toString())
-        );
+    /**
+     * {@code PATCH  /generate-bills} : Partial updates given fields of all the generateBills matching the criteria, field will ignore if it is null
+     * <p>
+     * The generateBills are selected like {@code GET /generate-bills}, e.g. {@code ?tenantId.equals=1} or
+     * {@code ?id.in=1,2,3}, and updated at once. Their versions are incremented. The amounts are not patchable, the
+     * monthly rollups being maintained bill by bill.
+     *
+     * @param criteria the criteria which the generateBills to update should match, at least one being required.
+     * @param patch the fields to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of updated generateBills in body,
+     * or with status {@code 400 (Bad Request)} if there is no criteria or no field to update.
+     */
+    @PatchMapping(value = "/generate-bills", consumes = { "application/json", "application/merge-patch+json" })
+    public ResponseEntity<Integer> partialUpdateGenerateBills(
+        GenerateBillCriteria criteria,
+        @NotNull @RequestBody GenerateBillPatchDTO patch
+    ) {
+        log.debug("REST request to partial update GenerateBills by criteria: {}, {}", criteria, patch);
+        // distinct is not a filter, it would still select every bill
+        GenerateBillCriteria filters = criteria.copy();
+        filters.setDistinct(null);
+        if (new GenerateBillCriteria().equals(filters)) {
+            throw new BadRequestAlertException("A criteria is required to update generateBills in bulk", ENTITY_NAME, "criteriaempty");
+        }
+        if (patch.isEmpty()) {
+            throw new BadRequestAlertException("No field to update", ENTITY_NAME, "patchempty");
+        }
+        return ResponseEntity.ok().body(bulkUpdateService.patchGenerateBills(criteria, patch));
     }
 
     /**
-     * {@code GET  /generate-bills} : get all the generateBills.
+     * {@code GET  /generate-bills} : get all the generateBills matching the criteria.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of generateBills in body.
      */
     @GetMapping("/generate-bills")
-    public List<GenerateBill> getAllGenerateBills() {
-        log.debug("REST request to get all GenerateBills");
-        return generateBillRepository.findAll();
+    public ResponseEntity<List<GenerateBill>> getAllGenerateBills(GenerateBillCriteria criteria) {
+        log.debug("REST request to get GenerateBills by criteria: {}", criteria);
+        List<GenerateBill> entityList = generateBillQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /generate-bills?page=:page} : get a page of the generateBills matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of generateBills in body.
+     */
+    @GetMapping(value = "/generate-bills", params = "page")
+    public ResponseEntity<List<GenerateBill>> getAllGenerateBills(
+        GenerateBillCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of GenerateBills by criteria: {}", criteria);
+        Page<GenerateBill> page = generateBillQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /generate-bills/count} : count all the generateBills matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/generate-bills/count")
+    public ResponseEntity<Long> countGenerateBills(GenerateBillCriteria criteria) {
+        log.debug("REST request to count GenerateBills by criteria: {}", criteria);
+        return ResponseEntity.ok().body(generateBillQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /tenants/:id/generate-bills} : get the generateBills of the "id" tenant, latest first.
+     *
+     * @param id the id of the tenant.
+     * @return the list of generateBills of the tenant in body.
+     */
+    @GetMapping("/tenants/{id}/generate-bills")
+    public List<GenerateBill> getTenantGenerateBills(@PathVariable Long id) {
+        log.debug("REST request to get the GenerateBills of Tenant : {}", id);
+        return generateBillRepository.findByTenantIdOrderByIdDesc(id);
     }
 
     /**
      * {@code GET  /generate-bills/:id} : get the "id" generateBill.
      *
      * @param id the id of the generateBill to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the generateBill, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the generateBill and its version as {@code ETag},
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/generate-bills/{id}")
     public ResponseEntity<GenerateBill> getGenerateBill(@PathVariable Long id) {
         log.debug("REST request to get GenerateBill : {}", id);
         Optional<GenerateBill> generateBill = generateBillRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(generateBill);
+        return ResponseUtil.wrapOrNotFound(
+            generateBill,
+            generateBill.map(found -> ETagUtil.withETag(null, found.getVersion())).orElse(null)
+        );
     }
 
     /**
      * {@code DELETE  /generate-bills/:id} : delete the "id" generateBill.
+     * <p>
+     * The entries appended to the ledger of the tenant for the bill are reversed.
      *
      * @param id the id of the generateBill to delete.
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
@@ -178,7 +406,14 @@ public class GenerateBillResource {
     @DeleteMapping("/generate-bills/{id}")
     public ResponseEntity<Void> deleteGenerateBill(@PathVariable Long id) {
         log.debug("REST request to delete GenerateBill : {}", id);
-        generateBillRepository.deleteById(id);
+        billNotificationRepository.deleteByGenerateBillId(id);
+        generateBillRepository
+            .findById(id)
+            .ifPresent(generateBill -> {
+                billingRollupService.billDeleted(generateBill);
+                ledgerService.billDeleted(generateBill);
+                generateBillRepository.delete(generateBill);
+            });
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
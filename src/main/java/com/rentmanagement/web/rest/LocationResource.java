@@ -2,6 +2,8 @@ package com.rentmanagement.web.rest;
 
 import com.rentmanagement.domain.Location;
 import com.rentmanagement.repository.LocationRepository;
+import com.rentmanagement.service.LocationQueryService;
+import com.rentmanagement.service.criteria.LocationCriteria;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -11,10 +13,15 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -34,8 +41,11 @@ public class LocationResource {
 
     private final LocationRepository locationRepository;
 
-    public LocationResource(LocationRepository locationRepository) {
+    private final LocationQueryService locationQueryService;
+
+    public LocationResource(LocationRepository locationRepository, LocationQueryService locationQueryService) {
         this.locationRepository = locationRepository;
+        this.locationQueryService = locationQueryService;
     }
 
     /**
@@ -150,14 +160,46 @@ public class LocationResource {
     }
 
     /**
-     * {@code GET  /locations} : get all the locations.
+     * {@code GET  /locations} : get all the locations matching the criteria.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of locations in body.
      */
     @GetMapping("/locations")
-    public List<Location> getAllLocations() {
-        log.debug("REST request to get all Locations");
-        return locationRepository.findAll();
+    public ResponseEntity<List<Location>> getAllLocations(LocationCriteria criteria) {
+        log.debug("REST request to get Locations by criteria: {}", criteria);
+        List<Location> entityList = locationQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /locations?page=:page} : get a page of the locations matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of locations in body.
+     */
+    @GetMapping(value = "/locations", params = "page")
+    public ResponseEntity<List<Location>> getAllLocations(
+        LocationCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of Locations by criteria: {}", criteria);
+        Page<Location> page = locationQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /locations/count} : count all the locations matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/locations/count")
+    public ResponseEntity<Long> countLocations(LocationCriteria criteria) {
+        log.debug("REST request to count Locations by criteria: {}", criteria);
+        return ResponseEntity.ok().body(locationQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -2,6 +2,8 @@ package com.rentmanagement.web.rest;
 
 import com.rentmanagement.domain.Owner;
 import com.rentmanagement.repository.OwnerRepository;
+import com.rentmanagement.service.OwnerQueryService;
+import com.rentmanagement.service.criteria.OwnerCriteria;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -13,10 +15,15 @@ import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -36,8 +43,11 @@ public class OwnerResource {
 
     private final OwnerRepository ownerRepository;
 
-    public OwnerResource(OwnerRepository ownerRepository) {
+    private final OwnerQueryService ownerQueryService;
+
+    public OwnerResource(OwnerRepository ownerRepository, OwnerQueryService ownerQueryService) {
         this.ownerRepository = ownerRepository;
+        this.ownerQueryService = ownerQueryService;
     }
 
     /**
@@ -141,14 +151,46 @@ public class OwnerResource {
     }
 
     /**
-     * {@code GET  /owners} : get all the owners.
+     * {@code GET  /owners} : get all the owners matching the criteria.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of owners in body.
      */
     @GetMapping("/owners")
-    public List<Owner> getAllOwners() {
-        log.debug("REST request to get all Owners");
-        return ownerRepository.findAll();
+    public ResponseEntity<List<Owner>> getAllOwners(OwnerCriteria criteria) {
+        log.debug("REST request to get Owners by criteria: {}", criteria);
+        List<Owner> entityList = ownerQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /owners?page=:page} : get a page of the owners matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of owners in body.
+     */
+    @GetMapping(value = "/owners", params = "page")
+    public ResponseEntity<List<Owner>> getAllOwners(
+        OwnerCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of Owners by criteria: {}", criteria);
+        Page<Owner> page = ownerQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /owners/count} : count all the owners matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/owners/count")
+    public ResponseEntity<Long> countOwners(OwnerCriteria criteria) {
+        log.debug("REST request to count Owners by criteria: {}", criteria);
+        return ResponseEntity.ok().body(ownerQueryService.countByCriteria(criteria));
     }
 
     /**
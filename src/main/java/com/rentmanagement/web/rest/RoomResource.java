@@ -2,6 +2,8 @@ package com.rentmanagement.web.rest;
 
 import com.rentmanagement.domain.Room;
 import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.service.RoomQueryService;
+import com.rentmanagement.service.criteria.RoomCriteria;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -13,10 +15,15 @@ import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -36,8 +43,11 @@ public class RoomResource {
 
     private final RoomRepository roomRepository;
 
-    public RoomResource(RoomRepository roomRepository) {
+    private final RoomQueryService roomQueryService;
+
+    public RoomResource(RoomRepository roomRepository, RoomQueryService roomQueryService) {
         this.roomRepository = roomRepository;
+        this.roomQueryService = roomQueryService;
     }
 
     /**
@@ -141,14 +151,55 @@ public class RoomResource {
     }
 
     /**
-     * {@code GET  /rooms} : get all the rooms.
+     * {@code GET  /rooms} : get all the rooms matching the criteria.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rooms in body.
      */
     @GetMapping("/rooms")
-    public List<Room> getAllRooms() {
-        log.debug("REST request to get all Rooms");
-        return roomRepository.findAll();
+    public ResponseEntity<List<Room>> getAllRooms(RoomCriteria criteria) {
+        log.debug("REST request to get Rooms by criteria: {}", criteria);
+        List<Room> entityList = roomQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /rooms?page=:page} : get a page of the rooms matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of rooms in body.
+     */
+    @GetMapping(value = "/rooms", params = "page")
+    public ResponseEntity<List<Room>> getAllRooms(RoomCriteria criteria, @org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+        log.debug("REST request to get a page of Rooms by criteria: {}", criteria);
+        Page<Room> page = roomQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /rooms/count} : count all the rooms matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/rooms/count")
+    public ResponseEntity<Long> countRooms(RoomCriteria criteria) {
+        log.debug("REST request to count Rooms by criteria: {}", criteria);
+        return ResponseEntity.ok().body(roomQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /buildings/:id/rooms} : get the rooms of the "id" building.
+     *
+     * @param id the id of the building.
+     * @return the list of rooms of the building in body.
+     */
+    @GetMapping("/buildings/{id}/rooms")
+    public List<Room> getBuildingRooms(@PathVariable Long id) {
+        log.debug("REST request to get the Rooms of Building : {}", id);
+        return roomRepository.findByBuildingIdOrderByIdAsc(id);
     }
 
     /**
@@ -160,7 +211,7 @@ public class RoomResource {
     @GetMapping("/rooms/{id}")
     public ResponseEntity<Room> getRoom(@PathVariable Long id) {
         log.debug("REST request to get Room : {}", id);
-        Optional<Room> room = roomRepository.findById(id);
+        Optional<Room> room = roomRepository.findOneWithToOneRelationships(id);
         return ResponseUtil.wrapOrNotFound(room);
     }
 
@@ -0,0 +1,133 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.TenantDocumentService;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for managing the addressProff document of a {@link com.rentmanagement.domain.Tenant}.
+ */
+@RestController
+@RequestMapping("/api")
+public class TenantDocumentResource {
+
+    private final Logger log = LoggerFactory.getLogger(TenantDocumentResource.class);
+
+    private static final String ENTITY_NAME = "tenant";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final TenantRepository tenantRepository;
+
+    private final TenantDocumentService tenantDocumentService;
+
+    public TenantDocumentResource(TenantRepository tenantRepository, TenantDocumentService tenantDocumentService) {
+        this.tenantRepository = tenantRepository;
+        this.tenantDocumentService = tenantDocumentService;
+    }
+
+    /**
+     * {@code PUT  /tenants/:id/address-proff} : Upload the addressProff document of the "id" tenant.
+     * <p>
+     * The request body is the raw document, streamed to the store, and its {@code Content-Type} is kept as the document
+     * content type.
+     *
+     * @param id the id of the tenant.
+     * @param request the request holding the document.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated tenant, or with status {@code 404 (Not Found)}.
+     * @throws IOException if the document could not be read.
+     */
+    @PutMapping("/tenants/{id}/address-proff")
+    public ResponseEntity<Tenant> uploadAddressProff(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        log.debug("REST request to upload the addressProff of Tenant : {}", id);
+        String contentType = Optional.ofNullable(request.getContentType()).orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        Optional<Tenant> result = tenantDocumentService.store(id, contentType, request.getInputStream());
+        return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()));
+    }
+
+    /**
+     * {@code GET  /tenants/:id/address-proff} : Download the addressProff document of the "id" tenant.
+     * <p>
+     * A single byte range can be requested with the {@code Range} header, other ranges are ignored.
+     *
+     * @param id the id of the tenant.
+     * @param headers the request headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the document in body,
+     * or with status {@code 206 (Partial Content)} and the requested range in body,
+     * or with status {@code 416 (Requested Range Not Satisfiable)} if the range is not valid for the document,
+     * or with status {@code 404 (Not Found)} if the tenant has no document.
+     */
+    @GetMapping("/tenants/{id}/address-proff")
+    public ResponseEntity<StreamingResponseBody> downloadAddressProff(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
+        log.debug("REST request to download the addressProff of Tenant : {}", id);
+        Optional<Tenant> tenant = tenantRepository.findById(id).filter(existingTenant -> existingTenant.getAddressProffSize() != null);
+        if (tenant.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        long size = tenant.get().getAddressProffSize();
+        MediaType contentType = MediaType.parseMediaType(tenant.get().getAddressProffContentType());
+
+        long start = 0L;
+        long end = size - 1;
+        boolean partial = false;
+        try {
+            List<HttpRange> ranges = headers.getRange();
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+                partial = true;
+            }
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(size);
+        }
+        if (partial && (start >= size || start > end)) {
+            return rangeNotSatisfiable(size);
+        }
+
+        long rangeStart = start;
+        long rangeEnd = end;
+        ResponseEntity.BodyBuilder response = ResponseEntity
+            .status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+            .contentType(contentType)
+            .contentLength(rangeEnd - rangeStart + 1)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (partial) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + rangeStart + "-" + rangeEnd + "/" + size);
+        }
+        return response.body(out -> tenantDocumentService.copyRange(id, rangeStart, rangeEnd, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).header(HttpHeaders.CONTENT_RANGE, "bytes */" + size).build();
+    }
+
+    /**
+     * {@code DELETE  /tenants/:id/address-proff} : Delete the addressProff document of the "id" tenant.
+     *
+     * @param id the id of the tenant.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated tenant, or with status {@code 404 (Not Found)}.
+     */
+    @DeleteMapping("/tenants/{id}/address-proff")
+    public ResponseEntity<Tenant> deleteAddressProff(@PathVariable Long id) {
+        log.debug("REST request to delete the addressProff of Tenant : {}", id);
+        Optional<Tenant> result = tenantDocumentService.delete(id);
+        return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()));
+    }
+}
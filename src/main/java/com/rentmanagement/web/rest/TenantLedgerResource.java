@@ -0,0 +1,94 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.LedgerService;
+import com.rentmanagement.web.rest.errors.BadRequestAlertException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import javax.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller for managing the ledger of a {@link com.rentmanagement.domain.Tenant}.
+ * <p>
+ * Entries can only be appended: a wrong entry is corrected by appending the opposite one.
+ */
+@RestController
+@RequestMapping("/api")
+public class TenantLedgerResource {
+
+    private final Logger log = LoggerFactory.getLogger(TenantLedgerResource.class);
+
+    private static final String ENTITY_NAME = "ledgerEntry";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final TenantRepository tenantRepository;
+
+    private final LedgerService ledgerService;
+
+    public TenantLedgerResource(TenantRepository tenantRepository, LedgerService ledgerService) {
+        this.tenantRepository = tenantRepository;
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * {@code POST  /tenants/:id/ledger} : Append a charge or a payment to the ledger of the "id" tenant.
+     *
+     * @param id the id of the tenant.
+     * @param ledgerEntry the entry to append.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the appended entry, holding the new balance of the tenant,
+     * or with status {@code 400 (Bad Request)} if the entry has already an ID or the tenant does not exist.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/tenants/{id}/ledger")
+    public ResponseEntity<LedgerEntry> appendLedgerEntry(@PathVariable Long id, @Valid @RequestBody LedgerEntry ledgerEntry)
+        throws URISyntaxException {
+        log.debug("REST request to append to the ledger of Tenant {} : {}", id, ledgerEntry);
+        if (ledgerEntry.getId() != null) {
+            throw new BadRequestAlertException("A new ledgerEntry cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        LedgerEntry result = ledgerService
+            .append(id, ledgerEntry.getEntryType(), ledgerEntry.getAmount(), ledgerEntry.getDescription())
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", "tenant", "idnotfound"));
+        return ResponseEntity
+            .created(new URI("/api/tenants/" + id + "/ledger"))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code GET  /tenants/:id/ledger} : get a page of the ledger of the "id" tenant, latest entries first.
+     *
+     * @param id the id of the tenant.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of entries in body,
+     * or with status {@code 404 (Not Found)} if the tenant does not exist.
+     */
+    @GetMapping("/tenants/{id}/ledger")
+    public ResponseEntity<List<LedgerEntry>> getLedgerEntries(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get the ledger of Tenant : {}", id);
+        if (!tenantRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Page<LedgerEntry> page = ledgerService.findByTenant(id, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+}
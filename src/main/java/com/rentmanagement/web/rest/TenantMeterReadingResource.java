@@ -0,0 +1,95 @@
+package com.rentmanagement.web.rest;
+
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.MeterReadingService;
+import com.rentmanagement.service.dto.MeterReadingDTO;
+import com.rentmanagement.web.rest.errors.BadRequestAlertException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for managing the electricity meter readings of a {@link com.rentmanagement.domain.Tenant}.
+ */
+@RestController
+@RequestMapping("/api")
+public class TenantMeterReadingResource {
+
+    private final Logger log = LoggerFactory.getLogger(TenantMeterReadingResource.class);
+
+    private static final String ENTITY_NAME = "meterReading";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final TenantRepository tenantRepository;
+
+    private final MeterReadingService meterReadingService;
+
+    public TenantMeterReadingResource(TenantRepository tenantRepository, MeterReadingService meterReadingService) {
+        this.tenantRepository = tenantRepository;
+        this.meterReadingService = meterReadingService;
+    }
+
+    /**
+     * {@code POST  /tenants/:id/meter-readings} : Record a meter reading of the "id" tenant.
+     *
+     * @param id the id of the tenant.
+     * @param meterReading the reading to record, now if its {@code readAt} is absent.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the recorded reading, holding the consumption since the previous reading,
+     * or with status {@code 400 (Bad Request)} if the tenant does not exist.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/tenants/{id}/meter-readings")
+    public ResponseEntity<MeterReadingDTO> recordMeterReading(@PathVariable Long id, @Valid @RequestBody MeterReadingDTO meterReading)
+        throws URISyntaxException {
+        log.debug("REST request to record a meter reading of Tenant {} : {}", id, meterReading);
+        MeterReadingDTO result = meterReadingService
+            .record(id, meterReading.getReadAt(), meterReading.getValue())
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", "tenant", "idnotfound"));
+        return ResponseEntity
+            .created(new URI("/api/tenants/" + id + "/meter-readings"))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getReadAt().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code GET  /tenants/:id/meter-readings} : get the meter readings of the "id" tenant between two days, e.g.
+     * {@code ?from=2022-01-01&to=2022-06-30}.
+     *
+     * @param id the id of the tenant.
+     * @param from the first day, the first day of the current month if absent.
+     * @param to the last day, included, the last day of the current month if absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the readings in body, ordered by time, or with status
+     * {@code 400 (Bad Request)} if {@code from} is after {@code to}, or with status {@code 404 (Not Found)} if the tenant does not exist.
+     */
+    @GetMapping("/tenants/{id}/meter-readings")
+    public ResponseEntity<List<MeterReadingDTO>> getMeterReadings(
+        @PathVariable Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        log.debug("REST request to get the meter readings of Tenant {} from {} to {}", id, from, to);
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        LocalDate fromDay = from == null ? currentMonth.atDay(1) : from;
+        LocalDate toDay = to == null ? currentMonth.atEndOfMonth() : to;
+        if (fromDay.isAfter(toDay)) {
+            throw new BadRequestAlertException("The first day is after the last day", ENTITY_NAME, "invalidrange");
+        }
+        if (!tenantRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(meterReadingService.findReadings(id, fromDay, toDay));
+    }
+}
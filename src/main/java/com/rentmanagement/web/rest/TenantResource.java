@@ -1,8 +1,22 @@
 package com.rentmanagement.web.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.MeterReadingBlockRepository;
 import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.repository.TenantDocumentChunkRepository;
+import com.rentmanagement.repository.TenantSummary;
+import com.rentmanagement.service.BulkUpdateService;
+import com.rentmanagement.service.LedgerService;
+import com.rentmanagement.service.TenantQueryService;
+import com.rentmanagement.service.criteria.TenantCriteria;
+import com.rentmanagement.service.dto.TenantPatchDTO;
 import com.rentmanagement.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -13,10 +27,18 @@ import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -31,17 +53,53 @@ public class TenantResource {
 
     private static final String ENTITY_NAME = "tenant";
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 1000;
+
+    private static final int STREAM_PAGE_SIZE = 500;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final TenantRepository tenantRepository;
 
-    public TenantResource(TenantRepository tenantRepository) {
+    private final TenantQueryService tenantQueryService;
+
+    private final TenantDocumentChunkRepository tenantDocumentChunkRepository;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    private final MeterReadingBlockRepository meterReadingBlockRepository;
+
+    private final LedgerService ledgerService;
+
+    private final BulkUpdateService bulkUpdateService;
+
+    private final ObjectWriter ndjsonWriter;
+
+    public TenantResource(
+        TenantRepository tenantRepository,
+        TenantQueryService tenantQueryService,
+        TenantDocumentChunkRepository tenantDocumentChunkRepository,
+        LedgerEntryRepository ledgerEntryRepository,
+        MeterReadingBlockRepository meterReadingBlockRepository,
+        LedgerService ledgerService,
+        BulkUpdateService bulkUpdateService,
+        ObjectMapper objectMapper
+    ) {
         this.tenantRepository = tenantRepository;
+        this.tenantQueryService = tenantQueryService;
+        this.tenantDocumentChunkRepository = tenantDocumentChunkRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.meterReadingBlockRepository = meterReadingBlockRepository;
+        this.ledgerService = ledgerService;
+        this.bulkUpdateService = bulkUpdateService;
+        this.ndjsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     /**
      * {@code POST  /tenants} : Create a new tenant.
+     * <p>
+     * The outstanding amount of the tenant, if any, opens its ledger.
      *
      * @param tenant the tenant to create.
      * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new tenant, or with status {@code 400 (Bad Request)} if the tenant has already an ID.
@@ -54,6 +112,7 @@ public class TenantResource {
             throw new BadRequestAlertException("A new tenant cannot already have an ID", ENTITY_NAME, "idexists");
         }
         Tenant result = tenantRepository.save(tenant);
+        ledgerService.open(result);
         return ResponseEntity
             .created(new URI("/api/tenants/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -62,17 +121,23 @@ public class TenantResource {
 
     /**
      * {@code PUT  /tenants/:id} : Updates an existing tenant.
+     * <p>
+     * The outstanding amount is kept: it only changes through the ledger of the tenant.
      *
      * @param id the id of the tenant to save.
+     * @param ifMatch the {@code ETag} of the tenant the update was made from, if any.
      * @param tenant the tenant to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated tenant,
      * or with status {@code 400 (Bad Request)} if the tenant is not valid,
+     * or with status {@code 409 (Conflict)} if the tenant was updated concurrently,
+     * or with status {@code 412 (Precondition Failed)} if the tenant was updated since its {@code ETag} was read,
      * or with status {@code 500 (Internal Server Error)} if the tenant couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/tenants/{id}")
     public ResponseEntity<Tenant> updateTenant(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody Tenant tenant
     ) throws URISyntaxException {
         log.debug("REST request to update Tenant : {}, {}", id, tenant);
@@ -83,31 +148,49 @@ public class TenantResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!tenantRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        Tenant existingTenant = tenantRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, existingTenant.getVersion());
+        tenant.setVersion(existingTenant.getVersion());
+        // The addressProff document is managed through /tenants/:id/address-proff
+        tenant.setAddressProffContentType(existingTenant.getAddressProffContentType());
+        tenant.setAddressProffSize(existingTenant.getAddressProffSize());
+        // The outstanding amount is maintained through /tenants/:id/ledger
+        tenant.setOutStandingAmount(existingTenant.getOutStandingAmount());
 
-        Tenant result = tenantRepository.save(tenant);
+        // Flushed so that the new version is known, the update failing if the tenant was updated concurrently
+        Tenant result = tenantRepository.saveAndFlush(tenant);
         return ResponseEntity
             .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tenant.getId().toString()))
+            .headers(
+                ETagUtil.withETag(
+                    HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tenant.getId().toString()),
+                    result.getVersion()
+                )
+            )
             .body(result);
     }
 
     /**
      * {@code PATCH  /tenants/:id} : Partial updates given fields of an existing tenant, field will ignore if it is null
+     * <p>
+     * The outstanding amount is ignored: it only changes through the ledger of the tenant.
      *
      * @param id the id of the tenant to save.
+     * @param ifMatch the {@code ETag} of the tenant the update was made from, if any.
      * @param tenant the tenant to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated tenant,
-     * or with status {@code 400 (Bad Request)} if the tenant is not valid,
-     * or with status {@code 404 (Not Found)} if the tenant is not found,
+     * or with status {@code 400 (Bad Request)} if the tenant is not valid or not found,
+     * or with status {@code 409 (Conflict)} if the tenant was updated concurrently,
+     * or with status {@code 412 (Precondition Failed)} if the tenant was updated since its {@code ETag} was read,
      * or with status {@code 500 (Internal Server Error)} if the tenant couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/tenants/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Tenant> partialUpdateTenant(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @NotNull @RequestBody Tenant tenant
     ) throws URISyntaxException {
         log.debug("REST request to partial update Tenant partially : {}, {}", id, tenant);
@@ -118,97 +201,241 @@ public class TenantResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!tenantRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Tenant> result = tenantRepository
-            .findById(tenant.getId())
-            .map(existingTenant -> {
-                if (tenant.getTenantName() != null) {
-                    existingTenant.setTenantName(tenant.getTenantName());
-                }
-                if (tenant.getAddressProff() != null) {
-                    existingTenant.setAddressProff(tenant.getAddressProff());
-                }
-                if (tenant.getAddressProffContentType() != null) {
-                    existingTenant.setAddressProffContentType(tenant.getAddressProffContentType());
-                }
-                if (tenant.getNumberofFamilyMembers() != null) {
-                    existingTenant.setNumberofFamilyMembers(tenant.getNumberofFamilyMembers());
-                }
-                if (tenant.getPhoneNumber() != null) {
-                    existingTenant.setPhoneNumber(tenant.getPhoneNumber());
-                }
-                if (tenant.getRentStartDate() != null) {
-                    existingTenant.setRentStartDate(tenant.getRentStartDate());
-                }
-                if (tenant.getRentAmount() != null) {
-                    existingTenant.setRentAmount(tenant.getRentAmount());
-                }
-                if (tenant.getElectricityUnitRate() != null) {
-                    existingTenant.setElectricityUnitRate(tenant.getElectricityUnitRate());
-                }
-                if (tenant.getStartingElectricityUnit() != null) {
-                    existingTenant.setStartingElectricityUnit(tenant.getStartingElectricityUnit());
-                }
-                if (tenant.getAnyOtherDetails() != null) {
-                    existingTenant.setAnyOtherDetails(tenant.getAnyOtherDetails());
-                }
-                if (tenant.getSendNotification() != null) {
-                    existingTenant.setSendNotification(tenant.getSendNotification());
-                }
-                if (tenant.getEmailAddress() != null) {
-                    existingTenant.setEmailAddress(tenant.getEmailAddress());
-                }
-                if (tenant.getEmergencyContactNumber() != null) {
-                    existingTenant.setEmergencyContactNumber(tenant.getEmergencyContactNumber());
-                }
-                if (tenant.getOutStandingAmount() != null) {
-                    existingTenant.setOutStandingAmount(tenant.getOutStandingAmount());
-                }
-                if (tenant.getMonthEndCalculation() != null) {
-                    existingTenant.setMonthEndCalculation(tenant.getMonthEndCalculation());
-                }
-                if (tenant.getCalculateOnDate() != null) {
-                    existingTenant.setCalculateOnDate(tenant.getCalculateOnDate());
-                }
-                if (tenant.getCalculatedForCurrentMonth() != null) {
-                    existingTenant.setCalculatedForCurrentMonth(tenant.getCalculatedForCurrentMonth());
-                }
-
-                return existingTenant;
-            })
-            .map(tenantRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tenant.getId().toString())
-        );
+        Tenant existingTenant = tenantRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        ETagUtil.checkIfMatch(ifMatch, existingTenant.getVersion());
+        if (tenant.getTenantName() != null) {
+            existingTenant.setTenantName(tenant.getTenantName());
+        }
+        if (tenant.getNumberofFamilyMembers() != null) {
+            existingTenant.setNumberofFamilyMembers(tenant.getNumberofFamilyMembers());
+        }
+        if (tenant.getPhoneNumber() != null) {
+            existingTenant.setPhoneNumber(tenant.getPhoneNumber());
+        }
+        if (tenant.getRentStartDate() != null) {
+            existingTenant.setRentStartDate(tenant.getRentStartDate());
+        }
+        if (tenant.getRentAmount() != null) {
+            existingTenant.setRentAmount(tenant.getRentAmount());
+        }
+        if (tenant.getElectricityUnitRate() != null) {
+            existingTenant.setElectricityUnitRate(tenant.getElectricityUnitRate());
+        }
+        if (tenant.getStartingElectricityUnit() != null) {
+            existingTenant.setStartingElectricityUnit(tenant.getStartingElectricityUnit());
+        }
+        if (tenant.getAnyOtherDetails() != null) {
+            existingTenant.setAnyOtherDetails(tenant.getAnyOtherDetails());
+        }
+        if (tenant.getSendNotification() != null) {
+            existingTenant.setSendNotification(tenant.getSendNotification());
+        }
+        if (tenant.getEmailAddress() != null) {
+            existingTenant.setEmailAddress(tenant.getEmailAddress());
+        }
+        if (tenant.getEmergencyContactNumber() != null) {
+            existingTenant.setEmergencyContactNumber(tenant.getEmergencyContactNumber());
+        }
+        if (tenant.getMonthEndCalculation() != null) {
+            existingTenant.setMonthEndCalculation(tenant.getMonthEndCalculation());
+        }
+        if (tenant.getCalculateOnDate() != null) {
+            existingTenant.setCalculateOnDate(tenant.getCalculateOnDate());
+        }
+        if (tenant.getCalculatedForCurrentMonth() != null) {
+            existingTenant.setCalculatedForCurrentMonth(tenant.getCalculatedForCurrentMonth());
+        }
+
+        Tenant result = tenantRepository.saveAndFlush(existingTenant);
+        return ResponseEntity
+            .ok()
+            .headers(
+                ETagUtil.withETag(
+                    HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tenant.getId().toString()),
+                    result.getVersion()
+                )
+            )
+            .body(result);
     }
 
     /**
-     * {@code GET  /tenants} : get all the tenants.
+     * {@code PATCH  /tenants} : Partial updates given fields of all the tenants matching the criteria, field will ignore if it is null
+     * <p>
+     * The tenants are selected like {@code GET /tenants}, e.g. {@code ?buildingId.equals=1} or {@code ?id.in=1,2,3}, and
+     * updated at once. Their versions are incremented. The outstanding amount is not patchable.
      *
+     * @param criteria the criteria which the tenants to update should match, at least one being required.
+     * @param patch the fields to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of updated tenants in body,
+     * or with status {@code 400 (Bad Request)} if there is no criteria or no field to update.
+     */
+    @PatchMapping(value = "/tenants", consumes = { "application/json", "application/merge-patch+json" })
+    public ResponseEntity<Integer> partialUpdateTenants(TenantCriteria criteria, @NotNull @RequestBody TenantPatchDTO patch) {
+        log.debug("REST request to partial update Tenants by criteria: {}, {}", criteria, patch);
+        // distinct is not a filter, it would still select every tenant
+        TenantCriteria filters = criteria.copy();
+        filters.setDistinct(null);
+        if (new TenantCriteria().equals(filters)) {
+            throw new BadRequestAlertException("A criteria is required to update tenants in bulk", ENTITY_NAME, "criteriaempty");
+        }
+        if (patch.isEmpty()) {
+            throw new BadRequestAlertException("No field to update", ENTITY_NAME, "patchempty");
+        }
+        return ResponseEntity.ok().body(bulkUpdateService.patchTenants(criteria, patch));
+    }
+
+    /**
+     * {@code GET  /tenants} : get all the tenants matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tenants in body.
      */
     @GetMapping("/tenants")
-    public List<Tenant> getAllTenants() {
-        log.debug("REST request to get all Tenants");
-        return tenantRepository.findAll();
+    public ResponseEntity<List<Tenant>> getAllTenants(TenantCriteria criteria) {
+        log.debug("REST request to get Tenants by criteria: {}", criteria);
+        List<Tenant> entityList = tenantQueryService.findByCriteria(criteria);
+        return ResponseEntity.ok().body(entityList);
+    }
+
+    /**
+     * {@code GET  /tenants?page=:page} : get a page of the tenants matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of tenants in body.
+     */
+    @GetMapping(value = "/tenants", params = "page")
+    public ResponseEntity<List<Tenant>> getAllTenants(
+        TenantCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of Tenants by criteria: {}", criteria);
+        Page<Tenant> page = tenantQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /tenants/count} : count all the tenants matching the criteria.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/tenants/count")
+    public ResponseEntity<Long> countTenants(TenantCriteria criteria) {
+        log.debug("REST request to count Tenants by criteria: {}", criteria);
+        return ResponseEntity.ok().body(tenantQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /buildings/:id/tenants} : get the tenants renting a room of the "id" building.
+     *
+     * @param id the id of the building.
+     * @return the list of tenants of the building in body.
+     */
+    @GetMapping("/buildings/{id}/tenants")
+    public List<Tenant> getBuildingTenants(@PathVariable Long id) {
+        log.debug("REST request to get the Tenants of Building : {}", id);
+        return tenantRepository.findByBuildingId(id);
+    }
+
+    /**
+     * {@code GET  /tenants?afterId=:afterId} : get a page of tenants, ordered by id, starting after the "afterId" tenant.
+     * <p>
+     * When the page is full, the {@code Link} header holds the {@code next} page, starting after its last tenant.
+     *
+     * @param afterId the id of the last tenant of the previous page, {@code 0} for the first page.
+     * @param size the size of the page, at most {@value #MAX_KEYSET_PAGE_SIZE}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of tenants in body.
+     */
+    @GetMapping(value = "/tenants", params = "afterId")
+    public ResponseEntity<List<Tenant>> getTenantsAfter(@RequestParam long afterId, @RequestParam(defaultValue = "20") int size) {
+        log.debug("REST request to get a page of Tenants after : {}", afterId);
+        int pageSize = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        List<Tenant> tenants = tenantRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize));
+        HttpHeaders headers = new HttpHeaders();
+        if (tenants.size() == pageSize) {
+            String next = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("afterId", tenants.get(tenants.size() - 1).getId())
+                .replaceQueryParam("size", pageSize)
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(tenants);
+    }
+
+    /**
+     * {@code GET  /tenants/stream} : stream all the tenants as newline delimited JSON, ordered by id.
+     * <p>
+     * Tenants are read one keyset page at a time, so at most one page is held in memory whatever the number of tenants.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the tenants streamed in body.
+     */
+    @GetMapping(value = "/tenants/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTenants() {
+        log.debug("REST request to stream all Tenants");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(this::streamTenants);
+    }
+
+    private void streamTenants(OutputStream out) throws IOException {
+        long afterId = 0L;
+        List<Tenant> tenants;
+        do {
+            tenants = tenantRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, STREAM_PAGE_SIZE));
+            for (Tenant tenant : tenants) {
+                ndjsonWriter.writeValue(out, tenant);
+                out.write('\n');
+            }
+            out.flush();
+            if (!tenants.isEmpty()) {
+                afterId = tenants.get(tenants.size() - 1).getId();
+            }
+        } while (tenants.size() == STREAM_PAGE_SIZE);
+    }
+
+    /**
+     * {@code GET  /tenants/summaries} : get a page of tenant summaries.
+     * <p>
+     * Only the name, phone number, rent and outstanding amount of each tenant are read, for list screens.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of tenant summaries in body.
+     */
+    @GetMapping("/tenants/summaries")
+    public ResponseEntity<List<TenantSummary>> getTenantSummaries(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+        log.debug("REST request to get a page of Tenant summaries");
+        Page<TenantSummary> page = tenantRepository.findAllSummaries(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /tenants/:id/summary} : get the summary of the "id" tenant.
+     *
+     * @param id the id of the tenant to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tenant summary, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/tenants/{id}/summary")
+    public ResponseEntity<TenantSummary> getTenantSummary(@PathVariable Long id) {
+        log.debug("REST request to get Tenant summary : {}", id);
+        return ResponseUtil.wrapOrNotFound(tenantRepository.findSummaryById(id));
     }
 
     /**
      * {@code GET  /tenants/:id} : get the "id" tenant.
      *
      * @param id the id of the tenant to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tenant, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tenant and its version as {@code ETag},
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/tenants/{id}")
     public ResponseEntity<Tenant> getTenant(@PathVariable Long id) {
         log.debug("REST request to get Tenant : {}", id);
         Optional<Tenant> tenant = tenantRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(tenant);
+        return ResponseUtil.wrapOrNotFound(tenant, tenant.map(found -> ETagUtil.withETag(null, found.getVersion())).orElse(null));
     }
 
     /**
@@ -220,6 +447,9 @@ public class TenantResource {
     @DeleteMapping("/tenants/{id}")
     public ResponseEntity<Void> deleteTenant(@PathVariable Long id) {
         log.debug("REST request to delete Tenant : {}", id);
+        tenantDocumentChunkRepository.deleteByTenantId(id);
+        ledgerEntryRepository.deleteByTenantId(id);
+        meterReadingBlockRepository.deleteByTenantId(id);
         tenantRepository.deleteById(id);
         return ResponseEntity
             .noContent()
@@ -39,6 +39,13 @@ export class DataUtils {
     const blob = new Blob([byteArray], {
       type: contentType,
     });
+    this.openBlob(blob);
+  }
+
+  /**
+   * Method to open a file downloaded as a blob
+   */
+  openBlob(blob: Blob): void {
     const fileURL = window.URL.createObjectURL(blob);
     const win = window.open(fileURL);
     win!.onload = function () {
@@ -123,7 +130,10 @@ export class DataUtils {
     return (value.length / 4) * 3 - this.paddingSize(value);
   }
 
-  private formatAsBytes(size: number): string {
+  /**
+   * Method to format a size in bytes
+   */
+  formatAsBytes(size: number): string {
     return size.toString().replace(/\B(?=(\d{3})+(?!\d))/g, ' ') + ' bytes';
   }
 }
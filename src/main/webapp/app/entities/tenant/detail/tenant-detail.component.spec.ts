@@ -1,8 +1,10 @@
 import { ComponentFixture, TestBed } from '@angular/core/testing';
+import { HttpClientTestingModule } from '@angular/common/http/testing';
 import { ActivatedRoute } from '@angular/router';
 import { of } from 'rxjs';
 
 import { DataUtils } from 'app/core/util/data-util.service';
+import { TenantService } from '../service/tenant.service';
 
 import { TenantDetailComponent } from './tenant-detail.component';
 
@@ -10,9 +12,11 @@ describe('Tenant Management Detail Component', () => {
   let comp: TenantDetailComponent;
   let fixture: ComponentFixture<TenantDetailComponent>;
   let dataUtils: DataUtils;
+  let tenantService: TenantService;
 
   beforeEach(() => {
     TestBed.configureTestingModule({
+      imports: [HttpClientTestingModule],
       declarations: [TenantDetailComponent],
       providers: [
         {
@@ -26,6 +30,7 @@ describe('Tenant Management Detail Component', () => {
     fixture = TestBed.createComponent(TenantDetailComponent);
     comp = fixture.componentInstance;
     dataUtils = TestBed.inject(DataUtils);
+    tenantService = TestBed.inject(TenantService);
     jest.spyOn(window, 'open').mockImplementation(() => null);
   });
 
@@ -40,36 +45,31 @@ describe('Tenant Management Detail Component', () => {
   });
 
   describe('byteSize', () => {
-    it('Should call byteSize from DataUtils', () => {
+    it('Should call formatAsBytes from DataUtils', () => {
       // GIVEN
-      jest.spyOn(dataUtils, 'byteSize');
-      const fakeBase64 = 'fake base64';
+      jest.spyOn(dataUtils, 'formatAsBytes');
 
       // WHEN
-      comp.byteSize(fakeBase64);
+      comp.byteSize(2048);
 
       // THEN
-      expect(dataUtils.byteSize).toBeCalledWith(fakeBase64);
+      expect(dataUtils.formatAsBytes).toBeCalledWith(2048);
     });
   });
 
-  describe('openFile', () => {
-    it('Should call openFile from DataUtils', () => {
-      const newWindow = { ...window };
-      newWindow.document.write = jest.fn();
-      window.open = jest.fn(() => newWindow);
-      window.onload = jest.fn(() => newWindow);
-      window.URL.createObjectURL = jest.fn();
+  describe('openAddressProff', () => {
+    it('Should open the document downloaded from TenantService', () => {
       // GIVEN
-      jest.spyOn(dataUtils, 'openFile');
-      const fakeContentType = 'fake content type';
-      const fakeBase64 = 'fake base64';
+      const document = new Blob(['fake document'], { type: 'fake content type' });
+      jest.spyOn(tenantService, 'downloadAddressProff').mockReturnValue(of(document));
+      jest.spyOn(dataUtils, 'openBlob').mockImplementation(() => undefined);
 
       // WHEN
-      comp.openFile(fakeBase64, fakeContentType);
+      comp.openAddressProff({ id: 123 });
 
       // THEN
-      expect(dataUtils.openFile).toBeCalledWith(fakeBase64, fakeContentType);
+      expect(tenantService.downloadAddressProff).toBeCalledWith(123);
+      expect(dataUtils.openBlob).toBeCalledWith(document);
     });
   });
 });
@@ -2,6 +2,7 @@ import { Component, OnInit } from '@angular/core';
 import { ActivatedRoute } from '@angular/router';
 
 import { ITenant } from '../tenant.model';
+import { TenantService } from '../service/tenant.service';
 import { DataUtils } from 'app/core/util/data-util.service';
 
 @Component({
@@ -11,7 +12,7 @@ import { DataUtils } from 'app/core/util/data-util.service';
 export class TenantDetailComponent implements OnInit {
   tenant: ITenant | null = null;
 
-  constructor(protected dataUtils: DataUtils, protected activatedRoute: ActivatedRoute) {}
+  constructor(protected dataUtils: DataUtils, protected tenantService: TenantService, protected activatedRoute: ActivatedRoute) {}
 
   ngOnInit(): void {
     this.activatedRoute.data.subscribe(({ tenant }) => {
@@ -19,12 +20,12 @@ export class TenantDetailComponent implements OnInit {
     });
   }
 
-  byteSize(base64String: string): string {
-    return this.dataUtils.byteSize(base64String);
+  byteSize(size: number): string {
+    return this.dataUtils.formatAsBytes(size);
   }
 
-  openFile(base64String: string, contentType: string | null | undefined): void {
-    this.dataUtils.openFile(base64String, contentType);
+  openAddressProff(tenant: ITenant): void {
+    this.tenantService.downloadAddressProff(tenant.id!).subscribe(blob => this.dataUtils.openBlob(blob));
   }
 
   previousState(): void {
@@ -39,12 +39,12 @@ export class TenantComponent implements OnInit {
     return item.id!;
   }
 
-  byteSize(base64String: string): string {
-    return this.dataUtils.byteSize(base64String);
+  byteSize(size: number): string {
+    return this.dataUtils.formatAsBytes(size);
   }
 
-  openFile(base64String: string, contentType: string | null | undefined): void {
-    return this.dataUtils.openFile(base64String, contentType);
+  openAddressProff(tenant: ITenant): void {
+    this.tenantService.downloadAddressProff(tenant.id!).subscribe(blob => this.dataUtils.openBlob(blob));
   }
 
   delete(tenant: ITenant): void {
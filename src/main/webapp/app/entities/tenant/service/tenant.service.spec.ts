@@ -27,7 +27,7 @@ describe('Tenant Service', () => {
       id: 0,
       tenantName: 'AAAAAAA',
       addressProffContentType: 'image/png',
-      addressProff: 'AAAAAAA',
+      addressProffSize: 0,
       numberofFamilyMembers: 0,
       phoneNumber: 'AAAAAAA',
       rentStartDate: currentDate,
@@ -89,7 +89,7 @@ describe('Tenant Service', () => {
         {
           id: 1,
           tenantName: 'BBBBBB',
-          addressProff: 'BBBBBB',
+          addressProffSize: 1,
           numberofFamilyMembers: 1,
           phoneNumber: 'BBBBBB',
           rentStartDate: currentDate.format(DATE_FORMAT),
@@ -156,7 +156,7 @@ describe('Tenant Service', () => {
         {
           id: 1,
           tenantName: 'BBBBBB',
-          addressProff: 'BBBBBB',
+          addressProffSize: 1,
           numberofFamilyMembers: 1,
           phoneNumber: 'BBBBBB',
           rentStartDate: currentDate.format(DATE_FORMAT),
@@ -198,6 +198,37 @@ describe('Tenant Service', () => {
       expect(expectedResult);
     });
 
+    it('should upload the address proff of a Tenant', () => {
+      const file = new File(['AAAAAAA'], 'address-proff.png', { type: 'image/png' });
+
+      service.uploadAddressProff(123, file).subscribe(resp => (expectedResult = resp.body));
+
+      const req = httpMock.expectOne({ method: 'PUT', url: 'api/tenants/123/address-proff' });
+      expect(req.request.body).toBe(file);
+      expect(req.request.headers.get('Content-Type')).toEqual('image/png');
+      req.flush({ ...elemDefault, rentStartDate: currentDate.format(DATE_FORMAT), addressProffSize: 7 });
+      expect(expectedResult).toMatchObject({ addressProffContentType: 'image/png', addressProffSize: 7 });
+    });
+
+    it('should download the address proff of a Tenant', () => {
+      let document: Blob | null = null;
+
+      service.downloadAddressProff(123).subscribe(blob => (document = blob));
+
+      const req = httpMock.expectOne({ method: 'GET', url: 'api/tenants/123/address-proff' });
+      expect(req.request.responseType).toEqual('blob');
+      req.flush(new Blob(['AAAAAAA'], { type: 'image/png' }));
+      expect(document).toBeInstanceOf(Blob);
+    });
+
+    it('should delete the address proff of a Tenant', () => {
+      service.deleteAddressProff(123).subscribe(resp => (expectedResult = resp.body));
+
+      const req = httpMock.expectOne({ method: 'DELETE', url: 'api/tenants/123/address-proff' });
+      req.flush({ ...elemDefault, rentStartDate: currentDate.format(DATE_FORMAT), addressProffContentType: null, addressProffSize: null });
+      expect(expectedResult).toMatchObject({ addressProffContentType: null, addressProffSize: null });
+    });
+
     describe('addTenantToCollectionIfMissing', () => {
       it('should add a Tenant to an empty array', () => {
         const tenant: ITenant = { id: 123 };
@@ -1,5 +1,5 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpResponse } from '@angular/common/http';
+import { HttpClient, HttpHeaders, HttpResponse } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
 import dayjs from 'dayjs/esm';
@@ -57,6 +57,23 @@ export class TenantService {
     return this.http.delete(`${this.resourceUrl}/${id}`, { observe: 'response' });
   }
 
+  uploadAddressProff(id: number, file: File): Observable<EntityResponseType> {
+    const headers = new HttpHeaders({ 'Content-Type': file.type || 'application/octet-stream' });
+    return this.http
+      .put<ITenant>(`${this.resourceUrl}/${id}/address-proff`, file, { headers, observe: 'response' })
+      .pipe(map((res: EntityResponseType) => this.convertDateFromServer(res)));
+  }
+
+  downloadAddressProff(id: number): Observable<Blob> {
+    return this.http.get(`${this.resourceUrl}/${id}/address-proff`, { responseType: 'blob' });
+  }
+
+  deleteAddressProff(id: number): Observable<EntityResponseType> {
+    return this.http
+      .delete<ITenant>(`${this.resourceUrl}/${id}/address-proff`, { observe: 'response' })
+      .pipe(map((res: EntityResponseType) => this.convertDateFromServer(res)));
+  }
+
   addTenantToCollectionIfMissing(tenantCollection: ITenant[], ...tenantsToCheck: (ITenant | null | undefined)[]): ITenant[] {
     const tenants: ITenant[] = tenantsToCheck.filter(isPresent);
     if (tenants.length > 0) {
@@ -6,8 +6,8 @@ import { IGenerateBill } from 'app/entities/generate-bill/generate-bill.model';
 export interface ITenant {
   id?: number;
   tenantName?: string;
-  addressProffContentType?: string;
-  addressProff?: string;
+  addressProffContentType?: string | null;
+  addressProffSize?: number | null;
   numberofFamilyMembers?: number | null;
   phoneNumber?: string;
   rentStartDate?: dayjs.Dayjs;
@@ -31,8 +31,8 @@ export class Tenant implements ITenant {
   constructor(
     public id?: number,
     public tenantName?: string,
-    public addressProffContentType?: string,
-    public addressProff?: string,
+    public addressProffContentType?: string | null,
+    public addressProffSize?: number | null,
     public numberofFamilyMembers?: number | null,
     public phoneNumber?: string,
     public rentStartDate?: dayjs.Dayjs,
@@ -120,6 +120,54 @@ describe('Tenant Management Update Component', () => {
       expect(comp.previousState).toHaveBeenCalled();
     });
 
+    it('Should upload the selected address proff once the entity is saved', () => {
+      // GIVEN
+      const saveSubject = new Subject<HttpResponse<Tenant>>();
+      const tenant = { id: 123 };
+      const file = new File(['fake document'], 'address-proff.pdf', { type: 'application/pdf' });
+      jest.spyOn(tenantService, 'update').mockReturnValue(saveSubject);
+      jest.spyOn(tenantService, 'uploadAddressProff').mockReturnValue(of(new HttpResponse({ body: tenant })));
+      jest.spyOn(comp, 'previousState');
+      activatedRoute.data = of({ tenant });
+      comp.ngOnInit();
+      comp.setAddressProff({ target: { files: [file] } } as unknown as Event);
+
+      // WHEN
+      comp.save();
+      saveSubject.next(new HttpResponse({ body: tenant }));
+      saveSubject.complete();
+
+      // THEN
+      expect(comp.addressProffContentType).toEqual('application/pdf');
+      expect(comp.addressProffSize).toEqual(file.size);
+      expect(tenantService.update).toHaveBeenCalledWith(tenant);
+      expect(tenantService.uploadAddressProff).toHaveBeenCalledWith(123, file);
+      expect(comp.isSaving).toEqual(false);
+      expect(comp.previousState).toHaveBeenCalled();
+    });
+
+    it('Should delete the removed address proff once the entity is saved', () => {
+      // GIVEN
+      const saveSubject = new Subject<HttpResponse<Tenant>>();
+      const tenant = { id: 123, addressProffContentType: 'application/pdf', addressProffSize: 2048 };
+      jest.spyOn(tenantService, 'update').mockReturnValue(saveSubject);
+      jest.spyOn(tenantService, 'deleteAddressProff').mockReturnValue(of(new HttpResponse({ body: { id: 123 } })));
+      jest.spyOn(comp, 'previousState');
+      activatedRoute.data = of({ tenant });
+      comp.ngOnInit();
+      comp.removeAddressProff();
+
+      // WHEN
+      comp.save();
+      saveSubject.next(new HttpResponse({ body: tenant }));
+      saveSubject.complete();
+
+      // THEN
+      expect(tenantService.update).toHaveBeenCalledWith({ id: 123 });
+      expect(tenantService.deleteAddressProff).toHaveBeenCalledWith(123);
+      expect(comp.previousState).toHaveBeenCalled();
+    });
+
     it('Should set isSaving to false on error', () => {
       // GIVEN
       const saveSubject = new Subject<HttpResponse<Tenant>>();
@@ -2,14 +2,12 @@ import { Component, OnInit } from '@angular/core';
 import { HttpResponse } from '@angular/common/http';
 import { FormBuilder, Validators } from '@angular/forms';
 import { ActivatedRoute } from '@angular/router';
-import { Observable } from 'rxjs';
-import { finalize, map } from 'rxjs/operators';
+import { Observable, of } from 'rxjs';
+import { finalize, map, switchMap } from 'rxjs/operators';
 
 import { ITenant, Tenant } from '../tenant.model';
 import { TenantService } from '../service/tenant.service';
-import { AlertError } from 'app/shared/alert/alert-error.model';
-import { EventManager, EventWithContent } from 'app/core/util/event-manager.service';
-import { DataUtils, FileLoadError } from 'app/core/util/data-util.service';
+import { DataUtils } from 'app/core/util/data-util.service';
 import { ILocation } from 'app/entities/location/location.model';
 import { LocationService } from 'app/entities/location/service/location.service';
 
@@ -22,11 +20,14 @@ export class TenantUpdateComponent implements OnInit {
 
   locationsCollection: ILocation[] = [];
 
+  addressProffContentType?: string | null;
+  addressProffSize?: number | null;
+  addressProffFile: File | null = null;
+  addressProffRemoved = false;
+
   editForm = this.fb.group({
     id: [],
     tenantName: [null, [Validators.required]],
-    addressProff: [null, [Validators.required]],
-    addressProffContentType: [],
     numberofFamilyMembers: [],
     phoneNumber: [null, [Validators.required]],
     rentStartDate: [null, [Validators.required]],
@@ -46,7 +47,6 @@ export class TenantUpdateComponent implements OnInit {
 
   constructor(
     protected dataUtils: DataUtils,
-    protected eventManager: EventManager,
     protected tenantService: TenantService,
     protected locationService: LocationService,
     protected activatedRoute: ActivatedRoute,
@@ -61,19 +61,33 @@ export class TenantUpdateComponent implements OnInit {
     });
   }
 
-  byteSize(base64String: string): string {
-    return this.dataUtils.byteSize(base64String);
+  byteSize(size: number): string {
+    return this.dataUtils.formatAsBytes(size);
   }
 
-  openFile(base64String: string, contentType: string | null | undefined): void {
-    this.dataUtils.openFile(base64String, contentType);
+  openAddressProff(): void {
+    if (this.addressProffFile) {
+      this.dataUtils.openBlob(this.addressProffFile);
+    } else {
+      this.tenantService.downloadAddressProff(this.editForm.get(['id'])!.value).subscribe(blob => this.dataUtils.openBlob(blob));
+    }
   }
 
-  setFileData(event: Event, field: string, isImage: boolean): void {
-    this.dataUtils.loadFileToForm(event, this.editForm, field, isImage).subscribe({
-      error: (err: FileLoadError) =>
-        this.eventManager.broadcast(new EventWithContent<AlertError>('rentmanagementApp.error', { ...err, key: 'error.file.' + err.key })),
-    });
+  setAddressProff(event: Event): void {
+    const file = (event.target as HTMLInputElement | null)?.files?.[0];
+    if (file) {
+      this.addressProffFile = file;
+      this.addressProffContentType = file.type || 'application/octet-stream';
+      this.addressProffSize = file.size;
+      this.addressProffRemoved = false;
+    }
+  }
+
+  removeAddressProff(): void {
+    this.addressProffFile = null;
+    this.addressProffContentType = null;
+    this.addressProffSize = null;
+    this.addressProffRemoved = true;
   }
 
   previousState(): void {
@@ -84,9 +98,9 @@ export class TenantUpdateComponent implements OnInit {
     this.isSaving = true;
     const tenant = this.createFromForm();
     if (tenant.id !== undefined) {
-      this.subscribeToSaveResponse(this.tenantService.update(tenant));
+      this.subscribeToSaveResponse(this.saveAddressProff(this.tenantService.update(tenant)));
     } else {
-      this.subscribeToSaveResponse(this.tenantService.create(tenant));
+      this.subscribeToSaveResponse(this.saveAddressProff(this.tenantService.create(tenant)));
     }
   }
 
@@ -94,6 +108,28 @@ export class TenantUpdateComponent implements OnInit {
     return item.id!;
   }
 
+  /**
+   * The address proff document is not part of the tenant: once the tenant is saved, the selected file is streamed to
+   * the document endpoint of the tenant, or the removed document is deleted.
+   */
+  protected saveAddressProff(result: Observable<HttpResponse<ITenant>>): Observable<HttpResponse<ITenant>> {
+    return result.pipe(
+      switchMap((res: HttpResponse<ITenant>) => {
+        const id = res.body?.id;
+        if (id === undefined) {
+          return of(res);
+        }
+        if (this.addressProffFile) {
+          return this.tenantService.uploadAddressProff(id, this.addressProffFile);
+        }
+        if (this.addressProffRemoved && res.body?.addressProffSize != null) {
+          return this.tenantService.deleteAddressProff(id);
+        }
+        return of(res);
+      })
+    );
+  }
+
   protected subscribeToSaveResponse(result: Observable<HttpResponse<ITenant>>): void {
     result.pipe(finalize(() => this.onSaveFinalize())).subscribe({
       next: () => this.onSaveSuccess(),
@@ -117,8 +153,6 @@ export class TenantUpdateComponent implements OnInit {
     this.editForm.patchValue({
       id: tenant.id,
       tenantName: tenant.tenantName,
-      addressProff: tenant.addressProff,
-      addressProffContentType: tenant.addressProffContentType,
       numberofFamilyMembers: tenant.numberofFamilyMembers,
       phoneNumber: tenant.phoneNumber,
       rentStartDate: tenant.rentStartDate,
@@ -135,6 +169,8 @@ export class TenantUpdateComponent implements OnInit {
       calculatedForCurrentMonth: tenant.calculatedForCurrentMonth,
       location: tenant.location,
     });
+    this.addressProffContentType = tenant.addressProffContentType;
+    this.addressProffSize = tenant.addressProffSize;
 
     this.locationsCollection = this.locationService.addLocationToCollectionIfMissing(this.locationsCollection, tenant.location);
   }
@@ -156,8 +192,6 @@ export class TenantUpdateComponent implements OnInit {
       ...new Tenant(),
       id: this.editForm.get(['id'])!.value,
       tenantName: this.editForm.get(['tenantName'])!.value,
-      addressProffContentType: this.editForm.get(['addressProffContentType'])!.value,
-      addressProff: this.editForm.get(['addressProff'])!.value,
       numberofFamilyMembers: this.editForm.get(['numberofFamilyMembers'])!.value,
       phoneNumber: this.editForm.get(['phoneNumber'])!.value,
       rentStartDate: this.editForm.get(['rentStartDate'])!.value,
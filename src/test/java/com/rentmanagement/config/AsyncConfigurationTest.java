@@ -0,0 +1,162 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Unit tests for the executors of the {@link AsyncConfiguration}.
+ */
+class AsyncConfigurationTest {
+
+    private final TaskExecutionProperties taskExecutionProperties = new TaskExecutionProperties();
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    public void setup() {
+        taskExecutionProperties.getPool().setCoreSize(3);
+        taskExecutionProperties.getPool().setMaxSize(7);
+        taskExecutionProperties.getPool().setQueueCapacity(11);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(ApplicationProperties.RejectionPolicy rejectionPolicy) {
+        return createExecutor(rejectionPolicy, Duration.ofSeconds(30));
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(ApplicationProperties.RejectionPolicy rejectionPolicy, Duration blockTimeout) {
+        ApplicationProperties.ExecutorPool pool = new ApplicationProperties.ExecutorPool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejectionPolicy(rejectionPolicy);
+        pool.setBlockTimeout(blockTimeout);
+        applicationProperties.getExecutors().put("test", pool);
+        executor =
+            new AsyncConfiguration(taskExecutionProperties, applicationProperties, meterRegistry)
+                .createExecutor("testExecutor", "test", "test-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Occupies the only thread and the only queue slot of the executor until the end of the test.
+     */
+    private void saturate(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(this::awaitRelease);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testPoolSizesDefaultToTaskExecutionProperties() {
+        executor =
+            new AsyncConfiguration(taskExecutionProperties, applicationProperties, meterRegistry)
+                .createExecutor("testExecutor", "unknown", "test-");
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(3);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(7);
+    }
+
+    @Test
+    void testCallerRunsWhenSaturated() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = createExecutor(ApplicationProperties.RejectionPolicy.CALLER_RUNS);
+        saturate(executor);
+
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertThat(runner.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testBlockRejectsAfterTheTimeout() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = createExecutor(ApplicationProperties.RejectionPolicy.BLOCK, Duration.ofMillis(100));
+        saturate(executor);
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testBlockWaitsForRoomInTheQueue() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = createExecutor(ApplicationProperties.RejectionPolicy.BLOCK, Duration.ofSeconds(5));
+        saturate(executor);
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        })
+            .start();
+
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.execute(() -> {
+            runner.set(Thread.currentThread());
+            ran.countDown();
+        });
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testAbortWhenSaturated() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = createExecutor(ApplicationProperties.RejectionPolicy.ABORT);
+        saturate(executor);
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testTasksAreTimed() throws Exception {
+        ThreadPoolTaskExecutor executor = createExecutor(ApplicationProperties.RejectionPolicy.CALLER_RUNS);
+
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(meterRegistry.get("executor").tag("name", "testExecutor").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("executor.idle").tag("name", "testExecutor").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,91 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Authority;
+import com.rentmanagement.domain.Location;
+import com.rentmanagement.domain.Room;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link CacheConfiguration} regions.
+ */
+@IntegrationTest
+class CacheConfigurationIT {
+
+    private static final String KEY = "cache-configuration-it";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void regionsUseTheirOwnSizing() {
+        CacheRuntimeConfiguration<Object, Object> authority = runtimeConfiguration(Authority.class.getName());
+        assertThat(authority.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(10);
+        assertThat(authority.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP)).isNull();
+
+        CacheRuntimeConfiguration<Object, Object> location = runtimeConfiguration(Location.class.getName());
+        assertThat(location.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP)).isNotNull();
+        assertThat(location.getExpiryPolicy().getExpiryForAccess(KEY, () -> KEY)).isEqualTo(Duration.ofSeconds(600));
+
+        CacheRuntimeConfiguration<Object, Object> room = runtimeConfiguration(Room.class.getName());
+        assertThat(room.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+        assertThat(room.getExpiryPolicy().getExpiryForCreation(KEY, KEY)).isEqualTo(Duration.ofHours(1));
+        assertThat(room.getExpiryPolicy().getExpiryForAccess(KEY, () -> KEY)).isNull();
+    }
+
+    @Test
+    void regionsExportTheirStatistics() {
+        String cacheName = Location.class.getName();
+        Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+        double hits = meterRegistry.get("cache.gets").tags("cache", cacheName, "result", "hit").functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tags("cache", cacheName, "result", "miss").functionCounter().count();
+        double size = meterRegistry.get("cache.size").tags("cache", cacheName, "cacheManager", "cacheManager").gauge().value();
+
+        cache.put(KEY, new Location().id(1L).city("New Delhi"));
+        assertThat(cache.get(KEY)).isNotNull();
+        assertThat(cache.get(KEY + "-missing")).isNull();
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", cacheName, "result", "hit").functionCounter().count())
+            .isEqualTo(hits + 1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", cacheName, "result", "miss").functionCounter().count())
+            .isEqualTo(misses + 1);
+        assertThat(meterRegistry.get("cache.size").tags("cache", cacheName).gauge().value()).isEqualTo(size + 1);
+
+        cache.remove(KEY);
+        assertThat(meterRegistry.get("cache.size").tags("cache", cacheName).gauge().value()).isEqualTo(size);
+        meterRegistry.get("cache.evictions").tags("cache", cacheName).functionCounter();
+    }
+
+    @Test
+    void regionSizeFollowsClears() {
+        String cacheName = Room.class.getName();
+        Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+        cache.put(KEY, new Room().id(1L).roomName("101"));
+        cache.put(KEY + "-other", new Room().id(2L).roomName("102"));
+        assertThat(meterRegistry.get("cache.size").tags("cache", cacheName).gauge().value()).isGreaterThanOrEqualTo(2);
+
+        cache.clear();
+        assertThat(meterRegistry.get("cache.size").tags("cache", cacheName).gauge().value()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheRuntimeConfiguration<Object, Object> runtimeConfiguration(String cacheName) {
+        return (CacheRuntimeConfiguration<Object, Object>) cacheManager
+            .getCache(cacheName)
+            .getConfiguration(Eh107Configuration.class)
+            .unwrap(CacheRuntimeConfiguration.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Location;
+import com.rentmanagement.domain.Tenant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link CacheInvalidator}, other instances being simulated on the local bus.
+ */
+@IntegrationTest
+class CacheInvalidatorIT {
+
+    private static final String PEER = "peer";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private final List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    public void setup() {
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (!PEER.equals(invalidation.getOrigin())) {
+                published.add(invalidation);
+            }
+        });
+        cache = cacheManager.getCache(Location.class.getName());
+        cache.clear();
+        published.clear();
+    }
+
+    @Test
+    void updatesAndRemovalsArePublished() {
+        cache.put(1L, "created");
+        assertThat(published).isEmpty();
+
+        cache.put(1L, "updated");
+        cache.remove(1L);
+
+        assertThat(published).hasSize(2);
+        assertThat(published).allSatisfy(invalidation -> {
+            assertThat(invalidation.getCacheName()).isEqualTo(Location.class.getName());
+            assertThat(invalidation.getKey()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void invalidationsOfOtherInstancesAreApplied() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        cacheInvalidationBus.publish(new CacheInvalidation(PEER, Location.class.getName(), 1L));
+
+        assertThat(cache.containsKey(1L)).isFalse();
+        assertThat(cache.containsKey(2L)).isTrue();
+        assertThat(published).isEmpty();
+
+        cacheInvalidationBus.publish(new CacheInvalidation(PEER, Location.class.getName(), null));
+
+        assertThat(cache.containsKey(2L)).isFalse();
+    }
+
+    @Test
+    void invalidationOfEveryCacheIsApplied() {
+        Cache<Object, Object> tenants = cacheManager.getCache(Tenant.class.getName());
+        cache.put(1L, "one");
+        tenants.put(1L, "one");
+
+        cacheInvalidationBus.publish(new CacheInvalidation(null, null, null));
+
+        assertThat(cache.containsKey(1L)).isFalse();
+        assertThat(tenants.containsKey(1L)).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.util.Base64;
+import javax.sql.DataSource;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.LongType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PostgresCacheInvalidationBus} payloads.
+ */
+class PostgresCacheInvalidationBusTest {
+
+    @Test
+    void testHibernateCacheKeyRoundTrip() throws Exception {
+        EntityPersister persister = mock(EntityPersister.class);
+        when(persister.getIdentifierType()).thenReturn(LongType.INSTANCE);
+        when(persister.getRootEntityName()).thenReturn("com.rentmanagement.domain.Tenant");
+        Object key = DefaultCacheKeysFactory.staticCreateEntityKey(42L, persister, mock(SessionFactoryImplementor.class), null);
+
+        CacheInvalidation invalidation = PostgresCacheInvalidationBus.decode(
+            PostgresCacheInvalidationBus.encode(new CacheInvalidation("origin", "com.rentmanagement.domain.Tenant", key))
+        );
+
+        assertThat(invalidation.getOrigin()).isEqualTo("origin");
+        assertThat(invalidation.getCacheName()).isEqualTo("com.rentmanagement.domain.Tenant");
+        assertThat(invalidation.getKey()).isEqualTo(key);
+    }
+
+    @Test
+    void testLargeKeyInvalidatesTheWholeCache() throws Exception {
+        CacheInvalidation invalidation = PostgresCacheInvalidationBus.decode(
+            PostgresCacheInvalidationBus.encode(new CacheInvalidation("origin", "usersByLogin", "x".repeat(10_000)))
+        );
+
+        assertThat(invalidation.getCacheName()).isEqualTo("usersByLogin");
+        assertThat(invalidation.getKey()).isNull();
+    }
+
+    @Test
+    void testUnexpectedClassesAreRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new CacheInvalidation("origin", "usersByLogin", URI.create("http://localhost")));
+        }
+        String payload = Base64.getEncoder().encodeToString(bytes.toByteArray());
+
+        assertThatThrownBy(() -> PostgresCacheInvalidationBus.decode(payload)).isInstanceOf(InvalidClassException.class);
+    }
+
+    @Test
+    void testInvalidChannelIsRejected() {
+        DataSource dataSource = mock(DataSource.class);
+
+        assertThatThrownBy(() -> new PostgresCacheInvalidationBus(dataSource, "cache; drop table tenant"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link VirtualThreadFactories}, whose outcome depends on the Java version running the tests.
+ */
+class VirtualThreadFactoriesTest {
+
+    @Test
+    void testSupportedFromJava21() {
+        assertThat(VirtualThreadFactories.isSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    void testUnsupportedRuntimeFailsFast() {
+        assumeFalse(VirtualThreadFactories.isSupported());
+
+        assertThatThrownBy(() -> VirtualThreadFactories.threadFactory("test-")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> VirtualThreadFactories.newThreadPerTaskExecutor("test-")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testTasksRunOnNamedVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreadFactories.isSupported());
+
+        ExecutorService executor = VirtualThreadFactories.newThreadPerTaskExecutor("test-");
+        try {
+            String threadName = CompletableFuture
+                .supplyAsync(() -> Thread.currentThread().toString(), executor)
+                .get(5, TimeUnit.SECONDS);
+            assertThat(threadName).startsWith("VirtualThread").contains("test-0");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.rentmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the driver check of the {@link VirtualThreadsConfiguration}.
+ */
+class VirtualThreadsConfigurationTest {
+
+    @Test
+    void testPinningPostgresDriverIsRefused() throws SQLException {
+        DatabaseMetaData metaData = metaData("PostgreSQL JDBC Driver", 42, 3, "42.3.3");
+
+        assertThatThrownBy(() -> VirtualThreadsConfiguration.checkDriver(metaData))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("42.3.3");
+    }
+
+    @Test
+    void testPostgresDriverFrom42_6IsAccepted() throws SQLException {
+        DatabaseMetaData metaData = metaData("PostgreSQL JDBC Driver", 42, 6, "42.6.0");
+
+        assertThatCode(() -> VirtualThreadsConfiguration.checkDriver(metaData)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testOtherDriversAreAccepted() throws SQLException {
+        DatabaseMetaData metaData = metaData("H2 JDBC Driver", 2, 1, "2.1.210");
+
+        assertThatCode(() -> VirtualThreadsConfiguration.checkDriver(metaData)).doesNotThrowAnyException();
+    }
+
+    private DatabaseMetaData metaData(String driverName, int majorVersion, int minorVersion, String version) throws SQLException {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDriverName()).thenReturn(driverName);
+        when(metaData.getDriverMajorVersion()).thenReturn(majorVersion);
+        when(metaData.getDriverMinorVersion()).thenReturn(minorVersion);
+        when(metaData.getDriverVersion()).thenReturn(version);
+        return metaData;
+    }
+}
@@ -0,0 +1,23 @@
+package com.rentmanagement.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class BillingRollupTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(BillingRollup.class);
+        BillingRollup billingRollup1 = new BillingRollup();
+        billingRollup1.setId(1L);
+        BillingRollup billingRollup2 = new BillingRollup();
+        billingRollup2.setId(billingRollup1.getId());
+        assertThat(billingRollup1).isEqualTo(billingRollup2);
+        billingRollup2.setId(2L);
+        assertThat(billingRollup1).isNotEqualTo(billingRollup2);
+        billingRollup1.setId(null);
+        assertThat(billingRollup1).isNotEqualTo(billingRollup2);
+    }
+}
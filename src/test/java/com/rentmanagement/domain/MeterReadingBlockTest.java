@@ -0,0 +1,23 @@
+package com.rentmanagement.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class MeterReadingBlockTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(MeterReadingBlock.class);
+        MeterReadingBlock meterReadingBlock1 = new MeterReadingBlock();
+        meterReadingBlock1.setId(1L);
+        MeterReadingBlock meterReadingBlock2 = new MeterReadingBlock();
+        meterReadingBlock2.setId(meterReadingBlock1.getId());
+        assertThat(meterReadingBlock1).isEqualTo(meterReadingBlock2);
+        meterReadingBlock2.setId(2L);
+        assertThat(meterReadingBlock1).isNotEqualTo(meterReadingBlock2);
+        meterReadingBlock1.setId(null);
+        assertThat(meterReadingBlock1).isNotEqualTo(meterReadingBlock2);
+    }
+}
@@ -0,0 +1,23 @@
+package com.rentmanagement.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class TenantDocumentChunkTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(TenantDocumentChunk.class);
+        TenantDocumentChunk tenantDocumentChunk1 = new TenantDocumentChunk();
+        tenantDocumentChunk1.setId(1L);
+        TenantDocumentChunk tenantDocumentChunk2 = new TenantDocumentChunk();
+        tenantDocumentChunk2.setId(tenantDocumentChunk1.getId());
+        assertThat(tenantDocumentChunk1).isEqualTo(tenantDocumentChunk2);
+        tenantDocumentChunk2.setId(2L);
+        assertThat(tenantDocumentChunk1).isNotEqualTo(tenantDocumentChunk2);
+        tenantDocumentChunk1.setId(null);
+        assertThat(tenantDocumentChunk1).isNotEqualTo(tenantDocumentChunk2);
+    }
+}
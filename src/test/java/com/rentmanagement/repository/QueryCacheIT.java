@@ -0,0 +1,280 @@
+package com.rentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.config.CacheInvalidation;
+import com.rentmanagement.config.CacheInvalidationBus;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the cacheable finders of {@link RoomRepository}, {@link GenerateBillRepository} and
+ * {@link TenantRepository}, the second-level and query caches being disabled in the other tests, and for the
+ * eviction of the entities updated in bulk.
+ * <p>
+ * Not transactional: query results are cached, and invalidated, when the transactions commit.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+    }
+)
+class QueryCacheIT {
+
+    private static final LocalDate PERIOD = LocalDate.of(2022, 1, 1);
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private Statistics statistics;
+
+    private Building building;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        building = buildingRepository.save(new Building().buildingName("query cache"));
+        tenant =
+            tenantRepository.save(
+                new Tenant()
+                    .tenantName("query cache")
+                    .phoneNumber("0000000000")
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1000D)
+                    .electricityUnitRate(8)
+                    .startingElectricityUnit(10D)
+                    .outStandingAmount(0D)
+            );
+        roomRepository.save(new Room().roomName("first").floor("1").building(building).tenants(tenant));
+        generateBillRepository.save(
+            new GenerateBill().amountPending(100D).electricityUnit(1D).sendNotification(false).billingPeriod(PERIOD).tenant(tenant)
+        );
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        generateBillRepository.deleteAll(generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()));
+        roomRepository.deleteAll(roomRepository.findByBuildingIdOrderByIdAsc(building.getId()));
+        tenantRepository.deleteById(tenant.getId());
+        buildingRepository.deleteById(building.getId());
+    }
+
+    @Test
+    void roomsOfABuildingAreCachedUntilARoomIsWritten() {
+        assertThat(read(() -> roomRepository.findByBuildingIdOrderByIdAsc(building.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(read(() -> roomRepository.findByBuildingIdOrderByIdAsc(building.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Bills are in another table, the cached rooms are still valid
+        generateBillRepository.save(
+            new GenerateBill()
+                .amountPending(50D)
+                .electricityUnit(1D)
+                .sendNotification(false)
+                .billingPeriod(PERIOD.plusMonths(1))
+                .tenant(tenant)
+        );
+        statistics.clear();
+        assertThat(read(() -> roomRepository.findByBuildingIdOrderByIdAsc(building.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        roomRepository.save(new Room().roomName("second").floor("1").building(building));
+        statistics.clear();
+        assertThat(read(() -> roomRepository.findByBuildingIdOrderByIdAsc(building.getId()))).hasSize(2);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void billsOfATenantAreCachedUntilABillIsWritten() {
+        assertThat(read(() -> generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()))).hasSize(1);
+
+        statistics.clear();
+        assertThat(read(() -> generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        generateBillRepository.save(
+            new GenerateBill()
+                .amountPending(50D)
+                .electricityUnit(1D)
+                .sendNotification(false)
+                .billingPeriod(PERIOD.plusMonths(1))
+                .tenant(tenant)
+        );
+        statistics.clear();
+        List<GenerateBill> bills = read(() -> generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()));
+        assertThat(bills).hasSize(2);
+        assertThat(bills.get(0).getAmountPending()).isEqualTo(50D);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void tenantsOfABuildingAreCachedUntilATenantOrARoomIsWritten() {
+        assertThat(read(() -> tenantRepository.findByBuildingId(building.getId()))).extracting(Tenant::getId).containsExactly(tenant.getId());
+
+        statistics.clear();
+        assertThat(read(() -> tenantRepository.findByBuildingId(building.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        tenantRepository.save(tenantRepository.findById(tenant.getId()).orElseThrow().tenantName("renamed"));
+        statistics.clear();
+        assertThat(read(() -> tenantRepository.findByBuildingId(building.getId()))).extracting(Tenant::getTenantName).containsExactly("renamed");
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+
+        read(() -> tenantRepository.findByBuildingId(building.getId()));
+        roomRepository.save(new Room().roomName("second").floor("1").building(building));
+        statistics.clear();
+        assertThat(read(() -> tenantRepository.findByBuildingId(building.getId()))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void onlyTheTenantUpdatedInBulkIsEvictedOnEveryInstance() {
+        Tenant otherTenant = tenantRepository.save(
+            new Tenant()
+                .tenantName("other")
+                .phoneNumber("0000000001")
+                .rentStartDate(LocalDate.ofEpochDay(0L))
+                .rentAmount(1000D)
+                .electricityUnitRate(8)
+                .startingElectricityUnit(10D)
+                .outStandingAmount(0D)
+        );
+        try {
+            List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+            cacheInvalidationBus.subscribe(published::add);
+            assertThat(read(() -> tenantRepository.findById(tenant.getId()))).get().extracting(Tenant::getOutStandingAmount).isEqualTo(0D);
+            assertThat(read(() -> tenantRepository.findById(otherTenant.getId()))).isPresent();
+            assertThat(read(() -> tenantRepository.findByBuildingId(building.getId()))).hasSize(1);
+
+            transactionTemplate.executeWithoutResult(status -> tenantRepository.addToOutStandingAmount(tenant.getId(), 10D));
+
+            // The other tenants, and the queries cached on the tenants, are still cached
+            statistics.clear();
+            assertThat(read(() -> tenantRepository.findById(otherTenant.getId()))).isPresent();
+            assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            statistics.clear();
+            assertThat(read(() -> tenantRepository.findByBuildingId(building.getId())))
+                .extracting(Tenant::getOutStandingAmount)
+                .containsExactly(10D);
+            assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+            statistics.clear();
+            assertThat(read(() -> tenantRepository.findById(tenant.getId()))).get().extracting(Tenant::getOutStandingAmount).isEqualTo(10D);
+            assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+            // The updated tenant is evicted on the other instances too, not the whole region
+            assertThat(published)
+                .filteredOn(invalidation -> Tenant.class.getName().equals(invalidation.getCacheName()))
+                .isNotEmpty()
+                .allSatisfy(invalidation -> assertThat(invalidation.getKey()).isNotNull());
+        } finally {
+            tenantRepository.deleteById(otherTenant.getId());
+        }
+    }
+
+    @Test
+    void tenantUpdatedInBulkIsEvictedFromAnInstanceHoldingIt() {
+        Object cacheKey = tenantCacheKey(tenant.getId());
+        // Another instance holds the tenant, this one does not
+        Map<Object, Object> otherInstance = new ConcurrentHashMap<>(Map.of(cacheKey, tenant));
+        cacheInvalidationBus.subscribe(invalidation -> {
+            if (Tenant.class.getName().equals(invalidation.getCacheName())) {
+                otherInstance.remove(invalidation.getKey());
+            }
+        });
+        entityManagerFactory.getCache().evict(Tenant.class, tenant.getId());
+        otherInstance.put(cacheKey, tenant);
+        assertThat(entityManagerFactory.getCache().contains(Tenant.class, tenant.getId())).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> tenantRepository.addToOutStandingAmount(tenant.getId(), 10D));
+
+        assertThat(otherInstance).doesNotContainKey(cacheKey);
+    }
+
+    @Test
+    void regionsClearedByABulkUpdateAreClearedOnEveryInstanceOnce() {
+        List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+        cacheInvalidationBus.subscribe(published::add);
+        assertThat(read(() -> tenantRepository.findById(tenant.getId()))).isPresent();
+
+        transactionTemplate.executeWithoutResult(status ->
+            em
+                .createQuery("update Tenant tenant set tenant.rentAmount = tenant.rentAmount + 1 where tenant.id = :id")
+                .setParameter("id", tenant.getId())
+                .executeUpdate()
+        );
+
+        statistics.clear();
+        assertThat(read(() -> tenantRepository.findById(tenant.getId()))).get().extracting(Tenant::getRentAmount).isEqualTo(1001D);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+        // The clear of the region is not a cache event, it is published by the region itself when the update completes
+        assertThat(published)
+            .filteredOn(invalidation -> Tenant.class.getName().equals(invalidation.getCacheName()))
+            .singleElement()
+            .extracting(CacheInvalidation::getKey)
+            .isNull();
+    }
+
+    private Object tenantCacheKey(Long id) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMetamodel().entityPersister(Tenant.class);
+        return persister.getCacheAccessStrategy().generateCacheKey(id, persister, sessionFactory, null);
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+}
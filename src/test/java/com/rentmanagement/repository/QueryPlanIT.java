@@ -0,0 +1,232 @@
+package com.rentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.service.GenerateBillPartitionService;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking, with {@code EXPLAIN ANALYZE}, that the main queries of the repositories and query
+ * services are served by the indexes of the Liquibase changelogs: a sequential scan reading more than
+ * {@link #MAX_SCANNED_ROWS} rows fails the test.
+ * <p>
+ * Runs against H2, and against PostgreSQL with the {@code testcontainers} profile. H2 indexes the foreign keys by
+ * itself, PostgreSQL does not. On PostgreSQL the sequential scans are disabled, so that the planner uses an index
+ * whenever there is one, whatever the size of the test tables.
+ */
+@IntegrationTest
+@Transactional
+class QueryPlanIT {
+
+    private static final int MAX_SCANNED_ROWS = 100;
+
+    private static final int BUILDINGS = 10;
+
+    private static final int TENANTS = 500;
+
+    private static final int BILLS_PER_TENANT = 2;
+
+    private static final Pattern H2_ACCESS = Pattern.compile("^\\s*/\\* (PUBLIC\\.[^ :*]+)(:)?.*$");
+
+    private static final Pattern H2_SCAN_COUNT = Pattern.compile("^\\s*/\\* scanCount: (\\d+) \\*/$");
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private GenerateBillPartitionService generateBillPartitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private boolean postgresql;
+
+    private Building building;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void setup() {
+        List<Building> buildings = new ArrayList<>();
+        for (int i = 0; i < BUILDINGS; i++) {
+            buildings.add(new Building().buildingName("query plan " + i));
+        }
+        buildingRepository.saveAll(buildings);
+        List<Tenant> tenants = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>();
+        List<GenerateBill> bills = new ArrayList<>();
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i < 12 * BILLS_PER_TENANT; i++) {
+            generateBillPartitionService.createPartition(currentMonth.minusMonths(i));
+        }
+        for (int i = 0; i < TENANTS; i++) {
+            Tenant tenant = new Tenant()
+                .tenantName("query plan " + i)
+                .phoneNumber(String.format("9%09d", i))
+                .rentStartDate(LocalDate.ofEpochDay(0L))
+                .rentAmount(1000D)
+                .electricityUnitRate(8)
+                .startingElectricityUnit(10D)
+                .monthEndCalculation(true)
+                .calculatedForCurrentMonth(true);
+            tenants.add(tenant);
+            rooms.add(new Room().roomName("query plan " + i).floor("1").building(buildings.get(i % BUILDINGS)).tenants(tenant));
+            for (int j = 0; j < BILLS_PER_TENANT; j++) {
+                bills.add(
+                    new GenerateBill()
+                        .amountPending(100D)
+                        .electricityUnit(1D)
+                        .sendNotification(false)
+                        .billingPeriod(currentMonth.minusMonths((i % 12) + 12L * j).atDay(1))
+                        .tenant(tenant)
+                );
+            }
+        }
+        tenantRepository.saveAll(tenants);
+        roomRepository.saveAll(rooms);
+        generateBillRepository.saveAllAndFlush(bills);
+        building = buildings.get(0);
+        tenant = tenants.get(0);
+
+        postgresql = "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName()));
+        if (postgresql) {
+            // On H2, ANALYZE commits the transaction: the test data would outlive the test
+            jdbcTemplate.execute("analyze");
+            jdbcTemplate.execute("set local enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void assertThatTheBillsOfATenantAreIndexed() throws Exception {
+        assertNoSequentialScan("select * from generate_bill where tenant_id = " + tenant.getId() + " order by id desc");
+    }
+
+    @Test
+    void assertThatTheBillsOfAPeriodAreIndexed() throws Exception {
+        assertNoSequentialScan("select * from generate_bill where billing_period = '" + YearMonth.now(ZoneOffset.UTC).atDay(1) + "'");
+    }
+
+    @Test
+    void assertThatTheRoomsOfABuildingAreIndexed() throws Exception {
+        assertNoSequentialScan("select * from room where building_id = " + building.getId() + " order by id");
+    }
+
+    @Test
+    void assertThatTheRoomsOfATenantAreIndexed() throws Exception {
+        assertNoSequentialScan("select * from room where tenants_id = " + tenant.getId());
+    }
+
+    @Test
+    void assertThatTheTenantsOfABuildingAreIndexed() throws Exception {
+        assertNoSequentialScan(
+            "select * from tenant where id in (select tenants_id from room where building_id = " + building.getId() + ") order by id"
+        );
+    }
+
+    @Test
+    void assertThatTheTenantsAreIndexedByPhoneNumber() throws Exception {
+        assertNoSequentialScan("select * from tenant where phone_number = '" + tenant.getPhoneNumber() + "'");
+    }
+
+    @Test
+    void assertThatTheTenantsAreIndexedByLocation() throws Exception {
+        assertNoSequentialScan("select * from tenant where location_id = 1");
+    }
+
+    /**
+     * The bill run, once every tenant is billed. H2 has no partial indexes: it walks the tenants by id.
+     */
+    @Test
+    void assertThatTheTenantsLeftToBillAreIndexed() throws Exception {
+        assumeTrue(postgresql, "partial indexes are only created on PostgreSQL");
+
+        assertNoSequentialScan(
+            "select * from tenant where id > 0 and (month_end_calculation = true or calculate_on_date = true)" +
+            " and (calculated_for_current_month is null or calculated_for_current_month = false) order by id limit 100"
+        );
+    }
+
+    private void assertNoSequentialScan(String sql) throws Exception {
+        List<String> sequentialScans = postgresql ? postgresqlSequentialScans(sql) : h2SequentialScans(sql);
+        assertThat(sequentialScans).as("sequential scans of %s", sql).isEmpty();
+    }
+
+    /**
+     * Tables read without an index condition, by a table scan or by walking a whole index, in the H2 plan.
+     */
+    private List<String> h2SequentialScans(String sql) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class);
+        List<String> sequentialScans = new ArrayList<>();
+        String access = null;
+        boolean indexCondition = false;
+        for (String line : plan.split("\n")) {
+            Matcher accessMatcher = H2_ACCESS.matcher(line);
+            Matcher scanCountMatcher = H2_SCAN_COUNT.matcher(line);
+            if (accessMatcher.matches()) {
+                access = accessMatcher.group(1);
+                indexCondition = accessMatcher.group(2) != null;
+            } else if (scanCountMatcher.matches() && access != null) {
+                long scanned = Long.parseLong(scanCountMatcher.group(1));
+                if (!indexCondition && scanned > MAX_SCANNED_ROWS) {
+                    sequentialScans.add(access + " (" + scanned + " rows)");
+                }
+                access = null;
+            }
+        }
+        return sequentialScans;
+    }
+
+    /**
+     * The "Seq Scan" nodes of the PostgreSQL plan.
+     */
+    private List<String> postgresqlSequentialScans(String sql) throws Exception {
+        String plan = jdbcTemplate.queryForObject("explain (analyze, format json) " + sql, String.class);
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), sequentialScans);
+        return sequentialScans;
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            long scanned =
+                (node.path("Actual Rows").asLong() + node.path("Rows Removed by Filter").asLong()) * node.path("Actual Loops").asLong();
+            if (scanned > MAX_SCANNED_ROWS) {
+                sequentialScans.add(node.path("Relation Name").asText() + " (" + scanned + " rows)");
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, sequentialScans);
+        }
+    }
+}
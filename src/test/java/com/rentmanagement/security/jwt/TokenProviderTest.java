@@ -12,6 +12,10 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.*;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,6 +30,7 @@ class TokenProviderTest {
     private static final long ONE_MINUTE = 60000;
 
     private Key key;
+    private SimpleMeterRegistry meterRegistry;
     private TokenProvider tokenProvider;
 
     @BeforeEach
@@ -34,9 +39,10 @@ class TokenProviderTest {
         String base64Secret = "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
         jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(base64Secret);
 
-        SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        SecurityMetersService securityMetersService = new SecurityMetersService(meterRegistry);
 
-        tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService, verifiedTokensCacheManager());
         key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
 
         ReflectionTestUtils.setField(tokenProvider, "key", key);
@@ -88,6 +94,47 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testResolveAuthenticationCachesVerifiedToken() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        Optional<Authentication> first = tokenProvider.resolveAuthentication(token);
+        Optional<Authentication> second = tokenProvider.resolveAuthentication(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getName()).isEqualTo("anonymous");
+        assertThat(first.get().getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ANONYMOUS);
+        assertThat(second).isPresent();
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(second.get().getPrincipal()).isSameAs(first.get().getPrincipal());
+        assertThat(tokenCacheCount("miss")).isEqualTo(1);
+        assertThat(tokenCacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void testResolveAuthenticationReturnsEmptyWhenJWThasInvalidSignature() {
+        String token = createTokenWithDifferentSignature();
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isEmpty();
+        assertThat(tokenProvider.resolveAuthentication(token)).isEmpty();
+        assertThat(tokenCacheCount("hit")).isZero();
+    }
+
+    @Test
+    void testResolveAuthenticationDoesNotReturnCachedTokenOnceExpired() throws InterruptedException {
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", 1500L);
+        String token = tokenProvider.createToken(createAuthentication(), false);
+        assertThat(tokenProvider.resolveAuthentication(token)).isPresent();
+
+        // The expiration of a token is in seconds
+        Thread.sleep(1600);
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isEmpty();
+        assertThat(tokenCacheCount("hit")).isZero();
+        assertThat(meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).tag("cause", "expired").counter().count())
+            .isEqualTo(1);
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
@@ -96,7 +143,7 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService, verifiedTokensCacheManager());
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
@@ -110,12 +157,36 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService, verifiedTokensCacheManager());
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret)));
     }
 
+    @Test
+    void testResolveAuthenticationReturnsAnAuthenticationPerCall() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        Authentication first = tokenProvider.resolveAuthentication(token).orElseThrow();
+        first.setAuthenticated(false);
+
+        assertThat(tokenProvider.resolveAuthentication(token).orElseThrow().isAuthenticated()).isTrue();
+    }
+
+    /**
+     * A cache manager with an empty cache of the verified tokens.
+     */
+    static CacheManager verifiedTokensCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName()).getCacheManager();
+        cacheManager.destroyCache(TokenProvider.VERIFIED_TOKENS_CACHE);
+        cacheManager.createCache(TokenProvider.VERIFIED_TOKENS_CACHE, new MutableConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    private double tokenCacheCount(String result) {
+        return meterRegistry.get(SecurityMetersService.TOKEN_CACHE_METER_NAME).tag("result", result).counter().count();
+    }
+
     private Authentication createAuthentication() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS));
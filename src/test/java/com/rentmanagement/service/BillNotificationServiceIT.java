@@ -0,0 +1,325 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.config.ApplicationProperties;
+import com.rentmanagement.domain.BillNotification;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.BillNotificationStatus;
+import com.rentmanagement.repository.BillNotificationRepository;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.TenantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.mail.internet.MimeMessage;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.MessageSource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for {@link BillNotificationService}, against a local SMTP server.
+ * <p>
+ * Not transactional: the dispatcher claims and updates the notifications in transactions of its own.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+        "spring.mail.port=3025",
+        "application.notification.enabled=true",
+        "application.notification.delay=PT1H",
+        "application.notification.batch-size=2",
+        "application.notification.messages-per-second=1000",
+        "application.notification.max-attempts=2",
+        "application.notification.retry-backoff=PT1H",
+    }
+)
+class BillNotificationServiceIT {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BillNotificationRepository billNotificationRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Tenant> tenants = new ArrayList<>();
+
+    private BillNotificationService billNotificationService;
+
+    @Autowired
+    private EntityManager em;
+
+    private MailService mailService;
+
+    @BeforeEach
+    public void setup() {
+        // The MailService bean is a mock in the tests
+        mailService =
+            new MailService(
+                jHipsterProperties,
+                javaMailSender,
+                messageSource,
+                templateEngine,
+                meterRegistry,
+                applicationContext
+            );
+        billNotificationService = createBillNotificationService(mailService);
+    }
+
+    private BillNotificationService createBillNotificationService(MailService mailService) {
+        return new BillNotificationService(
+            billNotificationRepository,
+            generateBillRepository,
+            javaMailSender,
+            mailService,
+            jHipsterProperties,
+            applicationProperties,
+            transactionManager
+        );
+    }
+
+    @AfterEach
+    public void cleanup() {
+        billNotificationRepository.deleteAll();
+        for (Tenant tenant : tenants) {
+            generateBillRepository.deleteAll(generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()));
+            tenantRepository.deleteById(tenant.getId());
+        }
+    }
+
+    private GenerateBill createBill(String emailAddress, boolean sendNotification) {
+        return transactionTemplate.execute(status -> {
+            Tenant tenant = tenantRepository.save(
+                new Tenant()
+                    .tenantName("tenant " + tenants.size())
+                    .phoneNumber("0000000000")
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1000D)
+                    .electricityUnitRate(8)
+                    .startingElectricityUnit(10D)
+                    .sendNotification(sendNotification)
+                    .emailAddress(emailAddress)
+            );
+            tenants.add(tenant);
+            GenerateBill bill = generateBillRepository.save(
+                new GenerateBill()
+                    .tenant(tenant)
+                    .amountPending(1234.5D)
+                    .electricityUnit(12D)
+                    .sendNotification(sendNotification)
+                    .billingPeriod(LocalDate.of(2022, 1, 1))
+            );
+            billNotificationService.enqueue(List.of(bill));
+            return bill;
+        });
+    }
+
+    @Test
+    void assertThatBillsAreNotifiedInBatches() throws Exception {
+        createBill("first@example.com", true);
+        createBill("second@example.com", true);
+        createBill("third@example.com", true);
+        createBill("silent@example.com", false);
+
+        assertThat(billNotificationRepository.findAll()).hasSize(3);
+        assertThat(billNotificationService.dispatchPending()).isEqualTo(3);
+
+        MimeMessage[] messages = greenMail.getReceivedMessages();
+        assertThat(messages).hasSize(3);
+        assertThat(messages)
+            .extracting(message -> message.getAllRecipients()[0].toString())
+            .containsExactlyInAnyOrder("first@example.com", "second@example.com", "third@example.com");
+        assertThat(messages[0].getSubject()).isEqualTo("rentmanagement new bill");
+        assertThat(GreenMailUtil.getBody(messages[0])).contains("1234.50");
+        assertThat(billNotificationRepository.findAll())
+            .allSatisfy(notification -> {
+                assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.SENT);
+                assertThat(notification.getAttempts()).isEqualTo(1);
+                assertThat(notification.getSentDate()).isNotNull();
+            });
+
+        assertThat(billNotificationService.dispatchPending()).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    }
+
+    @Test
+    void assertThatFailedNotificationsAreRetriedThenGivenUp() {
+        createBill("retried@example.com", true);
+        greenMail.stop();
+
+        assertThat(billNotificationService.dispatchPending()).isZero();
+        BillNotification notification = billNotificationRepository.findAll().get(0);
+        assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.PENDING);
+        assertThat(notification.getAttempts()).isEqualTo(1);
+        assertThat(notification.getNextAttemptDate()).isAfter(Instant.now().plus(59, ChronoUnit.MINUTES));
+        assertThat(notification.getLastError()).isNotNull();
+
+        billNotificationRepository.save(notification.nextAttemptDate(Instant.now()));
+        assertThat(billNotificationService.dispatchPending()).isZero();
+        notification = billNotificationRepository.findAll().get(0);
+        assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.FAILED);
+        assertThat(notification.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void assertThatFailedNotificationsAreSentOnRetry() {
+        createBill("retried@example.com", true);
+        greenMail.stop();
+        assertThat(billNotificationService.dispatchPending()).isZero();
+
+        greenMail.start();
+        billNotificationRepository.save(billNotificationRepository.findAll().get(0).nextAttemptDate(Instant.now()));
+        assertThat(billNotificationService.dispatchPending()).isEqualTo(1);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(billNotificationRepository.findAll())
+            .singleElement()
+            .satisfies(notification -> {
+                assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.SENT);
+                assertThat(notification.getAttempts()).isEqualTo(2);
+                assertThat(notification.getLastError()).isNull();
+            });
+    }
+
+    @Test
+    void assertThatNotificationsWithoutEmailAddressAreGivenUp() {
+        createBill(null, true);
+
+        assertThat(billNotificationService.dispatchPending()).isZero();
+
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        assertThat(billNotificationRepository.findAll())
+            .singleElement()
+            .satisfies(notification -> assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.FAILED));
+    }
+
+    @Test
+    void assertThatNotificationsOfDeletedBillsAreGivenUp() {
+        createBill("sent@example.com", true);
+        transactionTemplate.executeWithoutResult(status -> {
+            // The foreign key to the bills is suspended to leave a notification behind, as a bill deleted by hand would
+            em.createNativeQuery("set referential_integrity false").executeUpdate();
+            billNotificationRepository.save(
+                new BillNotification()
+                    .generateBillId(Long.MAX_VALUE)
+                    .billingPeriod(LocalDate.of(2022, 1, 1))
+                    .status(BillNotificationStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptDate(Instant.now())
+                    .createdDate(Instant.now())
+            );
+            billNotificationRepository.flush();
+            em.createNativeQuery("set referential_integrity true").executeUpdate();
+        });
+
+        assertThat(billNotificationService.dispatchPending()).isEqualTo(1);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(billNotificationRepository.findAll())
+            .filteredOn(notification -> notification.getGenerateBillId() == Long.MAX_VALUE)
+            .singleElement()
+            .satisfies(notification -> {
+                assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.FAILED);
+                assertThat(notification.getLastError()).isEqualTo("The bill no longer exists");
+            });
+    }
+
+    @Test
+    void assertThatNotificationsWhichCannotBeRenderedAreRetriedThenGivenUp() {
+        MailService failingMailService = spy(mailService);
+        doThrow(new TemplateProcessingException("broken template"))
+            .when(failingMailService)
+            .renderBatch(anyString(), any(Locale.class), argThat(variables -> variables.stream().anyMatch(this::isBroken)));
+        billNotificationService = createBillNotificationService(failingMailService);
+        GenerateBill broken = createBill("broken@example.com", true);
+        createBill("sent@example.com", true);
+
+        assertThat(billNotificationService.dispatchPending()).isEqualTo(1);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        BillNotification notification = findNotification(broken);
+        assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.PENDING);
+        assertThat(notification.getAttempts()).isEqualTo(1);
+        assertThat(notification.getNextAttemptDate()).isAfter(Instant.now().plus(59, ChronoUnit.MINUTES));
+        assertThat(notification.getLastError()).contains("broken template");
+
+        billNotificationRepository.save(notification.nextAttemptDate(Instant.now()));
+        assertThat(billNotificationService.dispatchPending()).isZero();
+        notification = findNotification(broken);
+        assertThat(notification.getStatus()).isEqualTo(BillNotificationStatus.FAILED);
+        assertThat(notification.getAttempts()).isEqualTo(2);
+    }
+
+    private boolean isBroken(Map<String, Object> emailVariables) {
+        return "broken@example.com".equals(((Tenant) emailVariables.get("tenant")).getEmailAddress());
+    }
+
+    private BillNotification findNotification(GenerateBill bill) {
+        return billNotificationRepository
+            .findAll()
+            .stream()
+            .filter(notification -> bill.getId().equals(notification.getGenerateBillId()))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,293 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Integration tests of the migration of the existing bills to billing periods: the Liquibase changelog run on a schema
+ * populated before the bills had a date, then before they had a billing period. On PostgreSQL, the bills are then
+ * partitioned by billing period, and the {@link GenerateBillPartitionService} creates the partitions of the next periods.
+ * <p>
+ * Runs the changelog on an H2 database, and on a PostgreSQL container of its own when Docker is available.
+ */
+class BillingPeriodMigrationIT {
+
+    private static final String BILL_DATE_CHANGESET = "20261018090400-1";
+
+    private static final String BILLING_PERIOD_CHANGESET = "20261018090600-1";
+
+    private static final String POSTGRESQL = "postgresql";
+
+    private static final Contexts CONTEXTS = new Contexts("test");
+
+    private static PostgreSQLContainer<?> postgres;
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgresql;
+
+    @AfterAll
+    static void stopDatabase() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (dataSource != null) {
+            if (!postgresql) {
+                jdbcTemplate.execute("shutdown");
+            }
+            dataSource.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "h2", POSTGRESQL })
+    void migrateBillsIssuedBeforeTheyHadADate(String database) throws LiquibaseException {
+        open(database);
+        migrateUpTo(BILL_DATE_CHANGESET);
+        insertTenant(1L);
+        insertTenant(2L);
+        insertBill(11L, 1L);
+        insertBill(12L, 1L);
+        insertBill(13L, 1L);
+        insertBill(21L, 2L);
+        insertNotification(100L, 11L);
+
+        migrate();
+
+        // The latest bill of a tenant is the bill of the current month, each earlier one the bill of the month before
+        LocalDate currentPeriod = jdbcTemplate.queryForObject("select current_date", LocalDate.class).withDayOfMonth(1);
+        assertThat(billingPeriodOf("generate_bill", 13L)).isEqualTo(currentPeriod);
+        assertThat(billingPeriodOf("generate_bill", 12L)).isEqualTo(currentPeriod.minusMonths(1));
+        assertThat(billingPeriodOf("generate_bill", 11L)).isEqualTo(currentPeriod.minusMonths(2));
+        assertThat(billingPeriodOf("generate_bill", 21L)).isEqualTo(currentPeriod);
+        assertThat(billingPeriodOf("bill_notification", 100L)).isEqualTo(currentPeriod.minusMonths(2));
+        if (postgresql) {
+            assertThat(
+                jdbcTemplate.queryForObject(
+                    "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass('generate_bill'))",
+                    Boolean.class
+                )
+            )
+                .isTrue();
+            assertThat(partitionOf(11L)).isEqualTo(partitionName(YearMonth.from(currentPeriod.minusMonths(2))));
+            assertThat(partitionOf(13L)).isEqualTo(partitionName(YearMonth.from(currentPeriod)));
+        }
+
+        // The bill notifications keep their foreign key to the bills
+        assertThatThrownBy(() ->
+                jdbcTemplate.update(
+                    "insert into bill_notification (id, generate_bill_id, status, attempts, next_attempt_date, created_date, " +
+                    "billing_period) values (101, 99, 'PENDING', 0, current_timestamp, current_timestamp, ?)",
+                    currentPeriod
+                )
+            )
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("delete from generate_bill where id = 11"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "h2", POSTGRESQL })
+    void migrateBillsCreatedInTheSameMonthAsMonthlyBills(String database) throws LiquibaseException {
+        open(database);
+        migrateUpTo(BILLING_PERIOD_CHANGESET);
+        insertTenant(1L);
+        insertTenant(2L);
+        insertTenant(3L);
+        insertBill(10L, 1L, LocalDateTime.of(2026, 7, 10, 12, 0));
+        insertBill(11L, 1L, LocalDateTime.of(2026, 9, 1, 0, 0));
+        insertBill(12L, 1L, LocalDateTime.of(2026, 9, 30, 0, 0));
+        insertBill(21L, 2L, LocalDateTime.of(2026, 8, 31, 23, 0));
+        insertBill(22L, 2L, LocalDateTime.of(2026, 9, 1, 0, 0));
+        insertBill(31L, 3L, null);
+
+        migrate();
+
+        // Tenant 1 has two bills in September: its bills are taken as monthly bills up to September
+        assertThat(billingPeriodOf("generate_bill", 12L)).isEqualTo(LocalDate.of(2026, 9, 1));
+        assertThat(billingPeriodOf("generate_bill", 11L)).isEqualTo(LocalDate.of(2026, 8, 1));
+        assertThat(billingPeriodOf("generate_bill", 10L)).isEqualTo(LocalDate.of(2026, 7, 1));
+        // The bills of tenant 2 are of the months they were created
+        assertThat(billingPeriodOf("generate_bill", 21L)).isEqualTo(LocalDate.of(2026, 8, 1));
+        assertThat(billingPeriodOf("generate_bill", 22L)).isEqualTo(LocalDate.of(2026, 9, 1));
+        // A bill without a date is the bill of the current month
+        assertThat(billingPeriodOf("generate_bill", 31L))
+            .isEqualTo(jdbcTemplate.queryForObject("select current_date", LocalDate.class).withDayOfMonth(1));
+        if (postgresql) {
+            assertThat(partitionOf(10L)).isEqualTo("generate_bill_202607");
+            assertThat(partitionOf(11L)).isEqualTo("generate_bill_202608");
+        }
+    }
+
+    @Test
+    void createPartitionsAheadOfTheBills() throws LiquibaseException {
+        open(POSTGRESQL);
+        migrate();
+        GenerateBillPartitionService generateBillPartitionService = new GenerateBillPartitionService(jdbcTemplate);
+        YearMonth period = YearMonth.now(ZoneOffset.UTC).plusMonths(3);
+
+        generateBillPartitionService.createPartition(period);
+        generateBillPartitionService.createPartition(period);
+        generateBillPartitionService.createUpcomingPartitions();
+
+        String partition = partitionName(period);
+        assertThat(jdbcTemplate.queryForObject("select to_regclass(?)::text", String.class, partition)).isEqualTo(partition);
+        insertTenant(1L);
+        jdbcTemplate.update(
+            "insert into generate_bill (id, tenant_id, created_date, billing_period, version) values (1, 1, now(), ?, 0)",
+            period.atDay(1)
+        );
+        assertThat(partitionOf(1L)).isEqualTo(partition);
+    }
+
+    private void open(String database) {
+        postgresql = POSTGRESQL.equals(database);
+        if (postgresql) {
+            assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+            if (postgres == null) {
+                postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:14.2"));
+                postgres.start();
+            }
+            dataSource = new SingleConnectionDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("drop schema public cascade");
+            jdbcTemplate.execute("create schema public");
+        } else {
+            dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+
+    private void migrateUpTo(String changeSetId) throws LiquibaseException {
+        Liquibase liquibase = liquibase();
+        List<ChangeSet> unrunChangeSets = liquibase.listUnrunChangeSets(CONTEXTS, new LabelExpression());
+        int changeSets = 0;
+        while (!unrunChangeSets.get(changeSets).getId().equals(changeSetId)) {
+            changeSets++;
+        }
+        try {
+            liquibase.update(changeSets, CONTEXTS, new LabelExpression());
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    private void migrate() throws LiquibaseException {
+        try {
+            liquibase().update(CONTEXTS, new LabelExpression());
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    private Liquibase liquibase() throws LiquibaseException {
+        Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection()));
+        return new Liquibase("config/liquibase/master.xml", new ClassLoaderResourceAccessor(), database);
+    }
+
+    /**
+     * Liquibase runs the changesets with auto-commit disabled, the test statements run on their own again.
+     */
+    private void restoreAutoCommit() {
+        try {
+            connection().setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void insertTenant(Long id) {
+        jdbcTemplate.update(
+            "insert into tenant (id, tenant_name, phone_number, rent_start_date, rent_amount, electricity_unit_rate, " +
+            "starting_electricity_unit) values (?, ?, '9999999999', ?, 1000, 8, 0)",
+            id,
+            "tenant " + id,
+            LocalDate.of(2026, 1, 1)
+        );
+    }
+
+    /**
+     * A bill issued before the bills had a date.
+     */
+    private void insertBill(Long id, Long tenantId) {
+        jdbcTemplate.update(
+            "insert into generate_bill (id, tenant_id, amount_pending, electricity_unit) values (?, ?, 1000, 10)",
+            id,
+            tenantId
+        );
+    }
+
+    private void insertBill(Long id, Long tenantId, LocalDateTime createdDate) {
+        jdbcTemplate.update(
+            "insert into generate_bill (id, tenant_id, amount_pending, electricity_unit, created_date) values (?, ?, 1000, 10, ?)",
+            id,
+            tenantId,
+            createdDate
+        );
+    }
+
+    private void insertNotification(Long id, Long generateBillId) {
+        jdbcTemplate.update(
+            "insert into bill_notification (id, generate_bill_id, status, attempts, next_attempt_date, created_date) " +
+            "values (?, ?, 'PENDING', 0, current_timestamp, current_timestamp)",
+            id,
+            generateBillId
+        );
+    }
+
+    private LocalDate billingPeriodOf(String table, Long id) {
+        return jdbcTemplate.queryForObject("select billing_period from " + table + " where id = ?", LocalDate.class, id);
+    }
+
+    private String partitionOf(Long billId) {
+        return jdbcTemplate.queryForObject("select tableoid::regclass::text from generate_bill where id = ?", String.class, billId);
+    }
+
+    private static String partitionName(YearMonth period) {
+        return String.format("generate_bill_%04d%02d", period.getYear(), period.getMonthValue());
+    }
+}
@@ -0,0 +1,175 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.dto.BillingRunDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link BillingService}.
+ */
+@IntegrationTest
+@Transactional
+class BillingServiceIT {
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    private static Tenant createTenant(String name, Boolean monthEndCalculation, Boolean calculatedForCurrentMonth) {
+        return new Tenant()
+            .tenantName(name)
+            .phoneNumber("0000000000")
+            .rentStartDate(LocalDate.ofEpochDay(0L))
+            .rentAmount(1000D)
+            .electricityUnitRate(8)
+            .startingElectricityUnit(10D)
+            .outStandingAmount(250D)
+            .sendNotification(true)
+            .monthEndCalculation(monthEndCalculation)
+            .calculateOnDate(false)
+            .calculatedForCurrentMonth(calculatedForCurrentMonth);
+    }
+
+    @Test
+    void assertThatBillableTenantsAreBilledOnceInChunks() {
+        List<Tenant> billable = tenantRepository.saveAllAndFlush(
+            List.of(createTenant("first", true, false), createTenant("second", true, null), createTenant("third", true, false))
+        );
+        Tenant notBillable = tenantRepository.saveAndFlush(createTenant("not billable", false, false));
+        Tenant alreadyBilled = tenantRepository.saveAndFlush(createTenant("already billed", true, true));
+
+        BillingRunDTO run = billingService.runMonthlyBilling();
+
+        assertThat(run.getBillsGenerated()).isGreaterThanOrEqualTo(3);
+        assertThat(run.getChunks()).isGreaterThanOrEqualTo(2);
+        List<Long> billableIds = billable.stream().map(Tenant::getId).collect(Collectors.toList());
+        List<GenerateBill> bills = generateBillRepository
+            .findAll()
+            .stream()
+            .filter(bill -> billableIds.contains(bill.getTenant().getId()))
+            .collect(Collectors.toList());
+        assertThat(bills).hasSize(3);
+        assertThat(bills).allSatisfy(bill -> {
+            assertThat(bill.getAmountPending()).isEqualTo(1250D);
+            assertThat(bill.getElectricityUnit()).isZero();
+            assertThat(bill.getSendNotification()).isTrue();
+            assertThat(bill.getBillingPeriod()).isEqualTo(run.getBillingPeriod());
+        });
+        assertThat(tenantRepository.findAllById(billableIds))
+            .allSatisfy(tenant -> {
+                assertThat(tenant.getCalculatedForCurrentMonth()).isTrue();
+                assertThat(tenant.getOutStandingAmount()).isEqualTo(1250D);
+                assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()))
+                    .singleElement()
+                    .satisfies(entry -> {
+                        assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.CHARGE);
+                        assertThat(entry.getAmount()).isEqualTo(1000D);
+                        assertThat(entry.getBalance()).isEqualTo(1250D);
+                    });
+            });
+        assertThat(generateBillRepository.findAll())
+            .noneMatch(bill -> bill.getTenant().getId().equals(notBillable.getId()))
+            .noneMatch(bill -> bill.getTenant().getId().equals(alreadyBilled.getId()));
+
+        assertThat(billingService.runMonthlyBilling().getBillsGenerated()).isZero();
+    }
+
+    @Test
+    void assertThatABillCreatedByHandIsChargedLikeTheBillsOfTheRun() {
+        Tenant billedByTheRun = tenantRepository.saveAndFlush(createTenant("billed by the run", true, false));
+        Tenant billedByHand = tenantRepository.saveAndFlush(createTenant("billed by hand", false, false));
+
+        billingService.runMonthlyBilling();
+        GenerateBill bill = billingService.computeBill(billedByHand, null).billingPeriod(YearMonth.now(ZoneOffset.UTC).atDay(1));
+        assertThat(billingService.createBill(bill)).isPresent();
+
+        assertThat(tenantRepository.findAllById(List.of(billedByTheRun.getId(), billedByHand.getId())))
+            .hasSize(2)
+            .allSatisfy(tenant -> {
+                assertThat(tenant.getOutStandingAmount()).isEqualTo(1250D);
+                assertThat(generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()))
+                    .singleElement()
+                    .extracting(GenerateBill::getAmountPending)
+                    .isEqualTo(1250D);
+                assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()))
+                    .singleElement()
+                    .satisfies(entry -> {
+                        assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.CHARGE);
+                        assertThat(entry.getAmount()).isEqualTo(1000D);
+                        assertThat(entry.getBalance()).isEqualTo(1250D);
+                    });
+            });
+    }
+
+    @Test
+    void assertThatElectricityIsBilledFromTheLatestMeterReading() {
+        Tenant tenant = tenantRepository.saveAndFlush(createTenant("metered", true, false));
+        meterReadingService.record(tenant.getId(), Instant.parse("2022-01-01T08:00:00Z"), 20D);
+        meterReadingService.record(tenant.getId(), Instant.parse("2022-02-01T08:00:00Z"), 40D);
+
+        billingService.runMonthlyBilling();
+
+        assertThat(generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()))
+            .singleElement()
+            .satisfies(bill -> {
+                assertThat(bill.getElectricityUnit()).isEqualTo(30D);
+                assertThat(bill.getAmountPending()).isEqualTo(250D + 1000D + 30D * 8);
+            });
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getStartingElectricityUnit).isEqualTo(40D);
+    }
+
+    @Test
+    void assertThatTenantsBilledForThePeriodAreNotBilledAgain() {
+        Tenant tenant = tenantRepository.saveAndFlush(createTenant("billed by hand", true, false));
+        generateBillRepository.saveAndFlush(
+            new GenerateBill()
+                .amountPending(100D)
+                .electricityUnit(0D)
+                .sendNotification(false)
+                .billingPeriod(YearMonth.now(ZoneOffset.UTC).atDay(1))
+                .tenant(tenant)
+        );
+
+        billingService.runMonthlyBilling();
+
+        assertThat(generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId()))
+            .singleElement()
+            .extracting(GenerateBill::getAmountPending)
+            .isEqualTo(100D);
+        assertThat(tenantRepository.findById(tenant.getId()))
+            .get()
+            .satisfies(billed -> {
+                assertThat(billed.getCalculatedForCurrentMonth()).isTrue();
+                assertThat(billed.getOutStandingAmount()).isEqualTo(250D);
+            });
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged())).isEmpty();
+    }
+}
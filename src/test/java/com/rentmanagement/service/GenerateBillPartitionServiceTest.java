@@ -0,0 +1,21 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link GenerateBillPartitionService}.
+ */
+class GenerateBillPartitionServiceTest {
+
+    @Test
+    void testPartitionDdl() {
+        assertThat(GenerateBillPartitionService.partitionDdl(YearMonth.of(2022, 12)))
+            .isEqualTo(
+                "create table if not exists generate_bill_202212 partition of generate_bill" +
+                " for values from ('2022-12-01') to ('2023-01-01')"
+            );
+    }
+}
@@ -0,0 +1,225 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.config.Constants;
+import com.rentmanagement.domain.IdempotencyKey;
+import com.rentmanagement.repository.IdempotencyKeyRepository;
+import com.rentmanagement.service.dto.IdempotentResponseDTO;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Integration tests for {@link IdempotencyService}.
+ * <p>
+ * Not transactional: the keys are stored, and their responses cached, when the transactions commit.
+ */
+@IntegrationTest
+class IdempotencyServiceIT {
+
+    private static final String SCOPE = "test";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        Objects.requireNonNull(cacheManager.getCache(IdempotencyKeyRepository.IDEMPOTENT_RESPONSES_CACHE)).clear();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+        idempotencyKeyRepository.deleteAll(testKeys());
+    }
+
+    private List<IdempotencyKey> testKeys() {
+        return idempotencyKeyRepository.findAll().stream().filter(key -> SCOPE.equals(key.getScope())).collect(Collectors.toList());
+    }
+
+    private IdempotentResponseDTO<String> execute(String requestKey, String request) {
+        return idempotencyService.execute(
+            SCOPE,
+            requestKey,
+            request,
+            String.class,
+            () -> new IdempotentResponseDTO<>(201, "/api/tests/" + runs.incrementAndGet(), request + " " + runs.get())
+        );
+    }
+
+    private IdempotentResponseDTO<String> executeAs(String login, String requestKey, String request) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(login, login));
+        try {
+            return execute(requestKey, request);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void assertThatARequestRunsOncePerKey() {
+        IdempotentResponseDTO<String> response = execute("once", "request");
+        assertThat(response.isReplayed()).isFalse();
+
+        IdempotentResponseDTO<String> replayed = execute("once", "request");
+        assertThat(replayed.isReplayed()).isTrue();
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getLocation()).isEqualTo(response.getLocation());
+        assertThat(replayed.getBody()).isEqualTo(response.getBody());
+        assertThat(runs.get()).isEqualTo(1);
+
+        // Requests without a key always run
+        assertThat(execute(null, "request").isReplayed()).isFalse();
+        assertThat(execute(null, "request").isReplayed()).isFalse();
+        assertThat(runs.get()).isEqualTo(3);
+    }
+
+    @Test
+    void assertThatCommittedResponsesAreServedByTheFrontCache() {
+        execute("cached", "request");
+        idempotencyKeyRepository.deleteAll(testKeys());
+
+        assertThat(execute("cached", "request").isReplayed()).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+
+        // Without the front cache, the response is read from the database
+        execute("stored", "request");
+        Objects.requireNonNull(cacheManager.getCache(IdempotencyKeyRepository.IDEMPOTENT_RESPONSES_CACHE)).clear();
+
+        assertThat(execute("stored", "request").isReplayed()).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    void assertThatKeysAreScopedByUser() {
+        IdempotentResponseDTO<String> alice = executeAs("alice", "shared", "request");
+        IdempotentResponseDTO<String> bob = executeAs("bob", "shared", "request");
+
+        // The same key sent by another user runs its own request
+        assertThat(bob.isReplayed()).isFalse();
+        assertThat(bob.getLocation()).isNotEqualTo(alice.getLocation());
+        assertThat(runs.get()).isEqualTo(2);
+
+        // Each user gets the response of their own request, from the front cache then from the database
+        assertThat(executeAs("alice", "shared", "request").getLocation()).isEqualTo(alice.getLocation());
+        Objects.requireNonNull(cacheManager.getCache(IdempotencyKeyRepository.IDEMPOTENT_RESPONSES_CACHE)).clear();
+        assertThat(executeAs("bob", "shared", "request").getLocation()).isEqualTo(bob.getLocation());
+        assertThat(executeAs("alice", "shared", "request").getLocation()).isEqualTo(alice.getLocation());
+        assertThat(runs.get()).isEqualTo(2);
+
+        // Another user may send the key with another request body
+        assertThat(executeAs("carol", "shared", "another request").isReplayed()).isFalse();
+        assertThat(runs.get()).isEqualTo(3);
+    }
+
+    @Test
+    void assertThatAKeyCannotBeReusedForAnotherRequest() {
+        execute("reused", "request");
+
+        assertThatThrownBy(() -> execute("reused", "another request")).isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void assertThatAConcurrentRequestWithTheSameKeyFails() throws Exception {
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch secondSent = new CountDownLatch(1);
+        CompletableFuture<IdempotentResponseDTO<String>> first = CompletableFuture.supplyAsync(() ->
+            idempotencyService.execute(
+                SCOPE,
+                "concurrent",
+                "request",
+                String.class,
+                () -> {
+                    firstRunning.countDown();
+                    try {
+                        secondSent.await(10, TimeUnit.SECONDS);
+                        // Leaves the second request the time to wait on the key
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new IdempotentResponseDTO<>(201, "/api/tests/" + runs.incrementAndGet(), "first");
+                }
+            )
+        );
+        assertThat(firstRunning.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<IdempotentResponseDTO<String>> second = CompletableFuture.supplyAsync(() -> {
+            secondSent.countDown();
+            return execute("concurrent", "request");
+        });
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("first");
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(ConcurrencyFailureException.class);
+        assertThat(runs.get()).isEqualTo(1);
+
+        // The retry gets the response of the first request
+        assertThat(execute("concurrent", "request").getBody()).isEqualTo("first");
+    }
+
+    @Test
+    void assertThatTheKeyOfAFailedRequestIsNotStored() {
+        assertThatThrownBy(() ->
+                idempotencyService.execute(
+                    SCOPE,
+                    "failed",
+                    "request",
+                    String.class,
+                    () -> {
+                        throw new IllegalStateException("failed");
+                    }
+                )
+            )
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(idempotencyKeyRepository.findOneByLoginAndScopeAndRequestKey(Constants.SYSTEM, SCOPE, "failed")).isEmpty();
+        assertThat(execute("failed", "request").isReplayed()).isFalse();
+    }
+
+    @Test
+    void assertThatExpiredKeysArePurged() {
+        idempotencyKeyRepository.save(
+            new IdempotencyKey()
+                .login(Constants.SYSTEM)
+                .scope(SCOPE)
+                .requestKey("expired")
+                .requestHash("0")
+                .responseStatus(201)
+                .createdDate(Instant.now().minus(2, ChronoUnit.DAYS))
+        );
+        execute("fresh", "request");
+
+        idempotencyService.purgeExpiredKeys();
+
+        assertThat(idempotencyKeyRepository.findOneByLoginAndScopeAndRequestKey(Constants.SYSTEM, SCOPE, "expired")).isEmpty();
+        assertThat(idempotencyKeyRepository.findOneByLoginAndScopeAndRequestKey(Constants.SYSTEM, SCOPE, "fresh")).isPresent();
+    }
+}
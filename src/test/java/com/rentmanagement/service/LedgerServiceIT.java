@@ -0,0 +1,121 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.TenantRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link LedgerService}.
+ * <p>
+ * Not transactional: the entries are appended by concurrent transactions.
+ */
+@IntegrationTest
+class LedgerServiceIT {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void setup() {
+        tenant =
+            tenantRepository.save(
+                new Tenant()
+                    .tenantName("ledger")
+                    .phoneNumber("0000000000")
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1000D)
+                    .electricityUnitRate(8)
+                    .startingElectricityUnit(10D)
+                    .outStandingAmount(100D)
+            );
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> ledgerEntryRepository.deleteByTenantId(tenant.getId()));
+        tenantRepository.deleteById(tenant.getId());
+    }
+
+    @Test
+    void assertThatConcurrentEntriesAreNotLost() throws Exception {
+        int threads = 4;
+        int entriesPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        for (int j = 0; j < entriesPerThread; j++) {
+                            assertThat(ledgerService.append(tenant.getId(), LedgerEntryType.CHARGE, 1D, null)).isPresent();
+                        }
+                    })
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int entries = threads * entriesPerThread;
+        assertThat(tenantRepository.findOutStandingAmountById(tenant.getId())).contains(100D + entries);
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getVersion).isEqualTo((long) entries);
+        // Each entry was applied to the balance left by another one
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()).getContent())
+            .extracting(LedgerEntry::getBalance)
+            .doesNotHaveDuplicates()
+            .hasSize(entries)
+            .allMatch(balance -> balance > 100D && balance <= 100D + entries);
+    }
+
+    @Test
+    void assertThatAStaleTenantIsNotWrittenOverAnEntry() {
+        assertThatThrownBy(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    Tenant staleTenant = tenantRepository.findById(tenant.getId()).orElseThrow();
+                    ledgerService.append(tenant.getId(), LedgerEntryType.PAYMENT, 40D, null);
+                    staleTenant.setTenantName("stale");
+                })
+            )
+            .isInstanceOf(ConcurrencyFailureException.class);
+
+        Tenant storedTenant = tenantRepository.findById(tenant.getId()).orElseThrow();
+        assertThat(storedTenant.getTenantName()).isEqualTo("ledger");
+        assertThat(storedTenant.getOutStandingAmount()).isEqualTo(100D);
+
+        ledgerService.append(tenant.getId(), LedgerEntryType.PAYMENT, 40D, null);
+        assertThat(tenantRepository.findOutStandingAmountById(tenant.getId())).contains(60D);
+    }
+}
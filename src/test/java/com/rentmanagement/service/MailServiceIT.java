@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import com.rentmanagement.IntegrationTest;
 import com.rentmanagement.config.Constants;
 import com.rentmanagement.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -14,6 +15,9 @@ import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,6 +32,7 @@ import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
@@ -57,19 +62,25 @@ class MailServiceIT {
     @Autowired
     private SpringTemplateEngine templateEngine;
 
+    @Autowired
+    private ApplicationContext applicationContext;
+
     @Spy
     private JavaMailSenderImpl javaMailSender;
 
     @Captor
     private ArgumentCaptor<MimeMessage> messageCaptor;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private MailService mailService;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine);
+        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine, meterRegistry, applicationContext);
     }
 
     @Test
@@ -148,6 +159,28 @@ class MailServiceIT {
         assertThat(message.getDataHandler().getContentType()).isEqualTo("text/html;charset=UTF-8");
     }
 
+    @Test
+    void testRenderBatch() {
+        User john = new User();
+        john.setLogin("john");
+        User jane = new User();
+        jane.setLogin("jane");
+
+        List<String> contents = mailService.renderBatch(
+            "mail/testEmail",
+            Locale.forLanguageTag(Constants.DEFAULT_LANGUAGE),
+            List.of(Map.of("user", john), Map.of("user", jane))
+        );
+
+        assertThat(contents)
+            .satisfiesExactly(
+                content -> assertThat(content).isEqualToNormalizingNewlines("<html>test title, http://127.0.0.1:8080, john</html>\n"),
+                content -> assertThat(content).isEqualToNormalizingNewlines("<html>test title, http://127.0.0.1:8080, jane</html>\n")
+            );
+        assertThat(meterRegistry.get("mail.render").tag("template", "mail/testEmail").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.rendered").tag("template", "mail/testEmail").counter().count()).isEqualTo(2);
+    }
+
     @Test
     void testSendActivationEmail() throws Exception {
         User user = new User();
@@ -0,0 +1,77 @@
+package com.rentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.rentmanagement.service.dto.MeterReadingDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link MeterReadingCodec} utility class.
+ */
+class MeterReadingCodecTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2022, 3, 1);
+
+    private static Instant at(int day, int hour) {
+        return MONTH.withDayOfMonth(day).atTime(hour, 0).toInstant(ZoneOffset.UTC);
+    }
+
+    private static List<MeterReadingDTO> dailyReadings() {
+        List<MeterReadingDTO> readings = new ArrayList<>();
+        double value = 15234.5D;
+        for (int day = 1; day <= 31; day++) {
+            value += 7.25D + day % 5;
+            readings.add(new MeterReadingDTO(at(day, 8), value));
+        }
+        return readings;
+    }
+
+    @Test
+    void testEncodeAndDecode() {
+        List<MeterReadingDTO> readings = dailyReadings();
+
+        byte[] data = MeterReadingCodec.encode(MONTH, readings);
+
+        assertThat(MeterReadingCodec.decode(MONTH, data))
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(readings);
+        assertThat(data.length).isLessThanOrEqualTo(readings.size() * 5 + 3);
+    }
+
+    @Test
+    void testAppend() {
+        List<MeterReadingDTO> readings = dailyReadings();
+        MeterReadingDTO last = readings.get(readings.size() - 2);
+
+        byte[] data = MeterReadingCodec.append(
+            MeterReadingCodec.encode(MONTH, readings.subList(0, readings.size() - 1)),
+            last.getReadAt(),
+            last.getValue(),
+            readings.get(readings.size() - 1)
+        );
+
+        assertThat(data).isEqualTo(MeterReadingCodec.encode(MONTH, readings));
+    }
+
+    @Test
+    void testMeterGoingBackwards() {
+        List<MeterReadingDTO> readings = List.of(new MeterReadingDTO(at(1, 0), 120.01D), new MeterReadingDTO(at(2, 0), 3.5D));
+
+        assertThat(MeterReadingCodec.decode(MONTH, MeterReadingCodec.encode(MONTH, readings)))
+            .extracting(MeterReadingDTO::getValue)
+            .containsExactly(120.01D, 3.5D);
+    }
+
+    @Test
+    void testEncodeOutOfOrder() {
+        List<MeterReadingDTO> readings = List.of(new MeterReadingDTO(at(2, 0), 1D), new MeterReadingDTO(at(1, 0), 2D));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> MeterReadingCodec.encode(MONTH, readings));
+    }
+}
@@ -0,0 +1,295 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.BillingRollup;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.BillNotificationRepository;
+import com.rentmanagement.repository.BillingRollupRepository;
+import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.BillingRollupService;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link BillingRollupResource} REST controller, and for the maintenance of the rollups by
+ * the {@link BillingRollupService}.
+ * <p>
+ * Not transactional: the rollups are updated when the transactions commit.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BillingRollupResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/billing-rollups";
+
+    @Autowired
+    private BillingRollupRepository billingRollupRepository;
+
+    @Autowired
+    private BillingRollupService billingRollupService;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private BillNotificationRepository billNotificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc restBillingRollupMockMvc;
+
+    private Building building;
+
+    private Room room;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void setup() {
+        building = buildingRepository.save(new Building().buildingName("rollup"));
+        tenant =
+            tenantRepository.save(
+                new Tenant()
+                    .tenantName("rollup")
+                    .phoneNumber("0000000000")
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1000D)
+                    .electricityUnitRate(8)
+                    .startingElectricityUnit(10D)
+                    .outStandingAmount(0D)
+            );
+        room = roomRepository.save(new Room().roomName("rollup").floor("1").building(building).tenants(tenant));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.execute(status -> {
+            billingRollupRepository.deleteAll(billingRollupRepository.findSummary(building.getId(), LocalDate.MIN, LocalDate.MAX));
+            for (GenerateBill bill : generateBillRepository.findByTenantIdOrderByIdDesc(tenant.getId())) {
+                billNotificationRepository.deleteByGenerateBillId(bill.getId());
+                generateBillRepository.delete(bill);
+            }
+            ledgerEntryRepository.deleteByTenantId(tenant.getId());
+            return null;
+        });
+        roomRepository.deleteById(room.getId());
+        tenantRepository.deleteById(tenant.getId());
+        buildingRepository.deleteById(building.getId());
+    }
+
+    private BillingRollup currentRollup() {
+        LocalDate month = YearMonth.now(ZoneOffset.UTC).atDay(1);
+        List<BillingRollup> rollups = billingRollupRepository.findSummary(building.getId(), month, month);
+        assertThat(rollups).hasSize(1);
+        return rollups.get(0);
+    }
+
+    @Test
+    void assertThatBillsAndLedgerEntriesAreRolledUp() throws Exception {
+        GenerateBill bill = new GenerateBill().amountPending(1200D).electricityUnit(30D).sendNotification(false).tenant(tenant);
+        String location = restBillingRollupMockMvc
+            .perform(post("/api/generate-bills").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(bill)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.buildingId").value(building.getId().intValue()))
+            .andExpect(jsonPath("$.createdDate").isNotEmpty())
+            .andReturn()
+            .getResponse()
+            .getHeader("Location");
+        Long billId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+
+        BillingRollup rollup = currentRollup();
+        assertThat(rollup.getBills()).isEqualTo(1L);
+        assertThat(rollup.getPending()).isEqualTo(1200D);
+        assertThat(rollup.getElectricityUnits()).isEqualTo(30D);
+
+        restBillingRollupMockMvc
+            .perform(
+                patch("/api/generate-bills/{id}", billId)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(new GenerateBill().id(billId).amountPending(1000D)))
+            )
+            .andExpect(status().isOk());
+        restBillingRollupMockMvc
+            .perform(
+                post("/api/tenants/{id}/ledger", tenant.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(new LedgerEntry().entryType(LedgerEntryType.PAYMENT).amount(400D)))
+            )
+            .andExpect(status().isCreated());
+
+        restBillingRollupMockMvc
+            .perform(get(ENTITY_API_URL + "?buildingId={id}", building.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].buildingId").value(building.getId().intValue()))
+            .andExpect(jsonPath("$[0].month").value(YearMonth.now(ZoneOffset.UTC).atDay(1).toString()))
+            .andExpect(jsonPath("$[0].bills").value(1))
+            // The bill was charged to the ledger when created, and adjusted when its amount was lowered
+            .andExpect(jsonPath("$[0].billed").value(1000D))
+            .andExpect(jsonPath("$[0].paid").value(400D))
+            .andExpect(jsonPath("$[0].pending").value(1000D))
+            .andExpect(jsonPath("$[0].electricityUnits").value(30D));
+
+        restBillingRollupMockMvc.perform(delete("/api/generate-bills/{id}", billId)).andExpect(status().isNoContent());
+
+        rollup = currentRollup();
+        assertThat(rollup.getBills()).isZero();
+        assertThat(rollup.getPending()).isZero();
+        assertThat(rollup.getElectricityUnits()).isZero();
+        assertThat(rollup.getBilled()).isZero();
+        assertThat(rollup.getPaid()).isEqualTo(400D);
+    }
+
+    @Test
+    void assertThatBillsMovedToAnotherBuildingStayInTheirRollup() throws Exception {
+        GenerateBill bill = transactionTemplate.execute(status -> {
+            GenerateBill newBill = new GenerateBill()
+                .amountPending(500D)
+                .electricityUnit(0D)
+                .sendNotification(false)
+                .billingPeriod(YearMonth.now(ZoneOffset.UTC).atDay(1))
+                .tenant(tenant);
+            billingRollupService.billsCreated(List.of(newBill));
+            return generateBillRepository.save(newBill);
+        });
+        Building otherBuilding = buildingRepository.save(new Building().buildingName("other rollup"));
+        roomRepository.save(room.building(otherBuilding));
+
+        restBillingRollupMockMvc.perform(delete("/api/generate-bills/{id}", bill.getId())).andExpect(status().isNoContent());
+
+        assertThat(currentRollup().getBills()).isZero();
+        assertThat(billingRollupRepository.findSummary(otherBuilding.getId(), LocalDate.MIN, LocalDate.MAX)).isEmpty();
+        roomRepository.save(room.building(building));
+        buildingRepository.delete(otherBuilding);
+    }
+
+    /**
+     * A tenant has one bill per period: the concurrent bills of the building are for tenants of their own.
+     */
+    @Test
+    void assertThatConcurrentTransactionsAddUp() throws Exception {
+        int threads = 4;
+        int billsPerThread = 5;
+        List<Tenant> tenants = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < threads * billsPerThread; i++) {
+            Tenant billedTenant = tenantRepository.save(
+                new Tenant()
+                    .tenantName("rollup " + i)
+                    .phoneNumber(String.format("1%09d", i))
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1000D)
+                    .electricityUnitRate(8)
+                    .startingElectricityUnit(10D)
+                    .outStandingAmount(0D)
+            );
+            tenants.add(billedTenant);
+            rooms.add(roomRepository.save(new Room().roomName("rollup " + i).floor("1").building(building).tenants(billedTenant)));
+        }
+        LocalDate period = YearMonth.now(ZoneOffset.UTC).atDay(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                List<Tenant> threadTenants = tenants.subList(i * billsPerThread, (i + 1) * billsPerThread);
+                futures.add(
+                    executor.submit(() -> {
+                        for (Tenant billedTenant : threadTenants) {
+                            transactionTemplate.execute(status -> {
+                                GenerateBill bill = new GenerateBill()
+                                    .amountPending(10D)
+                                    .electricityUnit(1D)
+                                    .sendNotification(false)
+                                    .billingPeriod(period)
+                                    .tenant(billedTenant);
+                                billingRollupService.billsCreated(List.of(bill));
+                                return generateBillRepository.save(bill);
+                            });
+                        }
+                    })
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        BillingRollup rollup = currentRollup();
+        assertThat(rollup.getBills()).isEqualTo(threads * billsPerThread);
+        assertThat(rollup.getPending()).isEqualTo(threads * billsPerThread * 10D);
+        assertThat(rollup.getElectricityUnits()).isEqualTo(threads * billsPerThread * 1D);
+
+        for (Tenant billedTenant : tenants) {
+            generateBillRepository.deleteAll(generateBillRepository.findByTenantIdOrderByIdDesc(billedTenant.getId()));
+        }
+        roomRepository.deleteAll(rooms);
+        tenantRepository.deleteAll(tenants);
+    }
+
+    @Test
+    void getBillingRollupsWithInvalidRange() throws Exception {
+        restBillingRollupMockMvc.perform(get(ENTITY_API_URL + "?from=2022-06&to=2022-01")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getBillingRollupsOfOtherMonths() throws Exception {
+        billingRollupRepository.save(new BillingRollup().buildingId(building.getId()).month(LocalDate.of(2022, 1, 1)).bills(3L));
+
+        restBillingRollupMockMvc
+            .perform(get(ENTITY_API_URL + "?buildingId={id}&from=2021-12&to=2022-02", building.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].month").value("2022-01-01"))
+            .andExpect(jsonPath("$[0].bills").value(3));
+        restBillingRollupMockMvc
+            .perform(get(ENTITY_API_URL + "?buildingId={id}", building.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
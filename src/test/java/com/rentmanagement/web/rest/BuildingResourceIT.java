@@ -7,7 +7,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.rentmanagement.IntegrationTest;
 import com.rentmanagement.domain.Building;
-import com.rentmanagement.domain.Room;
 import com.rentmanagement.repository.BuildingRepository;
 import java.util.List;
 import java.util.Random;
@@ -57,18 +56,8 @@ class BuildingResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static Building createEntity(EntityManager em) {
-        Building building = new Building().buildingName(DEFAULT_BUILDING_NAME);
-        // Add required entity
-        Room room;
-        if (TestUtil.findAll(em, Room.class).isEmpty()) {
-            room = RoomResourceIT.createEntity(em);
-            em.persist(room);
-            em.flush();
-        } else {
-            room = TestUtil.findAll(em, Room.class).get(0);
-        }
-        building.getBuildings().add(room);
-        return building;
+        // The rooms own the relationship and require their building, so none is added here
+        return new Building().buildingName(DEFAULT_BUILDING_NAME);
     }
 
     /**
@@ -78,18 +67,8 @@ class BuildingResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static Building createUpdatedEntity(EntityManager em) {
-        Building building = new Building().buildingName(UPDATED_BUILDING_NAME);
-        // Add required entity
-        Room room;
-        if (TestUtil.findAll(em, Room.class).isEmpty()) {
-            room = RoomResourceIT.createUpdatedEntity(em);
-            em.persist(room);
-            em.flush();
-        } else {
-            room = TestUtil.findAll(em, Room.class).get(0);
-        }
-        building.getBuildings().add(room);
-        return building;
+        // The rooms own the relationship and require their building, so none is added here
+        return new Building().buildingName(UPDATED_BUILDING_NAME);
     }
 
     @BeforeEach
@@ -163,6 +142,70 @@ class BuildingResourceIT {
             .andExpect(jsonPath("$.[*].buildingName").value(hasItem(DEFAULT_BUILDING_NAME)));
     }
 
+    @Test
+    @Transactional
+    void getAllBuildingsByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        buildingRepository.saveAndFlush(building);
+
+        // Get a page of the matching buildings
+        restBuildingMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + building.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(building.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getBuildingsByBuildingNameIn() throws Exception {
+        // Initialize the database
+        buildingRepository.saveAndFlush(building);
+
+        defaultBuildingShouldBeFound("buildingName.in=" + DEFAULT_BUILDING_NAME + "," + UPDATED_BUILDING_NAME);
+        defaultBuildingShouldNotBeFound("buildingName.in=" + UPDATED_BUILDING_NAME);
+    }
+
+    /**
+     * Executes the search, and checks that the default building is returned.
+     */
+    private void defaultBuildingShouldBeFound(String filter) throws Exception {
+        restBuildingMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + building.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(building.getId().intValue())))
+            .andExpect(jsonPath("$.[*].buildingName").value(hasItem(DEFAULT_BUILDING_NAME)));
+
+        // Check, that the count call also returns 1
+        restBuildingMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + building.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default building is not returned.
+     */
+    private void defaultBuildingShouldNotBeFound(String filter) throws Exception {
+        restBuildingMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + building.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBuildingMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + building.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getBuilding() throws Exception {
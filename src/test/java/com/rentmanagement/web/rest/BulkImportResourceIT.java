@@ -0,0 +1,222 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.Location;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.repository.LocationRepository;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link BulkImportResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BulkImportResourceIT {
+
+    private static final String TENANTS_IMPORT_URL = "/api/tenants/import";
+    private static final String ROOMS_IMPORT_URL = "/api/rooms/import";
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restBulkImportMockMvc;
+
+    @Test
+    @Transactional
+    void importTenantsFromCsv() throws Exception {
+        int databaseSizeBeforeImport = tenantRepository.findAll().size();
+        String csv =
+            "tenantName,phoneNumber,rentStartDate,rentAmount,electricityUnitRate,startingElectricityUnit,outStandingAmount\n" +
+            "first,0000000001,2022-01-01,1000,8,10,250\n" +
+            "no phone,,2022-01-01,1000,8,10,\n" +
+            "bad rent,0000000003,2022-01-01,abc,8,10,\n" +
+            "second,0000000004,2022-02-01,1200,8,10,\n" +
+            "third,0000000005,2022-03-01,1500,8,10,\n";
+
+        restBulkImportMockMvc
+            .perform(post(TENANTS_IMPORT_URL).contentType("text/csv").content(csv.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rows").value(5))
+            .andExpect(jsonPath("$.imported").value(3))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.aborted").value(false))
+            .andExpect(jsonPath("$.errors", hasSize(2)))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[0].messages").value(hasItem("phoneNumber: must not be null")))
+            .andExpect(jsonPath("$.errors[1].row").value(3));
+
+        List<Tenant> tenantList = tenantRepository.findAll();
+        assertThat(tenantList).hasSize(databaseSizeBeforeImport + 3);
+        Tenant first = tenantList.stream().filter(tenant -> "first".equals(tenant.getTenantName())).findFirst().orElseThrow();
+        assertThat(first.getRentAmount()).isEqualTo(1000D);
+        assertThat(first.getOutStandingAmount()).isEqualTo(250D);
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(first.getId(), Pageable.unpaged())).hasSize(1);
+    }
+
+    @Test
+    @Transactional
+    void importTenantsAtTheSameLocation() throws Exception {
+        Location rented = locationRepository.saveAndFlush(LocationResourceIT.createEntity(em));
+        Tenant tenant = TenantResourceIT.createEntity(em);
+        tenant.setLocation(rented);
+        tenantRepository.saveAndFlush(tenant);
+        Location free = locationRepository.saveAndFlush(LocationResourceIT.createEntity(em));
+        String csv =
+            "tenantName,phoneNumber,rentStartDate,rentAmount,electricityUnitRate,startingElectricityUnit,location.id\n" +
+            "first,0000000001,2022-01-01,1000,8,10," +
+            free.getId() +
+            "\n" +
+            "same chunk,0000000002,2022-01-01,1000,8,10," +
+            free.getId() +
+            "\n" +
+            "next chunk,0000000003,2022-01-01,1000,8,10," +
+            free.getId() +
+            "\n" +
+            "rented,0000000004,2022-01-01,1000,8,10," +
+            rented.getId() +
+            "\n" +
+            "no location,0000000005,2022-01-01,1000,8,10,\n";
+
+        restBulkImportMockMvc
+            .perform(post(TENANTS_IMPORT_URL).contentType("text/csv").content(csv.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rows").value(5))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[0].messages").value(hasItem("location: already the location of a previous row")))
+            .andExpect(jsonPath("$.errors[1].row").value(3))
+            .andExpect(jsonPath("$.errors[1].messages").value(hasItem("location: already the location of another tenant")))
+            .andExpect(jsonPath("$.errors[2].row").value(4))
+            .andExpect(jsonPath("$.errors[2].messages").value(hasItem("location: already the location of another tenant")));
+
+        assertThat(tenantRepository.findAll())
+            .extracting(Tenant::getTenantName)
+            .contains("first", "no location")
+            .doesNotContain("same chunk", "next chunk", "rented");
+    }
+
+    /**
+     * Not transactional: the failure of the chunk is only raised when its transaction commits.
+     */
+    @Test
+    void importTenantsOneAtATimeWhenTheChunkFails() throws Exception {
+        String tooLong = "x".repeat(300);
+        String csv =
+            "tenantName,phoneNumber,rentStartDate,rentAmount,electricityUnitRate,startingElectricityUnit\n" +
+            "imported alone,0000000001,2022-01-01,1000,8,10\n" +
+            tooLong +
+            ",0000000002,2022-01-01,1000,8,10\n";
+
+        try {
+            restBulkImportMockMvc
+                .perform(post(TENANTS_IMPORT_URL).contentType("text/csv").content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value(startsWith("not imported: ")));
+
+            assertThat(tenantRepository.findAll()).extracting(Tenant::getTenantName).contains("imported alone").doesNotContain(tooLong);
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                tenantRepository
+                    .findAll()
+                    .stream()
+                    .filter(tenant -> "imported alone".equals(tenant.getTenantName()))
+                    .forEach(tenant -> {
+                        ledgerEntryRepository.deleteByTenantId(tenant.getId());
+                        tenantRepository.delete(tenant);
+                    })
+            );
+        }
+    }
+
+    @Test
+    @Transactional
+    void importRoomsFromNdjson() throws Exception {
+        Building building = buildingRepository.saveAndFlush(BuildingResourceIT.createEntity(em));
+        int databaseSizeBeforeImport = roomRepository.findAll().size();
+        String ndjson =
+            "{\"roomName\":\"101\",\"floor\":\"1\",\"building\":{\"id\":" +
+            building.getId() +
+            "}}\n" +
+            "{\"roomName\":\"102\",\"floor\":\"1\",\"building\":{\"id\":" +
+            Long.MAX_VALUE +
+            "}}\n" +
+            "{\"roomName\":\"103\",\"floor\":\"1\"}\n" +
+            "{\"roomName\":\"201\",\"floor\":\"2\",\"building\":{\"id\":" +
+            building.getId() +
+            "}}\n" +
+            "{\"roomName\":";
+
+        restBulkImportMockMvc
+            .perform(post(ROOMS_IMPORT_URL).contentType(MediaType.APPLICATION_NDJSON).content(ndjson.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rows").value(5))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.aborted").value(true))
+            .andExpect(jsonPath("$.errors[0].messages").value(hasItem("building: not found")))
+            .andExpect(jsonPath("$.errors[1].messages").value(hasItem("building: must not be null")))
+            .andExpect(jsonPath("$.errors[2].row").value(5));
+
+        List<Room> roomList = roomRepository.findAll();
+        assertThat(roomList).hasSize(databaseSizeBeforeImport + 2);
+        assertThat(roomList).filteredOn(room -> building.equals(room.getBuilding())).extracting(Room::getRoomName).contains("101", "201");
+    }
+
+    @Test
+    @Transactional
+    void importWithUnsupportedMediaType() throws Exception {
+        restBulkImportMockMvc
+            .perform(post(TENANTS_IMPORT_URL).contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+}
@@ -0,0 +1,154 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.BuildingRepository;
+import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.RoomRepository;
+import com.rentmanagement.repository.TenantRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Integration tests for the {@link ExportResource} REST controller.
+ * <p>
+ * Exports are written from another thread, which only sees committed data, so these tests are not transactional.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ExportResourceIT {
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private GenerateBillRepository generateBillRepository;
+
+    @Autowired
+    private MockMvc restExportMockMvc;
+
+    private Building building;
+
+    private Tenant housed;
+
+    private Tenant other;
+
+    private Room room;
+
+    private List<GenerateBill> bills;
+
+    @BeforeEach
+    public void initTest() {
+        building = buildingRepository.saveAndFlush(new Building().buildingName("Export"));
+        housed = tenantRepository.saveAndFlush(createTenant("housed", LocalDate.of(2022, 1, 1)));
+        other = tenantRepository.saveAndFlush(createTenant("other", LocalDate.of(2022, 6, 1)));
+        room = roomRepository.saveAndFlush(new Room().roomName("101").floor("1").building(building).tenants(housed));
+        bills =
+            generateBillRepository.saveAllAndFlush(
+                List.of(
+                    new GenerateBill()
+                        .tenant(housed)
+                        .amountPending(1250D)
+                        .electricityUnit(12D)
+                        .sendNotification(true)
+                        .billingPeriod(LocalDate.of(2022, 1, 1)),
+                    new GenerateBill()
+                        .tenant(other)
+                        .amountPending(900D)
+                        .electricityUnit(3D)
+                        .sendNotification(false)
+                        .billingPeriod(LocalDate.of(2022, 1, 1))
+                )
+            );
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        generateBillRepository.deleteAll(bills);
+        roomRepository.delete(room);
+        tenantRepository.deleteAll(List.of(housed, other));
+        buildingRepository.delete(building);
+    }
+
+    private static Tenant createTenant(String name, LocalDate rentStartDate) {
+        return new Tenant()
+            .tenantName(name)
+            .phoneNumber("0000000000")
+            .rentStartDate(rentStartDate)
+            .rentAmount(1000D)
+            .electricityUnitRate(8)
+            .startingElectricityUnit(10D);
+    }
+
+    @Test
+    void exportGenerateBillsOfBuildingAsCsv() throws Exception {
+        MvcResult result = export(get("/api/generate-bills/export?buildingId={buildingId}", building.getId()));
+
+        restExportMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"generate-bills.csv\""));
+        assertThat(result.getResponse().getContentAsString().split("\n"))
+            .containsExactly(
+                "id,billingPeriod,amountPending,electricityUnit,sendNotification,tenantId,tenantName",
+                bills.get(0).getId() + ",2022-01-01,1250.0,12.0,true," + housed.getId() + ",housed"
+            );
+    }
+
+    @Test
+    void exportTenantsByRentStartDateAsNdjson() throws Exception {
+        MvcResult result = export(
+            get("/api/tenants/export?rentStartFrom=2022-03-01&rentStartTo=2022-12-31").accept(MediaType.APPLICATION_NDJSON)
+        );
+
+        restExportMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"id\":" + other.getId()).contains("\"rentStartDate\":\"2022-06-01\""));
+        assertThat(lines).noneSatisfy(line -> assertThat(line).contains("\"id\":" + housed.getId() + ","));
+    }
+
+    @Test
+    void exportRoomsOfTenantAsCsv() throws Exception {
+        MvcResult result = export(get("/api/rooms/export?tenantId={tenantId}", housed.getId()));
+
+        restExportMockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        assertThat(result.getResponse().getContentAsString().split("\n"))
+            .containsExactly(
+                "id,roomName,floor,buildingId,buildingName,tenantId,tenantName",
+                room.getId() + ",101,1," + building.getId() + ",Export," + housed.getId() + ",housed"
+            );
+    }
+
+    private MvcResult export(RequestBuilder request) throws Exception {
+        return restExportMockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+}
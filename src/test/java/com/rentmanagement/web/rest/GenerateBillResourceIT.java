@@ -8,7 +8,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.rentmanagement.IntegrationTest;
 import com.rentmanagement.domain.GenerateBill;
 import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
 import com.rentmanagement.repository.GenerateBillRepository;
+import com.rentmanagement.repository.LedgerEntryRepository;
+import com.rentmanagement.service.dto.GenerateBillPatchDTO;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -17,6 +23,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,6 +47,9 @@ class GenerateBillResourceIT {
     private static final Double DEFAULT_ELECTRICITY_UNIT = 1D;
     private static final Double UPDATED_ELECTRICITY_UNIT = 2D;
 
+    private static final LocalDate DEFAULT_BILLING_PERIOD = LocalDate.ofEpochDay(0L);
+    private static final LocalDate UPDATED_BILLING_PERIOD = LocalDate.of(1970, 2, 1);
+
     private static final String ENTITY_API_URL = "/api/generate-bills";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -48,6 +59,9 @@ class GenerateBillResourceIT {
     @Autowired
     private GenerateBillRepository generateBillRepository;
 
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -66,7 +80,8 @@ class GenerateBillResourceIT {
         GenerateBill generateBill = new GenerateBill()
             .amountPending(DEFAULT_AMOUNT_PENDING)
             .sendNotification(DEFAULT_SEND_NOTIFICATION)
-            .electricityUnit(DEFAULT_ELECTRICITY_UNIT);
+            .electricityUnit(DEFAULT_ELECTRICITY_UNIT)
+            .billingPeriod(DEFAULT_BILLING_PERIOD);
         // Add required entity
         Tenant tenant;
         if (TestUtil.findAll(em, Tenant.class).isEmpty()) {
@@ -90,7 +105,8 @@ class GenerateBillResourceIT {
         GenerateBill generateBill = new GenerateBill()
             .amountPending(UPDATED_AMOUNT_PENDING)
             .sendNotification(UPDATED_SEND_NOTIFICATION)
-            .electricityUnit(UPDATED_ELECTRICITY_UNIT);
+            .electricityUnit(UPDATED_ELECTRICITY_UNIT)
+            .billingPeriod(UPDATED_BILLING_PERIOD);
         // Add required entity
         Tenant tenant;
         if (TestUtil.findAll(em, Tenant.class).isEmpty()) {
@@ -125,6 +141,159 @@ class GenerateBillResourceIT {
         assertThat(testGenerateBill.getAmountPending()).isEqualTo(DEFAULT_AMOUNT_PENDING);
         assertThat(testGenerateBill.getSendNotification()).isEqualTo(DEFAULT_SEND_NOTIFICATION);
         assertThat(testGenerateBill.getElectricityUnit()).isEqualTo(DEFAULT_ELECTRICITY_UNIT);
+        assertThat(testGenerateBill.getBillingPeriod()).isEqualTo(DEFAULT_BILLING_PERIOD);
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillChargesTheLedgerOfTheTenant() throws Exception {
+        Tenant tenant = generateBill.getTenant();
+        double outStandingAmount = tenant.getOutStandingAmount();
+        generateBill.setAmountPending(outStandingAmount + UPDATED_AMOUNT_PENDING);
+
+        restGenerateBillMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(generateBill)))
+            .andExpect(status().isCreated());
+
+        // The amount pending carries over the outstanding amount, only the rest is charged
+        em.flush();
+        em.clear();
+        assertThat(em.find(Tenant.class, tenant.getId()).getOutStandingAmount()).isEqualTo(outStandingAmount + UPDATED_AMOUNT_PENDING);
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()))
+            .singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.CHARGE);
+                assertThat(entry.getAmount()).isEqualTo(UPDATED_AMOUNT_PENDING);
+                assertThat(entry.getBalance()).isEqualTo(outStandingAmount + UPDATED_AMOUNT_PENDING);
+            });
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillOfAnUnknownTenant() throws Exception {
+        int databaseSizeBeforeCreate = generateBillRepository.findAll().size();
+        generateBill.setTenant(new Tenant().id(Long.MAX_VALUE));
+
+        restGenerateBillMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(generateBill)))
+            .andExpect(status().isBadRequest());
+
+        assertThat(generateBillRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillOfTheCurrentPeriod() throws Exception {
+        generateBill.setBillingPeriod(null);
+
+        restGenerateBillMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(generateBill)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.billingPeriod").value(YearMonth.now(ZoneOffset.UTC).atDay(1).toString()));
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillOfABilledPeriod() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(createEntity(em));
+
+        int databaseSizeBeforeCreate = generateBillRepository.findAll().size();
+
+        // A day of the period is the period
+        generateBill.setBillingPeriod(DEFAULT_BILLING_PERIOD.plusDays(14));
+        restGenerateBillMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(generateBill)))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("X-rentmanagementApp-error", "error.periodexists"));
+
+        List<GenerateBill> generateBillList = generateBillRepository.findAll();
+        assertThat(generateBillList).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillWithIdempotencyKey() throws Exception {
+        int databaseSizeBeforeCreate = generateBillRepository.findAll().size();
+
+        String location = restGenerateBillMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "create-once")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(generateBill))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("Idempotent-Replayed"))
+            .andReturn()
+            .getResponse()
+            .getHeader("Location");
+
+        // A retry gets the response of the first request, without creating another bill
+        restGenerateBillMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "create-once")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(generateBill))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Location", location))
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(jsonPath("$.id").value(Long.valueOf(location.substring(location.lastIndexOf('/') + 1)).intValue()))
+            .andExpect(jsonPath("$.amountPending").value(DEFAULT_AMOUNT_PENDING.doubleValue()))
+            .andExpect(jsonPath("$.billingPeriod").value(DEFAULT_BILLING_PERIOD.toString()));
+
+        List<GenerateBill> generateBillList = generateBillRepository.findAll();
+        assertThat(generateBillList).hasSize(databaseSizeBeforeCreate + 1);
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillWithReusedIdempotencyKey() throws Exception {
+        restGenerateBillMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "create-once")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(generateBill))
+            )
+            .andExpect(status().isCreated());
+
+        int databaseSizeBeforeCreate = generateBillRepository.findAll().size();
+
+        // The key of a request cannot be sent with another bill
+        GenerateBill otherBill = createEntity(em).billingPeriod(UPDATED_BILLING_PERIOD);
+        restGenerateBillMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "create-once")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(otherBill))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("X-rentmanagementApp-error", "error.idempotencykeyreused"));
+
+        List<GenerateBill> generateBillList = generateBillRepository.findAll();
+        assertThat(generateBillList).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createGenerateBillWithInvalidIdempotencyKey() throws Exception {
+        int databaseSizeBeforeCreate = generateBillRepository.findAll().size();
+
+        restGenerateBillMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "k".repeat(256))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(generateBill))
+            )
+            .andExpect(status().isBadRequest());
+
+        List<GenerateBill> generateBillList = generateBillRepository.findAll();
+        assertThat(generateBillList).hasSize(databaseSizeBeforeCreate);
     }
 
     @Test
@@ -159,7 +328,115 @@ class GenerateBillResourceIT {
             .andExpect(jsonPath("$.[*].id").value(hasItem(generateBill.getId().intValue())))
             .andExpect(jsonPath("$.[*].amountPending").value(hasItem(DEFAULT_AMOUNT_PENDING.doubleValue())))
             .andExpect(jsonPath("$.[*].sendNotification").value(hasItem(DEFAULT_SEND_NOTIFICATION.booleanValue())))
-            .andExpect(jsonPath("$.[*].electricityUnit").value(hasItem(DEFAULT_ELECTRICITY_UNIT.doubleValue())));
+            .andExpect(jsonPath("$.[*].electricityUnit").value(hasItem(DEFAULT_ELECTRICITY_UNIT.doubleValue())))
+            .andExpect(jsonPath("$.[*].billingPeriod").value(hasItem(DEFAULT_BILLING_PERIOD.toString())));
+    }
+
+    @Test
+    @Transactional
+    void getTenantGenerateBills() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        // Get the bills of the tenant
+        restGenerateBillMockMvc
+            .perform(get("/api/tenants/{id}/generate-bills", generateBill.getTenant().getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(generateBill.getId().intValue())))
+            .andExpect(jsonPath("$.[*].amountPending").value(hasItem(DEFAULT_AMOUNT_PENDING.doubleValue())));
+
+        // Get the bills of an unknown tenant
+        restGenerateBillMockMvc
+            .perform(get("/api/tenants/{id}/generate-bills", Long.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getAllGenerateBillsByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        // Get a page of the matching generateBills
+        restGenerateBillMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + generateBill.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(generateBill.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getGenerateBillsByTenantId() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        defaultGenerateBillShouldBeFound("tenantId.equals=" + generateBill.getTenant().getId());
+        defaultGenerateBillShouldNotBeFound("tenantId.equals=" + Long.MAX_VALUE);
+    }
+
+    @Test
+    @Transactional
+    void getGenerateBillsByAmountPendingRange() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        defaultGenerateBillShouldBeFound("amountPending.greaterThan=0&amountPending.lessThanOrEqual=" + DEFAULT_AMOUNT_PENDING);
+        defaultGenerateBillShouldNotBeFound("amountPending.greaterThan=" + DEFAULT_AMOUNT_PENDING);
+    }
+
+    @Test
+    @Transactional
+    void getGenerateBillsByBillingPeriod() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        defaultGenerateBillShouldBeFound("billingPeriod.equals=" + DEFAULT_BILLING_PERIOD);
+        defaultGenerateBillShouldNotBeFound("billingPeriod.equals=" + UPDATED_BILLING_PERIOD);
+        defaultGenerateBillShouldBeFound("billingPeriod.lessThan=" + UPDATED_BILLING_PERIOD);
+        defaultGenerateBillShouldNotBeFound("billingPeriod.greaterThanOrEqual=" + UPDATED_BILLING_PERIOD);
+    }
+
+    /**
+     * Executes the search, and checks that the default generateBill is returned.
+     */
+    private void defaultGenerateBillShouldBeFound(String filter) throws Exception {
+        restGenerateBillMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + generateBill.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(generateBill.getId().intValue())))
+            .andExpect(jsonPath("$.[*].amountPending").value(hasItem(DEFAULT_AMOUNT_PENDING.doubleValue())));
+
+        // Check, that the count call also returns 1
+        restGenerateBillMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + generateBill.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default generateBill is not returned.
+     */
+    private void defaultGenerateBillShouldNotBeFound(String filter) throws Exception {
+        restGenerateBillMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + generateBill.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restGenerateBillMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + generateBill.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
     }
 
     @Test
@@ -173,10 +450,16 @@ class GenerateBillResourceIT {
             .perform(get(ENTITY_API_URL_ID, generateBill.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
             .andExpect(jsonPath("$.id").value(generateBill.getId().intValue()))
             .andExpect(jsonPath("$.amountPending").value(DEFAULT_AMOUNT_PENDING.doubleValue()))
             .andExpect(jsonPath("$.sendNotification").value(DEFAULT_SEND_NOTIFICATION.booleanValue()))
-            .andExpect(jsonPath("$.electricityUnit").value(DEFAULT_ELECTRICITY_UNIT.doubleValue()));
+            .andExpect(jsonPath("$.electricityUnit").value(DEFAULT_ELECTRICITY_UNIT.doubleValue()))
+            .andExpect(jsonPath("$.billingPeriod").value(DEFAULT_BILLING_PERIOD.toString()))
+            .andExpect(jsonPath("$.tenant.id").value(generateBill.getTenant().getId().intValue()))
+            .andExpect(jsonPath("$.tenant.tenantName").value(generateBill.getTenant().getTenantName()))
+            .andExpect(jsonPath("$.tenant.rentStartDate").value(generateBill.getTenant().getRentStartDate().toString()))
+            .andExpect(jsonPath("$.tenant.rooms").doesNotExist());
     }
 
     @Test
@@ -201,7 +484,8 @@ class GenerateBillResourceIT {
         updatedGenerateBill
             .amountPending(UPDATED_AMOUNT_PENDING)
             .sendNotification(UPDATED_SEND_NOTIFICATION)
-            .electricityUnit(UPDATED_ELECTRICITY_UNIT);
+            .electricityUnit(UPDATED_ELECTRICITY_UNIT)
+            .billingPeriod(UPDATED_BILLING_PERIOD);
 
         restGenerateBillMockMvc
             .perform(
@@ -218,6 +502,47 @@ class GenerateBillResourceIT {
         assertThat(testGenerateBill.getAmountPending()).isEqualTo(UPDATED_AMOUNT_PENDING);
         assertThat(testGenerateBill.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
         assertThat(testGenerateBill.getElectricityUnit()).isEqualTo(UPDATED_ELECTRICITY_UNIT);
+        // The billing period of a bill is not updatable
+        assertThat(testGenerateBill.getBillingPeriod()).isEqualTo(DEFAULT_BILLING_PERIOD);
+    }
+
+    @Test
+    @Transactional
+    void updateGenerateBillAdjustsTheLedgerOfTheTenant() throws Exception {
+        GenerateBill createdGenerateBill = createChargedGenerateBill(UPDATED_AMOUNT_PENDING);
+        Tenant tenant = createdGenerateBill.getTenant();
+        double outStandingAmount = createdGenerateBill.getAmountPending() - UPDATED_AMOUNT_PENDING;
+
+        // An amount pending raised by PUT is charged
+        em.detach(createdGenerateBill);
+        createdGenerateBill.setAmountPending(outStandingAmount + 5D);
+        restGenerateBillMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, createdGenerateBill.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(createdGenerateBill))
+            )
+            .andExpect(status().isOk());
+        assertThat(outStandingAmountOf(tenant)).isEqualTo(outStandingAmount + 5D);
+
+        // An amount pending lowered by PATCH is paid back
+        GenerateBill partialUpdatedGenerateBill = new GenerateBill().id(createdGenerateBill.getId()).amountPending(outStandingAmount + 1D);
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedGenerateBill.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedGenerateBill))
+            )
+            .andExpect(status().isOk());
+        assertThat(outStandingAmountOf(tenant)).isEqualTo(outStandingAmount + 1D);
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()))
+            .first()
+            .satisfies(entry -> {
+                assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.PAYMENT);
+                assertThat(entry.getAmount()).isEqualTo(4D);
+                assertThat(entry.getBalance()).isEqualTo(outStandingAmount + 1D);
+                assertThat(entry.getGenerateBillId()).isEqualTo(createdGenerateBill.getId());
+            });
     }
 
     @Test
@@ -307,6 +632,116 @@ class GenerateBillResourceIT {
         assertThat(testGenerateBill.getElectricityUnit()).isEqualTo(DEFAULT_ELECTRICITY_UNIT);
     }
 
+    @Test
+    @Transactional
+    void partialUpdateGenerateBillWithIfMatch() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        GenerateBill partialUpdatedGenerateBill = new GenerateBill();
+        partialUpdatedGenerateBill.setId(generateBill.getId());
+        partialUpdatedGenerateBill.amountPending(UPDATED_AMOUNT_PENDING);
+
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedGenerateBill.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedGenerateBill))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        // The update was made from a version that is no longer current
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedGenerateBill.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedGenerateBill.amountPending(DEFAULT_AMOUNT_PENDING)))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(generateBillRepository.findById(generateBill.getId()))
+            .get()
+            .extracting(GenerateBill::getAmountPending)
+            .isEqualTo(UPDATED_AMOUNT_PENDING);
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateGenerateBillsByTenantId() throws Exception {
+        // Initialize the database with two bills of the tenant, and a bill of another tenant
+        generateBillRepository.saveAndFlush(generateBill);
+        GenerateBill nextBill = generateBillRepository.saveAndFlush(createEntity(em).billingPeriod(UPDATED_BILLING_PERIOD));
+        Tenant otherTenant = TenantResourceIT.createEntity(em);
+        em.persist(otherTenant);
+        GenerateBill otherTenantBill = generateBillRepository.saveAndFlush(createEntity(em).tenant(otherTenant));
+
+        GenerateBillPatchDTO patch = new GenerateBillPatchDTO();
+        patch.setSendNotification(UPDATED_SEND_NOTIFICATION);
+
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?tenantId.equals=" + generateBill.getTenant().getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(patch))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("2"));
+
+        // The update bypassed the session
+        em.clear();
+        assertThat(generateBillRepository.findAllById(List.of(generateBill.getId(), nextBill.getId())))
+            .hasSize(2)
+            .allSatisfy(testGenerateBill -> {
+                assertThat(testGenerateBill.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
+                assertThat(testGenerateBill.getAmountPending()).isEqualTo(DEFAULT_AMOUNT_PENDING);
+                assertThat(testGenerateBill.getVersion()).isEqualTo(1L);
+            });
+        GenerateBill testGenerateBill = generateBillRepository.findById(otherTenantBill.getId()).get();
+        assertThat(testGenerateBill.getSendNotification()).isEqualTo(DEFAULT_SEND_NOTIFICATION);
+        assertThat(testGenerateBill.getVersion()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateGenerateBillsRequiresACriteriaAndAField() throws Exception {
+        // Initialize the database
+        generateBillRepository.saveAndFlush(generateBill);
+
+        GenerateBillPatchDTO patch = new GenerateBillPatchDTO();
+        patch.setSendNotification(UPDATED_SEND_NOTIFICATION);
+
+        restGenerateBillMockMvc
+            .perform(patch(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(patch)))
+            .andExpect(status().isBadRequest());
+        // distinct alone selects every bill too
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?distinct=true")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(patch))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("X-rentmanagementApp-error", "error.criteriaempty"));
+
+        // The amounts are not patchable
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?id.equals=" + generateBill.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"amountPending\": " + UPDATED_AMOUNT_PENDING + "}")
+            )
+            .andExpect(status().isBadRequest());
+
+        em.clear();
+        GenerateBill testGenerateBill = generateBillRepository.findById(generateBill.getId()).get();
+        assertThat(testGenerateBill.getSendNotification()).isEqualTo(DEFAULT_SEND_NOTIFICATION);
+        assertThat(testGenerateBill.getAmountPending()).isEqualTo(DEFAULT_AMOUNT_PENDING);
+        assertThat(testGenerateBill.getVersion()).isZero();
+    }
+
     @Test
     @Transactional
     void fullUpdateGenerateBillWithPatch() throws Exception {
@@ -387,12 +822,12 @@ class GenerateBillResourceIT {
         int databaseSizeBeforeUpdate = generateBillRepository.findAll().size();
         generateBill.setId(count.incrementAndGet());
 
-        // If url ID doesn't match entity ID, it will throw BadRequestAlertException
+        // Without an ID, it is a bulk update of the entities matching the criteria, which are required
         restGenerateBillMockMvc
             .perform(
                 patch(ENTITY_API_URL).contentType("application/merge-patch+json").content(TestUtil.convertObjectToJsonBytes(generateBill))
             )
-            .andExpect(status().isMethodNotAllowed());
+            .andExpect(status().isBadRequest());
 
         // Validate the GenerateBill in the database
         List<GenerateBill> generateBillList = generateBillRepository.findAll();
@@ -416,4 +851,59 @@ class GenerateBillResourceIT {
         List<GenerateBill> generateBillList = generateBillRepository.findAll();
         assertThat(generateBillList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void deleteGenerateBillReversesItsLedgerEntries() throws Exception {
+        GenerateBill createdGenerateBill = createChargedGenerateBill(UPDATED_AMOUNT_PENDING);
+        Tenant tenant = createdGenerateBill.getTenant();
+        double outStandingAmount = createdGenerateBill.getAmountPending() - UPDATED_AMOUNT_PENDING;
+        GenerateBill partialUpdatedGenerateBill = new GenerateBill().id(createdGenerateBill.getId()).amountPending(outStandingAmount + 5D);
+        restGenerateBillMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedGenerateBill.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedGenerateBill))
+            )
+            .andExpect(status().isOk());
+
+        restGenerateBillMockMvc
+            .perform(delete(ENTITY_API_URL_ID, createdGenerateBill.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        // The charge of the bill and its adjustment are reversed
+        assertThat(outStandingAmountOf(tenant)).isEqualTo(outStandingAmount);
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(tenant.getId(), Pageable.unpaged()))
+            .first()
+            .satisfies(entry -> {
+                assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.PAYMENT);
+                assertThat(entry.getAmount()).isEqualTo(5D);
+                assertThat(entry.getBalance()).isEqualTo(outStandingAmount);
+            });
+    }
+
+    /**
+     * Creates the bill through the API, so that its charge is appended to the ledger of its tenant.
+     */
+    private GenerateBill createChargedGenerateBill(double charge) throws Exception {
+        generateBill.setAmountPending(generateBill.getTenant().getOutStandingAmount() + charge);
+        restGenerateBillMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(generateBill)))
+            .andExpect(status().isCreated());
+        em.flush();
+        em.clear();
+        return generateBillRepository
+            .findAll()
+            .stream()
+            .filter(bill -> bill.getTenant().getId().equals(generateBill.getTenant().getId()))
+            .filter(bill -> bill.getBillingPeriod().equals(DEFAULT_BILLING_PERIOD))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private double outStandingAmountOf(Tenant tenant) {
+        em.flush();
+        em.clear();
+        return em.find(Tenant.class, tenant.getId()).getOutStandingAmount();
+    }
 }
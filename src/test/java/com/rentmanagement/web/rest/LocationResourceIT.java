@@ -156,6 +156,71 @@ class LocationResourceIT {
             .andExpect(jsonPath("$.[*].country").value(hasItem(DEFAULT_COUNTRY.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllLocationsByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        locationRepository.saveAndFlush(location);
+
+        // Get a page of the matching locations
+        restLocationMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + location.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(location.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getLocationsByCityAndCountry() throws Exception {
+        // Initialize the database
+        locationRepository.saveAndFlush(location);
+
+        defaultLocationShouldBeFound("city.equals=" + DEFAULT_CITY + "&country.equals=" + DEFAULT_COUNTRY);
+        defaultLocationShouldNotBeFound("city.equals=" + UPDATED_CITY);
+        defaultLocationShouldNotBeFound("country.specified=false");
+    }
+
+    /**
+     * Executes the search, and checks that the default location is returned.
+     */
+    private void defaultLocationShouldBeFound(String filter) throws Exception {
+        restLocationMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + location.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(location.getId().intValue())))
+            .andExpect(jsonPath("$.[*].city").value(hasItem(DEFAULT_CITY)));
+
+        // Check, that the count call also returns 1
+        restLocationMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + location.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default location is not returned.
+     */
+    private void defaultLocationShouldNotBeFound(String filter) throws Exception {
+        restLocationMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + location.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restLocationMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + location.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getLocation() throws Exception {
@@ -147,6 +147,70 @@ class OwnerResourceIT {
             .andExpect(jsonPath("$.[*].emailAddress").value(hasItem(DEFAULT_EMAIL_ADDRESS)));
     }
 
+    @Test
+    @Transactional
+    void getAllOwnersByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        ownerRepository.saveAndFlush(owner);
+
+        // Get a page of the matching owners
+        restOwnerMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + owner.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(owner.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getOwnersByPhoneNumberContains() throws Exception {
+        // Initialize the database
+        ownerRepository.saveAndFlush(owner);
+
+        defaultOwnerShouldBeFound("phoneNumber.contains=" + DEFAULT_PHONE_NUMBER.substring(1));
+        defaultOwnerShouldNotBeFound("phoneNumber.doesNotContain=" + DEFAULT_PHONE_NUMBER.substring(1));
+    }
+
+    /**
+     * Executes the search, and checks that the default owner is returned.
+     */
+    private void defaultOwnerShouldBeFound(String filter) throws Exception {
+        restOwnerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + owner.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(owner.getId().intValue())))
+            .andExpect(jsonPath("$.[*].phoneNumber").value(hasItem(DEFAULT_PHONE_NUMBER)));
+
+        // Check, that the count call also returns 1
+        restOwnerMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + owner.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default owner is not returned.
+     */
+    private void defaultOwnerShouldNotBeFound(String filter) throws Exception {
+        restOwnerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + owner.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restOwnerMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + owner.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getOwner() throws Exception {
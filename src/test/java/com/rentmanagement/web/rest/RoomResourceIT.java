@@ -7,12 +7,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.rentmanagement.IntegrationTest;
 import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.Location;
 import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
 import com.rentmanagement.repository.RoomRepository;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -168,6 +172,138 @@ class RoomResourceIT {
             .andExpect(jsonPath("$.[*].floor").value(hasItem(DEFAULT_FLOOR)));
     }
 
+    @Test
+    @Transactional
+    void getAllRoomsWithPagination() throws Exception {
+        // Initialize the database with rooms in distinct buildings, each with an address and a tenant with a location
+        for (int i = 0; i < 3; i++) {
+            Location address = LocationResourceIT.createEntity(em);
+            em.persist(address);
+            Building building = BuildingResourceIT.createEntity(em).address(address);
+            em.persist(building);
+            Location location = LocationResourceIT.createEntity(em);
+            em.persist(location);
+            Tenant tenant = TenantResourceIT.createEntity(em).location(location);
+            em.persist(tenant);
+            em.persist(new Room().roomName(DEFAULT_ROOM_NAME).floor(DEFAULT_FLOOR).building(building).tenants(tenant));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            // Get a page of rooms
+            restRoomMockMvc
+                .perform(get(ENTITY_API_URL + "?page=0&size=20&sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().exists("X-Total-Count"))
+                .andExpect(jsonPath("$.[*].roomName").value(hasItem(DEFAULT_ROOM_NAME)))
+                .andExpect(jsonPath("$.[*].building.buildingName").exists())
+                .andExpect(jsonPath("$.[*].tenants.tenantName").exists());
+
+            // One select for the page and at most one for the count, whatever the number of buildings and tenants
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getBuildingRooms() throws Exception {
+        // Initialize the database
+        roomRepository.saveAndFlush(room);
+
+        // Get the rooms of the building
+        restRoomMockMvc
+            .perform(get("/api/buildings/{id}/rooms", room.getBuilding().getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(room.getId().intValue())))
+            .andExpect(jsonPath("$.[*].roomName").value(hasItem(DEFAULT_ROOM_NAME)));
+
+        // Get the rooms of an unknown building
+        restRoomMockMvc.perform(get("/api/buildings/{id}/rooms", Long.MAX_VALUE)).andExpect(status().isOk()).andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getAllRoomsByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        roomRepository.saveAndFlush(room);
+
+        // Get a page of the matching rooms
+        restRoomMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + room.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(room.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getRoomsByBuildingId() throws Exception {
+        // Initialize the database
+        roomRepository.saveAndFlush(room);
+
+        defaultRoomShouldBeFound("buildingId.equals=" + room.getBuilding().getId());
+        defaultRoomShouldNotBeFound("buildingId.equals=" + Long.MAX_VALUE);
+    }
+
+    @Test
+    @Transactional
+    void getRoomsByRoomNameEquals() throws Exception {
+        // Initialize the database
+        roomRepository.saveAndFlush(room);
+
+        defaultRoomShouldBeFound("roomName.equals=" + DEFAULT_ROOM_NAME);
+        defaultRoomShouldNotBeFound("roomName.equals=" + UPDATED_ROOM_NAME);
+    }
+
+    /**
+     * Executes the search, and checks that the default room is returned.
+     */
+    private void defaultRoomShouldBeFound(String filter) throws Exception {
+        restRoomMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + room.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(room.getId().intValue())))
+            .andExpect(jsonPath("$.[*].roomName").value(hasItem(DEFAULT_ROOM_NAME)));
+
+        // Check, that the count call also returns 1
+        restRoomMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + room.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default room is not returned.
+     */
+    private void defaultRoomShouldNotBeFound(String filter) throws Exception {
+        restRoomMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + room.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restRoomMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + room.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getRoom() throws Exception {
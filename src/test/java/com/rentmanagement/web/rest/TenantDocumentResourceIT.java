@@ -0,0 +1,149 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.TenantDocumentService;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Integration tests for the {@link TenantDocumentResource} REST controller.
+ * <p>
+ * Downloads are written from another thread, which only sees committed data, so these tests are not transactional.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class TenantDocumentResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/tenants/{id}/address-proff";
+
+    private static final String CONTENT_TYPE = "application/pdf";
+
+    // Spans three chunks
+    private static final byte[] DOCUMENT = new byte[2 * TenantDocumentService.CHUNK_SIZE + 10];
+
+    static {
+        new Random(42).nextBytes(DOCUMENT);
+    }
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantDocumentService tenantDocumentService;
+
+    @Autowired
+    private MockMvc restTenantDocumentMockMvc;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void initTest() {
+        tenant =
+            tenantRepository.saveAndFlush(
+                new Tenant()
+                    .tenantName("AAAAAAAAAA")
+                    .phoneNumber("AAAAAAAAAA")
+                    .rentStartDate(LocalDate.ofEpochDay(0L))
+                    .rentAmount(1D)
+                    .electricityUnitRate(1)
+                    .startingElectricityUnit(1D)
+            );
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        tenantDocumentService.delete(tenant.getId());
+        tenantRepository.deleteById(tenant.getId());
+    }
+
+    @Test
+    void uploadAndDownloadAddressProff() throws Exception {
+        restTenantDocumentMockMvc
+            .perform(put(ENTITY_API_URL, tenant.getId()).contentType(CONTENT_TYPE).content(DOCUMENT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.addressProffContentType").value(CONTENT_TYPE))
+            .andExpect(jsonPath("$.addressProffSize").value(DOCUMENT.length));
+
+        Tenant testTenant = tenantRepository.findById(tenant.getId()).orElseThrow();
+        assertThat(testTenant.getAddressProffContentType()).isEqualTo(CONTENT_TYPE);
+        assertThat(testTenant.getAddressProffSize()).isEqualTo(DOCUMENT.length);
+
+        MvcResult result = download(get(ENTITY_API_URL, tenant.getId()));
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getContentType()).isEqualTo(CONTENT_TYPE);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    void downloadAddressProffRange() throws Exception {
+        tenantDocumentService.store(tenant.getId(), CONTENT_TYPE, new ByteArrayInputStream(DOCUMENT));
+        // Crosses the boundary between the first two chunks
+        int start = TenantDocumentService.CHUNK_SIZE - 5;
+        int end = TenantDocumentService.CHUNK_SIZE + 4;
+
+        MvcResult result = download(get(ENTITY_API_URL, tenant.getId()).header(HttpHeaders.RANGE, "bytes=" + start + "-" + end));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(206);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE))
+            .isEqualTo("bytes " + start + "-" + end + "/" + DOCUMENT.length);
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(DOCUMENT, start, end + 1));
+
+        result = download(get(ENTITY_API_URL, tenant.getId()).header(HttpHeaders.RANGE, "bytes=-3"));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(206);
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(DOCUMENT, DOCUMENT.length - 3, DOCUMENT.length));
+    }
+
+    @Test
+    void downloadAddressProffUnsatisfiableRange() throws Exception {
+        tenantDocumentService.store(tenant.getId(), CONTENT_TYPE, new ByteArrayInputStream(DOCUMENT));
+
+        restTenantDocumentMockMvc
+            .perform(get(ENTITY_API_URL, tenant.getId()).header(HttpHeaders.RANGE, "bytes=" + DOCUMENT.length + "-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + DOCUMENT.length));
+    }
+
+    @Test
+    void downloadMissingAddressProff() throws Exception {
+        restTenantDocumentMockMvc.perform(get(ENTITY_API_URL, tenant.getId())).andExpect(status().isNotFound());
+        restTenantDocumentMockMvc.perform(get(ENTITY_API_URL, Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteAddressProff() throws Exception {
+        tenantDocumentService.store(tenant.getId(), CONTENT_TYPE, new ByteArrayInputStream(DOCUMENT));
+
+        restTenantDocumentMockMvc
+            .perform(delete(ENTITY_API_URL, tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.addressProffSize").doesNotExist());
+
+        restTenantDocumentMockMvc.perform(get(ENTITY_API_URL, tenant.getId())).andExpect(status().isNotFound());
+    }
+
+    private MvcResult download(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = restTenantDocumentMockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return restTenantDocumentMockMvc.perform(asyncDispatch(result)).andReturn();
+    }
+}
@@ -0,0 +1,117 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.LedgerEntry;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.TenantRepository;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link TenantLedgerResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class TenantLedgerResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/tenants/{id}/ledger";
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restLedgerMockMvc;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void initTest() {
+        tenant = TenantResourceIT.createEntity(em).outStandingAmount(100D);
+    }
+
+    @Test
+    @Transactional
+    void appendChargesAndPayments() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        restLedgerMockMvc
+            .perform(
+                post(ENTITY_API_URL, tenant.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(new LedgerEntry().entryType(LedgerEntryType.CHARGE).amount(50D)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.tenantId").value(tenant.getId().intValue()))
+            .andExpect(jsonPath("$.balance").value(150D));
+        restLedgerMockMvc
+            .perform(
+                post(ENTITY_API_URL, tenant.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        TestUtil.convertObjectToJsonBytes(new LedgerEntry().entryType(LedgerEntryType.PAYMENT).amount(120D).description("Cash"))
+                    )
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.balance").value(30D));
+
+        em.flush();
+        em.clear();
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getOutStandingAmount).isEqualTo(30D);
+
+        restLedgerMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=20", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].entryType").value(LedgerEntryType.PAYMENT.toString()))
+            .andExpect(jsonPath("$[0].description").value("Cash"))
+            .andExpect(jsonPath("$[1].entryType").value(LedgerEntryType.CHARGE.toString()));
+    }
+
+    @Test
+    @Transactional
+    void appendWithoutPositiveAmount() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        restLedgerMockMvc
+            .perform(
+                post(ENTITY_API_URL, tenant.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(new LedgerEntry().entryType(LedgerEntryType.PAYMENT).amount(-5D)))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getOutStandingAmount).isEqualTo(100D);
+    }
+
+    @Test
+    @Transactional
+    void appendToNonExistingTenant() throws Exception {
+        restLedgerMockMvc
+            .perform(
+                post(ENTITY_API_URL, Long.MAX_VALUE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(new LedgerEntry().entryType(LedgerEntryType.CHARGE).amount(1D)))
+            )
+            .andExpect(status().isBadRequest());
+
+        restLedgerMockMvc.perform(get(ENTITY_API_URL, Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,175 @@
+package com.rentmanagement.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.rentmanagement.IntegrationTest;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.repository.MeterReadingBlockRepository;
+import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.MeterReadingService;
+import com.rentmanagement.service.dto.MeterReadingDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link TenantMeterReadingResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class TenantMeterReadingResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/tenants/{id}/meter-readings";
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private MeterReadingBlockRepository meterReadingBlockRepository;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restMeterReadingMockMvc;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    public void initTest() {
+        tenant = TenantResourceIT.createEntity(em);
+    }
+
+    private ResultActions record(String readAt, double value) throws Exception {
+        return restMeterReadingMockMvc.perform(
+            post(ENTITY_API_URL, tenant.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(new MeterReadingDTO(readAt == null ? null : Instant.parse(readAt), value)))
+        );
+    }
+
+    @Test
+    @Transactional
+    void recordAndGetMeterReadings() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        record("2021-12-31T08:00:00Z", 90D).andExpect(status().isCreated()).andExpect(jsonPath("$.consumption").doesNotExist());
+        record("2022-01-01T08:00:00Z", 100D).andExpect(status().isCreated()).andExpect(jsonPath("$.consumption").value(10D));
+        record("2022-01-02T08:00:00Z", 110D).andExpect(status().isCreated());
+        record("2022-01-04T08:00:00Z", 130D).andExpect(status().isCreated()).andExpect(jsonPath("$.consumption").value(20D));
+        record("2022-01-03T08:00:00Z", 120D).andExpect(status().isCreated()).andExpect(jsonPath("$.consumption").value(10D));
+        record("2022-01-05T08:00:00Z", 200D).andExpect(status().isCreated());
+        record("2022-01-06T08:00:00Z", 195D)
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.consumption").value(-5D))
+            .andExpect(jsonPath("$.anomaly").value(true));
+
+        restMeterReadingMockMvc
+            .perform(get(ENTITY_API_URL + "?from=2022-01-01&to=2022-01-31", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(6)))
+            .andExpect(jsonPath("$[0].readAt").value("2022-01-01T08:00:00Z"))
+            .andExpect(jsonPath("$[0].consumption").value(10D))
+            .andExpect(jsonPath("$[0].anomaly").value(false))
+            .andExpect(jsonPath("$[2].readAt").value("2022-01-03T08:00:00Z"))
+            .andExpect(jsonPath("$[2].value").value(120D))
+            .andExpect(jsonPath("$[3].consumption").value(10D))
+            .andExpect(jsonPath("$[3].anomaly").value(false))
+            .andExpect(jsonPath("$[4].consumption").value(70D))
+            .andExpect(jsonPath("$[4].anomaly").value(true))
+            .andExpect(jsonPath("$[5].anomaly").value(true));
+        restMeterReadingMockMvc
+            .perform(get(ENTITY_API_URL + "?from=2022-01-02&to=2022-01-03", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].consumption").value(10D))
+            .andExpect(jsonPath("$[1].consumption").value(10D));
+
+        assertThat(meterReadingBlockRepository.findByTenantIdAndMonth(tenant.getId(), LocalDate.of(2022, 1, 1)))
+            .get()
+            .satisfies(block -> {
+                assertThat(block.getReadingCount()).isEqualTo(6);
+                assertThat(block.getLastReadAt()).isEqualTo(Instant.parse("2022-01-06T08:00:00Z"));
+                assertThat(block.getLastValue()).isEqualTo(195D);
+            });
+        assertThat(meterReadingService.findLatestReadings(List.of(tenant.getId()))).containsEntry(tenant.getId(), 195D);
+    }
+
+    @Test
+    @Transactional
+    void recordAtTheTimeOfARecordedReading() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        record("2022-01-01T08:00:00Z", 100D).andExpect(status().isCreated());
+        record("2022-01-02T08:00:00Z", 110D).andExpect(status().isCreated());
+        record("2022-01-01T08:00:00Z", 101D).andExpect(status().isCreated());
+
+        restMeterReadingMockMvc
+            .perform(get(ENTITY_API_URL + "?from=2022-01-01&to=2022-01-31", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].value").value(101D))
+            .andExpect(jsonPath("$[1].consumption").value(9D));
+    }
+
+    @Test
+    @Transactional
+    void recordNow() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        record(null, 42.5D).andExpect(status().isCreated()).andExpect(jsonPath("$.readAt").isNotEmpty());
+
+        restMeterReadingMockMvc
+            .perform(get(ENTITY_API_URL, tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].value").value(42.5D));
+    }
+
+    @Test
+    @Transactional
+    void recordWithNegativeValue() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        record("2022-01-01T08:00:00Z", -1D).andExpect(status().isBadRequest());
+
+        assertThat(meterReadingService.findLatestReadings(List.of(tenant.getId()))).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void getMeterReadingsWithInvalidRange() throws Exception {
+        tenantRepository.saveAndFlush(tenant);
+
+        restMeterReadingMockMvc
+            .perform(get(ENTITY_API_URL + "?from=2022-02-01&to=2022-01-31", tenant.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void recordForNonExistingTenant() throws Exception {
+        tenant.setId(Long.MAX_VALUE);
+
+        record("2022-01-01T08:00:00Z", 1D).andExpect(status().isBadRequest());
+
+        restMeterReadingMockMvc.perform(get(ENTITY_API_URL, Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+}
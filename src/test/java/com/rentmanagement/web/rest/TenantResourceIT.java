@@ -1,6 +1,7 @@
 package com.rentmanagement.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -8,7 +9,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.rentmanagement.IntegrationTest;
 import com.rentmanagement.domain.Room;
 import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.domain.enumeration.LedgerEntryType;
+import com.rentmanagement.repository.LedgerEntryRepository;
 import com.rentmanagement.repository.TenantRepository;
+import com.rentmanagement.service.dto.TenantPatchDTO;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
@@ -19,11 +23,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.Base64Utils;
 
 /**
  * Integration tests for the {@link TenantResource} REST controller.
@@ -36,11 +43,6 @@ class TenantResourceIT {
     private static final String DEFAULT_TENANT_NAME = "AAAAAAAAAA";
     private static final String UPDATED_TENANT_NAME = "BBBBBBBBBB";
 
-    private static final byte[] DEFAULT_ADDRESS_PROFF = TestUtil.createByteArray(1, "0");
-    private static final byte[] UPDATED_ADDRESS_PROFF = TestUtil.createByteArray(1, "1");
-    private static final String DEFAULT_ADDRESS_PROFF_CONTENT_TYPE = "image/jpg";
-    private static final String UPDATED_ADDRESS_PROFF_CONTENT_TYPE = "image/png";
-
     private static final Integer DEFAULT_NUMBEROF_FAMILY_MEMBERS = 1;
     private static final Integer UPDATED_NUMBEROF_FAMILY_MEMBERS = 2;
 
@@ -92,6 +94,9 @@ class TenantResourceIT {
     @Autowired
     private TenantRepository tenantRepository;
 
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -109,8 +114,6 @@ class TenantResourceIT {
     public static Tenant createEntity(EntityManager em) {
         Tenant tenant = new Tenant()
             .tenantName(DEFAULT_TENANT_NAME)
-            .addressProff(DEFAULT_ADDRESS_PROFF)
-            .addressProffContentType(DEFAULT_ADDRESS_PROFF_CONTENT_TYPE)
             .numberofFamilyMembers(DEFAULT_NUMBEROF_FAMILY_MEMBERS)
             .phoneNumber(DEFAULT_PHONE_NUMBER)
             .rentStartDate(DEFAULT_RENT_START_DATE)
@@ -147,8 +150,6 @@ class TenantResourceIT {
     public static Tenant createUpdatedEntity(EntityManager em) {
         Tenant tenant = new Tenant()
             .tenantName(UPDATED_TENANT_NAME)
-            .addressProff(UPDATED_ADDRESS_PROFF)
-            .addressProffContentType(UPDATED_ADDRESS_PROFF_CONTENT_TYPE)
             .numberofFamilyMembers(UPDATED_NUMBEROF_FAMILY_MEMBERS)
             .phoneNumber(UPDATED_PHONE_NUMBER)
             .rentStartDate(UPDATED_RENT_START_DATE)
@@ -195,8 +196,6 @@ class TenantResourceIT {
         assertThat(tenantList).hasSize(databaseSizeBeforeCreate + 1);
         Tenant testTenant = tenantList.get(tenantList.size() - 1);
         assertThat(testTenant.getTenantName()).isEqualTo(DEFAULT_TENANT_NAME);
-        assertThat(testTenant.getAddressProff()).isEqualTo(DEFAULT_ADDRESS_PROFF);
-        assertThat(testTenant.getAddressProffContentType()).isEqualTo(DEFAULT_ADDRESS_PROFF_CONTENT_TYPE);
         assertThat(testTenant.getNumberofFamilyMembers()).isEqualTo(DEFAULT_NUMBEROF_FAMILY_MEMBERS);
         assertThat(testTenant.getPhoneNumber()).isEqualTo(DEFAULT_PHONE_NUMBER);
         assertThat(testTenant.getRentStartDate()).isEqualTo(DEFAULT_RENT_START_DATE);
@@ -211,6 +210,15 @@ class TenantResourceIT {
         assertThat(testTenant.getMonthEndCalculation()).isEqualTo(DEFAULT_MONTH_END_CALCULATION);
         assertThat(testTenant.getCalculateOnDate()).isEqualTo(DEFAULT_CALCULATE_ON_DATE);
         assertThat(testTenant.getCalculatedForCurrentMonth()).isEqualTo(DEFAULT_CALCULATED_FOR_CURRENT_MONTH);
+
+        // The outstanding amount opened the ledger of the tenant
+        assertThat(ledgerEntryRepository.findByTenantIdOrderByIdDesc(testTenant.getId(), Pageable.unpaged()))
+            .singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.CHARGE);
+                assertThat(entry.getAmount()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT);
+                assertThat(entry.getBalance()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT);
+            });
     }
 
     @Test
@@ -346,8 +354,6 @@ class TenantResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(tenant.getId().intValue())))
             .andExpect(jsonPath("$.[*].tenantName").value(hasItem(DEFAULT_TENANT_NAME)))
-            .andExpect(jsonPath("$.[*].addressProffContentType").value(hasItem(DEFAULT_ADDRESS_PROFF_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].addressProff").value(hasItem(Base64Utils.encodeToString(DEFAULT_ADDRESS_PROFF))))
             .andExpect(jsonPath("$.[*].numberofFamilyMembers").value(hasItem(DEFAULT_NUMBEROF_FAMILY_MEMBERS)))
             .andExpect(jsonPath("$.[*].phoneNumber").value(hasItem(DEFAULT_PHONE_NUMBER)))
             .andExpect(jsonPath("$.[*].rentStartDate").value(hasItem(DEFAULT_RENT_START_DATE.toString())))
@@ -364,6 +370,175 @@ class TenantResourceIT {
             .andExpect(jsonPath("$.[*].calculatedForCurrentMonth").value(hasItem(DEFAULT_CALCULATED_FOR_CURRENT_MONTH.booleanValue())));
     }
 
+    @Test
+    @Transactional
+    void getTenantsAfter() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+        Tenant nextTenant = tenantRepository.saveAndFlush(createEntity(em));
+
+        // Get the page starting after the first tenant
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "?afterId={afterId}&size=1", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(nextTenant.getId().intValue()))
+            .andExpect(header().string("Link", containsString("afterId=" + nextTenant.getId())));
+    }
+
+    @Test
+    @Transactional
+    void streamTenants() throws Exception {
+        // The stream is written from another thread, which only sees committed tenants
+        TestTransaction.end();
+        TestTransaction.start();
+        tenantRepository.saveAndFlush(tenant);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            MvcResult result = restTenantMockMvc
+                .perform(get(ENTITY_API_URL + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            restTenantMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"id\":" + tenant.getId())));
+        } finally {
+            TestTransaction.start();
+            tenantRepository.deleteById(tenant.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    @Transactional
+    void getBuildingTenants() throws Exception {
+        // Initialize the database with the tenant renting a room of a building
+        tenantRepository.saveAndFlush(tenant);
+        Room room = RoomResourceIT.createEntity(em).tenants(tenant);
+        em.persist(room);
+        em.flush();
+
+        // Get the tenants of the building
+        restTenantMockMvc
+            .perform(get("/api/buildings/{id}/tenants", room.getBuilding().getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(tenant.getId().intValue())))
+            .andExpect(jsonPath("$.[*].tenantName").value(hasItem(DEFAULT_TENANT_NAME)));
+
+        // Get the tenants of an unknown building
+        restTenantMockMvc
+            .perform(get("/api/buildings/{id}/tenants", Long.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getAllTenantsByCriteriaWithPagination() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        // Get a page of the matching tenants
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc&id.equals=" + tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(tenant.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getTenantsByTenantNameContains() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        defaultTenantShouldBeFound("tenantName.contains=" + DEFAULT_TENANT_NAME.substring(1));
+        defaultTenantShouldNotBeFound("tenantName.contains=" + UPDATED_TENANT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void getTenantsByRentAmountRange() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        defaultTenantShouldBeFound("rentAmount.greaterThanOrEqual=" + DEFAULT_RENT_AMOUNT + "&rentAmount.lessThan=" + UPDATED_RENT_AMOUNT);
+        defaultTenantShouldNotBeFound("rentAmount.greaterThan=" + DEFAULT_RENT_AMOUNT);
+    }
+
+    @Test
+    @Transactional
+    void getTenantsByOutStandingAmountGreaterThanZero() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        defaultTenantShouldBeFound("outStandingAmount.greaterThan=0");
+        defaultTenantShouldNotBeFound("outStandingAmount.greaterThan=" + DEFAULT_OUT_STANDING_AMOUNT);
+    }
+
+    @Test
+    @Transactional
+    void getTenantsByBuildingId() throws Exception {
+        // Initialize the database with the tenant renting two rooms of a building
+        tenantRepository.saveAndFlush(tenant);
+        Room room = RoomResourceIT.createEntity(em).tenants(tenant);
+        em.persist(room);
+        em.persist(RoomResourceIT.createEntity(em).building(room.getBuilding()).tenants(tenant));
+        em.flush();
+
+        // The tenant is found once
+        defaultTenantShouldBeFound("buildingId.equals=" + room.getBuilding().getId());
+        defaultTenantShouldNotBeFound("buildingId.equals=" + Long.MAX_VALUE);
+    }
+
+    /**
+     * Executes the search, and checks that the default tenant is returned.
+     */
+    private void defaultTenantShouldBeFound(String filter) throws Exception {
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + tenant.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(tenant.getId().intValue())))
+            .andExpect(jsonPath("$.[*].tenantName").value(hasItem(DEFAULT_TENANT_NAME)))
+            .andExpect(jsonPath("$.[*].rentAmount").value(hasItem(DEFAULT_RENT_AMOUNT.doubleValue())));
+
+        // Check, that the count call also returns 1
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + tenant.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default tenant is not returned.
+     */
+    private void defaultTenantShouldNotBeFound(String filter) throws Exception {
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + tenant.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + tenant.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getTenant() throws Exception {
@@ -375,10 +550,10 @@ class TenantResourceIT {
             .perform(get(ENTITY_API_URL_ID, tenant.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
             .andExpect(jsonPath("$.id").value(tenant.getId().intValue()))
+            .andExpect(jsonPath("$.version").value(0))
             .andExpect(jsonPath("$.tenantName").value(DEFAULT_TENANT_NAME))
-            .andExpect(jsonPath("$.addressProffContentType").value(DEFAULT_ADDRESS_PROFF_CONTENT_TYPE))
-            .andExpect(jsonPath("$.addressProff").value(Base64Utils.encodeToString(DEFAULT_ADDRESS_PROFF)))
             .andExpect(jsonPath("$.numberofFamilyMembers").value(DEFAULT_NUMBEROF_FAMILY_MEMBERS))
             .andExpect(jsonPath("$.phoneNumber").value(DEFAULT_PHONE_NUMBER))
             .andExpect(jsonPath("$.rentStartDate").value(DEFAULT_RENT_START_DATE.toString()))
@@ -395,6 +570,46 @@ class TenantResourceIT {
             .andExpect(jsonPath("$.calculatedForCurrentMonth").value(DEFAULT_CALCULATED_FOR_CURRENT_MONTH.booleanValue()));
     }
 
+    @Test
+    @Transactional
+    void getTenantSummaries() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        // Get the page of tenant summaries
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL + "/summaries?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(tenant.getId().intValue())))
+            .andExpect(jsonPath("$.[*].tenantName").value(hasItem(DEFAULT_TENANT_NAME)))
+            .andExpect(jsonPath("$.[*].phoneNumber").value(hasItem(DEFAULT_PHONE_NUMBER)))
+            .andExpect(jsonPath("$.[*].rentAmount").value(hasItem(DEFAULT_RENT_AMOUNT.doubleValue())))
+            .andExpect(jsonPath("$.[*].outStandingAmount").value(hasItem(DEFAULT_OUT_STANDING_AMOUNT.doubleValue())))
+            .andExpect(jsonPath("$.[*].rentStartDate").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getTenantSummary() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        // Get the tenant summary
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/summary", tenant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(tenant.getId().intValue()))
+            .andExpect(jsonPath("$.tenantName").value(DEFAULT_TENANT_NAME))
+            .andExpect(jsonPath("$.phoneNumber").value(DEFAULT_PHONE_NUMBER))
+            .andExpect(jsonPath("$.rentAmount").value(DEFAULT_RENT_AMOUNT.doubleValue()))
+            .andExpect(jsonPath("$.outStandingAmount").value(DEFAULT_OUT_STANDING_AMOUNT.doubleValue()))
+            .andExpect(jsonPath("$.emailAddress").doesNotExist());
+
+        restTenantMockMvc.perform(get(ENTITY_API_URL_ID + "/summary", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void getNonExistingTenant() throws Exception {
@@ -402,6 +617,214 @@ class TenantResourceIT {
         restTenantMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getNotModifiedTenant() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL_ID, tenant.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+        restTenantMockMvc
+            .perform(get(ENTITY_API_URL_ID, tenant.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void putTenantWithIfMatch() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        Tenant updatedTenant = tenantRepository.findById(tenant.getId()).get();
+        em.detach(updatedTenant);
+        updatedTenant.tenantName(UPDATED_TENANT_NAME);
+
+        restTenantMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTenant.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedTenant))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.version").value(1));
+
+        // The update was made from a version that is no longer current
+        restTenantMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTenant.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedTenant.tenantName(DEFAULT_TENANT_NAME)))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getTenantName).isEqualTo(UPDATED_TENANT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateTenantWithIfMatch() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        Tenant partialUpdatedTenant = new Tenant();
+        partialUpdatedTenant.setId(tenant.getId());
+        partialUpdatedTenant.tenantName(UPDATED_TENANT_NAME);
+
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedTenant.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"1\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedTenant))
+            )
+            .andExpect(status().isPreconditionFailed());
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getTenantName).isEqualTo(DEFAULT_TENANT_NAME);
+
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedTenant.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"3\", \"0\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedTenant))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getTenantName).isEqualTo(UPDATED_TENANT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateTenantDoesNotOverwriteAConcurrentPayment() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+        // A payment applied by another transaction, while the tenant read by the update is still in the session
+        tenantRepository.addToOutStandingAmount(tenant.getId(), -10D);
+
+        Tenant partialUpdatedTenant = new Tenant();
+        partialUpdatedTenant.setId(tenant.getId());
+        partialUpdatedTenant.tenantName(UPDATED_TENANT_NAME);
+
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedTenant.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedTenant))
+            )
+            .andExpect(status().isConflict());
+
+        em.clear();
+        Tenant testTenant = tenantRepository.findById(tenant.getId()).get();
+        assertThat(testTenant.getTenantName()).isEqualTo(DEFAULT_TENANT_NAME);
+        assertThat(testTenant.getOutStandingAmount()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT - 10D);
+        assertThat(testTenant.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateTenantsByBuildingId() throws Exception {
+        // Initialize the database with two tenants renting a room of a building, and one renting no room
+        tenantRepository.saveAndFlush(tenant);
+        Tenant otherTenant = tenantRepository.saveAndFlush(createEntity(em));
+        Tenant tenantWithoutRoom = tenantRepository.saveAndFlush(createEntity(em));
+        Room room = RoomResourceIT.createEntity(em).tenants(tenant);
+        em.persist(room);
+        em.persist(RoomResourceIT.createEntity(em).building(room.getBuilding()).tenants(otherTenant));
+        em.flush();
+
+        TenantPatchDTO patch = new TenantPatchDTO();
+        patch.setSendNotification(UPDATED_SEND_NOTIFICATION);
+        patch.setCalculatedForCurrentMonth(UPDATED_CALCULATED_FOR_CURRENT_MONTH);
+
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?buildingId.equals=" + room.getBuilding().getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(patch))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("2"));
+
+        // The update bypassed the session
+        em.clear();
+        assertThat(tenantRepository.findAllById(List.of(tenant.getId(), otherTenant.getId())))
+            .hasSize(2)
+            .allSatisfy(testTenant -> {
+                assertThat(testTenant.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
+                assertThat(testTenant.getCalculatedForCurrentMonth()).isEqualTo(UPDATED_CALCULATED_FOR_CURRENT_MONTH);
+                assertThat(testTenant.getMonthEndCalculation()).isEqualTo(DEFAULT_MONTH_END_CALCULATION);
+                assertThat(testTenant.getVersion()).isEqualTo(1L);
+            });
+        Tenant testTenant = tenantRepository.findById(tenantWithoutRoom.getId()).get();
+        assertThat(testTenant.getSendNotification()).isEqualTo(DEFAULT_SEND_NOTIFICATION);
+        assertThat(testTenant.getVersion()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateTenantsById() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+        Tenant otherTenant = tenantRepository.saveAndFlush(createEntity(em));
+
+        TenantPatchDTO patch = new TenantPatchDTO();
+        patch.setRentAmount(UPDATED_RENT_AMOUNT);
+
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?id.in=" + tenant.getId() + "," + Long.MAX_VALUE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(patch))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+
+        em.clear();
+        assertThat(tenantRepository.findById(tenant.getId())).get().extracting(Tenant::getRentAmount).isEqualTo(UPDATED_RENT_AMOUNT);
+        assertThat(tenantRepository.findById(otherTenant.getId())).get().extracting(Tenant::getRentAmount).isEqualTo(DEFAULT_RENT_AMOUNT);
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateTenantsRequiresACriteriaAndAField() throws Exception {
+        // Initialize the database
+        tenantRepository.saveAndFlush(tenant);
+
+        TenantPatchDTO patch = new TenantPatchDTO();
+        patch.setSendNotification(UPDATED_SEND_NOTIFICATION);
+
+        // Not all the tenants at once
+        restTenantMockMvc
+            .perform(patch(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(patch)))
+            .andExpect(status().isBadRequest());
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?distinct=true")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(patch))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("X-rentmanagementApp-error", "error.criteriaempty"));
+
+        // Nor nothing
+        restTenantMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "?id.equals=" + tenant.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(new TenantPatchDTO()))
+            )
+            .andExpect(status().isBadRequest());
+
+        em.clear();
+        Tenant testTenant = tenantRepository.findById(tenant.getId()).get();
+        assertThat(testTenant.getSendNotification()).isEqualTo(DEFAULT_SEND_NOTIFICATION);
+        assertThat(testTenant.getVersion()).isZero();
+    }
+
     @Test
     @Transactional
     void putNewTenant() throws Exception {
@@ -416,8 +839,6 @@ class TenantResourceIT {
         em.detach(updatedTenant);
         updatedTenant
             .tenantName(UPDATED_TENANT_NAME)
-            .addressProff(UPDATED_ADDRESS_PROFF)
-            .addressProffContentType(UPDATED_ADDRESS_PROFF_CONTENT_TYPE)
             .numberofFamilyMembers(UPDATED_NUMBEROF_FAMILY_MEMBERS)
             .phoneNumber(UPDATED_PHONE_NUMBER)
             .rentStartDate(UPDATED_RENT_START_DATE)
@@ -446,8 +867,6 @@ class TenantResourceIT {
         assertThat(tenantList).hasSize(databaseSizeBeforeUpdate);
         Tenant testTenant = tenantList.get(tenantList.size() - 1);
         assertThat(testTenant.getTenantName()).isEqualTo(UPDATED_TENANT_NAME);
-        assertThat(testTenant.getAddressProff()).isEqualTo(UPDATED_ADDRESS_PROFF);
-        assertThat(testTenant.getAddressProffContentType()).isEqualTo(UPDATED_ADDRESS_PROFF_CONTENT_TYPE);
         assertThat(testTenant.getNumberofFamilyMembers()).isEqualTo(UPDATED_NUMBEROF_FAMILY_MEMBERS);
         assertThat(testTenant.getPhoneNumber()).isEqualTo(UPDATED_PHONE_NUMBER);
         assertThat(testTenant.getRentStartDate()).isEqualTo(UPDATED_RENT_START_DATE);
@@ -458,7 +877,8 @@ class TenantResourceIT {
         assertThat(testTenant.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
         assertThat(testTenant.getEmailAddress()).isEqualTo(UPDATED_EMAIL_ADDRESS);
         assertThat(testTenant.getEmergencyContactNumber()).isEqualTo(UPDATED_EMERGENCY_CONTACT_NUMBER);
-        assertThat(testTenant.getOutStandingAmount()).isEqualTo(UPDATED_OUT_STANDING_AMOUNT);
+        // The outstanding amount only changes through the ledger
+        assertThat(testTenant.getOutStandingAmount()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT);
         assertThat(testTenant.getMonthEndCalculation()).isEqualTo(UPDATED_MONTH_END_CALCULATION);
         assertThat(testTenant.getCalculateOnDate()).isEqualTo(UPDATED_CALCULATE_ON_DATE);
         assertThat(testTenant.getCalculatedForCurrentMonth()).isEqualTo(UPDATED_CALCULATED_FOR_CURRENT_MONTH);
@@ -555,8 +975,6 @@ class TenantResourceIT {
         assertThat(tenantList).hasSize(databaseSizeBeforeUpdate);
         Tenant testTenant = tenantList.get(tenantList.size() - 1);
         assertThat(testTenant.getTenantName()).isEqualTo(UPDATED_TENANT_NAME);
-        assertThat(testTenant.getAddressProff()).isEqualTo(DEFAULT_ADDRESS_PROFF);
-        assertThat(testTenant.getAddressProffContentType()).isEqualTo(DEFAULT_ADDRESS_PROFF_CONTENT_TYPE);
         assertThat(testTenant.getNumberofFamilyMembers()).isEqualTo(UPDATED_NUMBEROF_FAMILY_MEMBERS);
         assertThat(testTenant.getPhoneNumber()).isEqualTo(DEFAULT_PHONE_NUMBER);
         assertThat(testTenant.getRentStartDate()).isEqualTo(UPDATED_RENT_START_DATE);
@@ -567,7 +985,8 @@ class TenantResourceIT {
         assertThat(testTenant.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
         assertThat(testTenant.getEmailAddress()).isEqualTo(DEFAULT_EMAIL_ADDRESS);
         assertThat(testTenant.getEmergencyContactNumber()).isEqualTo(DEFAULT_EMERGENCY_CONTACT_NUMBER);
-        assertThat(testTenant.getOutStandingAmount()).isEqualTo(UPDATED_OUT_STANDING_AMOUNT);
+        // The outstanding amount only changes through the ledger
+        assertThat(testTenant.getOutStandingAmount()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT);
         assertThat(testTenant.getMonthEndCalculation()).isEqualTo(UPDATED_MONTH_END_CALCULATION);
         assertThat(testTenant.getCalculateOnDate()).isEqualTo(DEFAULT_CALCULATE_ON_DATE);
         assertThat(testTenant.getCalculatedForCurrentMonth()).isEqualTo(DEFAULT_CALCULATED_FOR_CURRENT_MONTH);
@@ -587,8 +1006,6 @@ class TenantResourceIT {
 
         partialUpdatedTenant
             .tenantName(UPDATED_TENANT_NAME)
-            .addressProff(UPDATED_ADDRESS_PROFF)
-            .addressProffContentType(UPDATED_ADDRESS_PROFF_CONTENT_TYPE)
             .numberofFamilyMembers(UPDATED_NUMBEROF_FAMILY_MEMBERS)
             .phoneNumber(UPDATED_PHONE_NUMBER)
             .rentStartDate(UPDATED_RENT_START_DATE)
@@ -617,8 +1034,6 @@ class TenantResourceIT {
         assertThat(tenantList).hasSize(databaseSizeBeforeUpdate);
         Tenant testTenant = tenantList.get(tenantList.size() - 1);
         assertThat(testTenant.getTenantName()).isEqualTo(UPDATED_TENANT_NAME);
-        assertThat(testTenant.getAddressProff()).isEqualTo(UPDATED_ADDRESS_PROFF);
-        assertThat(testTenant.getAddressProffContentType()).isEqualTo(UPDATED_ADDRESS_PROFF_CONTENT_TYPE);
         assertThat(testTenant.getNumberofFamilyMembers()).isEqualTo(UPDATED_NUMBEROF_FAMILY_MEMBERS);
         assertThat(testTenant.getPhoneNumber()).isEqualTo(UPDATED_PHONE_NUMBER);
         assertThat(testTenant.getRentStartDate()).isEqualTo(UPDATED_RENT_START_DATE);
@@ -629,7 +1044,8 @@ class TenantResourceIT {
         assertThat(testTenant.getSendNotification()).isEqualTo(UPDATED_SEND_NOTIFICATION);
         assertThat(testTenant.getEmailAddress()).isEqualTo(UPDATED_EMAIL_ADDRESS);
         assertThat(testTenant.getEmergencyContactNumber()).isEqualTo(UPDATED_EMERGENCY_CONTACT_NUMBER);
-        assertThat(testTenant.getOutStandingAmount()).isEqualTo(UPDATED_OUT_STANDING_AMOUNT);
+        // The outstanding amount only changes through the ledger
+        assertThat(testTenant.getOutStandingAmount()).isEqualTo(DEFAULT_OUT_STANDING_AMOUNT);
         assertThat(testTenant.getMonthEndCalculation()).isEqualTo(UPDATED_MONTH_END_CALCULATION);
         assertThat(testTenant.getCalculateOnDate()).isEqualTo(UPDATED_CALCULATE_ON_DATE);
         assertThat(testTenant.getCalculatedForCurrentMonth()).isEqualTo(UPDATED_CALCULATED_FOR_CURRENT_MONTH);
@@ -681,10 +1097,10 @@ class TenantResourceIT {
         int databaseSizeBeforeUpdate = tenantRepository.findAll().size();
         tenant.setId(count.incrementAndGet());
 
-        // If url ID doesn't match entity ID, it will throw BadRequestAlertException
+        // Without an ID, it is a bulk update of the entities matching the criteria, which are required
         restTenantMockMvc
             .perform(patch(ENTITY_API_URL).contentType("application/merge-patch+json").content(TestUtil.convertObjectToJsonBytes(tenant)))
-            .andExpect(status().isMethodNotAllowed());
+            .andExpect(status().isBadRequest());
 
         // Validate the Tenant in the database
         List<Tenant> tenantList = tenantRepository.findAll();
@@ -0,0 +1,58 @@
+package com.rentmanagement.benchmark;
+
+import com.rentmanagement.RentmanagementApp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Benchmarks {@code DomainUserDetailsService.loadUserByUsername} against the in-memory H2 database of the test
+ * configuration, the users being those loaded by Liquibase. The security configuration needs a servlet context, so
+ * the application is started on a random port.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainUserDetailsServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserDetailsService userDetailsService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(RentmanagementApp.class).web(WebApplicationType.SERVLET).properties("server.port=0").run();
+        userDetailsService = context.getBean(UserDetailsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByLogin() {
+        return userDetailsService.loadUserByUsername("admin");
+    }
+
+    @Benchmark
+    public UserDetails loadUserByEmail() {
+        return userDetailsService.loadUserByUsername("admin@localhost");
+    }
+}
@@ -0,0 +1,103 @@
+package com.rentmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmanagement.config.JacksonConfiguration;
+import com.rentmanagement.domain.Building;
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Location;
+import com.rentmanagement.domain.Room;
+import com.rentmanagement.domain.Tenant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks the serialization of the entity graphs returned by the REST resources, using the modules
+ * registered by {@link JacksonConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({ "1", "20" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Tenant> tenants;
+    private List<GenerateBill> generateBills;
+    private List<Room> rooms;
+
+    @Setup
+    public void setup() {
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        objectMapper =
+            Jackson2ObjectMapperBuilder
+                .json()
+                .modules(
+                    configuration.javaTimeModule(),
+                    configuration.jdk8TimeModule(),
+                    configuration.hibernate5Module(),
+                    configuration.problemModule(),
+                    configuration.constraintViolationProblemModule()
+                )
+                .build();
+
+        Location location = new Location().id(1L).streetAddress("12 Park Street").postalCode("110001").city("New Delhi");
+        Building building = new Building().id(1L).buildingName("Sunrise").address(location);
+        tenants = new ArrayList<>(size);
+        generateBills = new ArrayList<>(size);
+        rooms = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            Tenant tenant = new Tenant()
+                .id(i)
+                .tenantName("Tenant " + i)
+                .phoneNumber("98765432" + (i % 100))
+                .rentStartDate(LocalDate.of(2026, 1, 1))
+                .rentAmount(12000D)
+                .electricityUnitRate(8)
+                .startingElectricityUnit(100D)
+                .sendNotification(true)
+                .emailAddress("tenant" + i + "@localhost")
+                .outStandingAmount(1500D)
+                .location(location);
+            Room room = new Room().id(i).roomName("Room " + i).floor("1").building(building).tenants(tenant);
+            tenant.addRooms(room);
+            tenants.add(tenant);
+            rooms.add(room);
+            generateBills.add(new GenerateBill().id(i).amountPending(13500D).electricityUnit(120D).sendNotification(true).tenant(tenant));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTenants() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tenants);
+    }
+
+    @Benchmark
+    public byte[] serializeGenerateBills() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(generateBills);
+    }
+
+    @Benchmark
+    public byte[] serializeRooms() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rooms);
+    }
+}
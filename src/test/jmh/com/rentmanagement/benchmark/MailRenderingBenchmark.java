@@ -0,0 +1,113 @@
+package com.rentmanagement.benchmark;
+
+import com.rentmanagement.domain.GenerateBill;
+import com.rentmanagement.domain.Tenant;
+import com.rentmanagement.service.MailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Benchmarks the rendering of the bill notification emails, one context and message lookup per email as done by
+ * {@link MailService#sendEmailFromTemplate} before, against {@link MailService#renderBatch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailRenderingBenchmark {
+
+    private static final String TEMPLATE = "mail/billNotificationEmail";
+
+    private static final String BASE_URL = "http://127.0.0.1:8080";
+
+    @Param({ "1", "50" })
+    private int size;
+
+    private SpringTemplateEngine templateEngine;
+    private ResourceBundleMessageSource messageSource;
+    private MailService mailService;
+    private Locale locale;
+    private List<Map<String, Object>> variables;
+
+    @Setup
+    public void setup() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("i18n/messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getMail().setBaseUrl(BASE_URL);
+        mailService =
+            new MailService(
+                jHipsterProperties,
+                new JavaMailSenderImpl(),
+                messageSource,
+                templateEngine,
+                new SimpleMeterRegistry(),
+                new StaticApplicationContext()
+            );
+        locale = Locale.ENGLISH;
+
+        variables = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            Tenant tenant = new Tenant().id(i).tenantName("Tenant " + i).emailAddress("tenant" + i + "@localhost");
+            GenerateBill bill = new GenerateBill().id(i).tenant(tenant).amountPending(1000D + i).electricityUnit((double) i);
+            variables.add(Map.of("bill", bill, "tenant", tenant));
+        }
+    }
+
+    @Benchmark
+    public List<String> renderPerEmail() {
+        List<String> emails = new ArrayList<>(size);
+        for (Map<String, Object> emailVariables : variables) {
+            Context context = new Context(locale);
+            context.setVariables(emailVariables);
+            context.setVariable("baseUrl", BASE_URL);
+            String subject = messageSource.getMessage("email.bill.title", null, locale);
+            emails.add(subject + templateEngine.process(TEMPLATE, context));
+        }
+        return emails;
+    }
+
+    @Benchmark
+    public List<String> renderBatch() {
+        String subject = mailService.getMessage("email.bill.title", locale);
+        List<String> emails = mailService.renderBatch(TEMPLATE, locale, variables);
+        emails.replaceAll(content -> subject + content);
+        return emails;
+    }
+}
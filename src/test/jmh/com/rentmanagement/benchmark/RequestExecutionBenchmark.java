@@ -0,0 +1,107 @@
+package com.rentmanagement.benchmark;
+
+import com.rentmanagement.config.VirtualThreadFactories;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load model of the REST requests at high concurrency, on the Undertow worker pool against virtual threads, as run
+ * by the {@code virtual-threads} profile. The score is in requests per second.
+ * <p>
+ * Each of the {@link #REQUESTS} concurrent requests blocks {@code blockingMillis} outside of the database (reading
+ * the request, writing the response to a slow client, the SMTP server...) and {@code queryMillis} on a JDBC
+ * connection, out of a pool of {@link #CONNECTIONS} like the Hikari default. The platform threads cap the throughput
+ * to {@code WORKERS / (blockingMillis + queryMillis)}, the virtual threads only to the connection pool,
+ * {@code CONNECTIONS / queryMillis}.
+ * <p>
+ * The virtual mode requires running the benchmark on Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int REQUESTS = 1000;
+
+    /**
+     * Undertow worker threads on an 8 core server: 8 IO threads times 8.
+     */
+    private static final int WORKERS = 64;
+
+    private static final int CONNECTIONS = 10;
+
+    @Param({ "platform", "virtual" })
+    private String threads;
+
+    @Param({ "20" })
+    private long blockingMillis;
+
+    @Param({ "1" })
+    private long queryMillis;
+
+    private ExecutorService executor;
+
+    private Semaphore connections;
+
+    @Setup
+    public void setup() {
+        executor =
+            "virtual".equals(threads)
+                ? VirtualThreadFactories.newThreadPerTaskExecutor("request-")
+                : Executors.newFixedThreadPool(WORKERS);
+        connections = new Semaphore(CONNECTIONS, true);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() throws InterruptedException {
+        Thread.sleep(blockingMillis);
+        connections.acquire();
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+    }
+}
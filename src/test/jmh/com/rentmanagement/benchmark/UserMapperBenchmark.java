@@ -0,0 +1,86 @@
+package com.rentmanagement.benchmark;
+
+import com.rentmanagement.domain.Authority;
+import com.rentmanagement.domain.User;
+import com.rentmanagement.security.AuthoritiesConstants;
+import com.rentmanagement.service.dto.AdminUserDTO;
+import com.rentmanagement.service.dto.UserDTO;
+import com.rentmanagement.service.mapper.UserMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link UserMapper} conversions done by the user management resources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({ "1", "20" })
+    private int size;
+
+    private UserMapper userMapper;
+    private List<User> users;
+    private List<AdminUserDTO> userDTOs;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper();
+        Authority admin = new Authority();
+        admin.setName(AuthoritiesConstants.ADMIN);
+        Authority user = new Authority();
+        user.setName(AuthoritiesConstants.USER);
+        Set<Authority> authorities = new HashSet<>();
+        authorities.add(admin);
+        authorities.add(user);
+
+        users = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            User u = new User();
+            u.setId(i);
+            u.setLogin("user" + i);
+            u.setPassword("$2a$10$" + "x".repeat(53));
+            u.setFirstName("First" + i);
+            u.setLastName("Last" + i);
+            u.setEmail("user" + i + "@localhost");
+            u.setActivated(true);
+            u.setLangKey("en");
+            u.setAuthorities(authorities);
+            users.add(u);
+        }
+        userDTOs = userMapper.usersToAdminUserDTOs(users);
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+
+    @Benchmark
+    public List<AdminUserDTO> usersToAdminUserDTOs() {
+        return userMapper.usersToAdminUserDTOs(users);
+    }
+
+    @Benchmark
+    public List<User> userDTOsToUsers() {
+        return userMapper.userDTOsToUsers(userDTOs);
+    }
+}